@@ -6,6 +6,7 @@
  */
 package com.farao_community.farao.gridcapa_swe_commons.configuration;
 
+import com.farao_community.farao.gridcapa_swe_commons.shift.ShiftBalancingMode;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
@@ -20,6 +21,11 @@ public class ProcessConfiguration {
 
     private String zoneId;
     private Integer shiftMaxIterationNumber;
+    private Integer shiftBalancedVariantsNumber;
+    private ShiftBalancingMode shiftBalancingMode = ShiftBalancingMode.FIXED_POINT;
+    private Double shiftDcPreBalancingTolerance;
+    private boolean shiftBalancingCorrectionCarryOver;
+    private boolean shiftJournalRollback;
     private Map<String, String> modelingAuthorityMap;
 
     public String getZoneId() {
@@ -38,6 +44,46 @@ public class ProcessConfiguration {
         this.shiftMaxIterationNumber = shiftMaxIterationNumber;
     }
 
+    public Integer getShiftBalancedVariantsNumber() {
+        return shiftBalancedVariantsNumber;
+    }
+
+    public void setShiftBalancedVariantsNumber(Integer shiftBalancedVariantsNumber) {
+        this.shiftBalancedVariantsNumber = shiftBalancedVariantsNumber;
+    }
+
+    public ShiftBalancingMode getShiftBalancingMode() {
+        return shiftBalancingMode;
+    }
+
+    public void setShiftBalancingMode(ShiftBalancingMode shiftBalancingMode) {
+        this.shiftBalancingMode = shiftBalancingMode;
+    }
+
+    public Double getShiftDcPreBalancingTolerance() {
+        return shiftDcPreBalancingTolerance;
+    }
+
+    public void setShiftDcPreBalancingTolerance(Double shiftDcPreBalancingTolerance) {
+        this.shiftDcPreBalancingTolerance = shiftDcPreBalancingTolerance;
+    }
+
+    public boolean isShiftBalancingCorrectionCarryOver() {
+        return shiftBalancingCorrectionCarryOver;
+    }
+
+    public void setShiftBalancingCorrectionCarryOver(boolean shiftBalancingCorrectionCarryOver) {
+        this.shiftBalancingCorrectionCarryOver = shiftBalancingCorrectionCarryOver;
+    }
+
+    public boolean isShiftJournalRollback() {
+        return shiftJournalRollback;
+    }
+
+    public void setShiftJournalRollback(boolean shiftJournalRollback) {
+        this.shiftJournalRollback = shiftJournalRollback;
+    }
+
     public Map<String, String> getModelingAuthorityMap() {
         return modelingAuthorityMap;
     }
@@ -8,9 +8,6 @@ package com.farao_community.farao.gridcapa_swe_commons.shift;
 
 import com.farao_community.farao.gridcapa_swe_commons.exception.SweBaseCaseUnsecureException;
 import com.farao_community.farao.gridcapa_swe_commons.loadflow.LoadFlowUtil;
-import com.powsybl.balances_adjustment.util.BorderBasedCountryArea;
-import com.powsybl.balances_adjustment.util.CountryAreaFactory;
-import com.powsybl.iidm.network.Country;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.loadflow.LoadFlowParameters;
 import com.powsybl.loadflow.LoadFlowResult;
@@ -19,16 +16,10 @@ import org.slf4j.LoggerFactory;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Stream;
 
 import static com.farao_community.farao.gridcapa_swe_commons.resource.SweEICode.ES_EIC;
 import static com.farao_community.farao.gridcapa_swe_commons.resource.SweEICode.FR_EIC;
 import static com.farao_community.farao.gridcapa_swe_commons.resource.SweEICode.PT_EIC;
-import static com.powsybl.iidm.network.Country.ES;
-import static com.powsybl.iidm.network.Country.FR;
-import static com.powsybl.iidm.network.Country.PT;
-import static java.util.stream.Collectors.toMap;
 
 /**
  * @author Ameni Walha {@literal <ameni.walha at rte-france.com>}
@@ -53,17 +44,12 @@ public final class CountryBalanceComputation {
         return countriesBalances;
     }
 
+    /**
+     * Computes the exchanges with border areas built for this call only. Callers computing the exchanges of the same
+     * network several times should keep a {@link SweBorderAreas} instead.
+     */
     public static Map<String, Double> computeSweBordersExchanges(final Network network) {
-        final Map<String, Double> borderExchanges = new HashMap<>();
-
-        final Function<Country, BorderBasedCountryArea> countryToBbArea =
-            country -> (BorderBasedCountryArea) new CountryAreaFactory(country).create(network);
-
-        final Map<Country, BorderBasedCountryArea> countryAreaPerCountry = Stream.of(FR, ES, PT)
-            .collect(toMap(Function.identity(), countryToBbArea));
-        borderExchanges.put("ES_FR", getBorderExchange(ES, FR, countryAreaPerCountry));
-        borderExchanges.put("ES_PT", getBorderExchange(ES, PT, countryAreaPerCountry));
-        return borderExchanges;
+        return new SweBorderAreas(network).computeSweBordersExchanges();
     }
 
     private static void runLoadFlow(final Network network,
@@ -76,10 +62,4 @@ public final class CountryBalanceComputation {
             throw new SweBaseCaseUnsecureException(String.format("Loadflow computation diverged on network %s", network.getId()));
         }
     }
-
-    private static double getBorderExchange(final Country from,
-                                            final Country to,
-                                            final Map<Country, BorderBasedCountryArea> countryAreaByCountry) {
-        return countryAreaByCountry.get(from).getLeavingFlowToCountry(countryAreaByCountry.get(to));
-    }
 }
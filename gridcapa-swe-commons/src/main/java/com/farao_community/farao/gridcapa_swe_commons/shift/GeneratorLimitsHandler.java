@@ -11,13 +11,11 @@ import com.powsybl.iidm.modification.scalable.Scalable;
 import com.powsybl.iidm.network.Country;
 import com.powsybl.iidm.network.Generator;
 import com.powsybl.iidm.network.Network;
-import com.powsybl.openrao.commons.EICode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -30,33 +28,27 @@ import java.util.Set;
  */
 public class GeneratorLimitsHandler {
     private static final Logger LOGGER = LoggerFactory.getLogger(GeneratorLimitsHandler.class);
-    private final ZonalData<Scalable> zonalScalableData;
+    private final ScalableGeneratorIndex scalableGeneratorIndex;
     private static final double DEFAULT_PMAX = 9999.0;
     private static final double DEFAULT_PMIN = -9999.0;
     private Map<String, InitGeneratorLimits> initGenerators;
 
     public GeneratorLimitsHandler(ZonalData<Scalable> zonalScalableData) {
-        this.zonalScalableData = zonalScalableData;
+        this(new ScalableGeneratorIndex(zonalScalableData));
+    }
+
+    public GeneratorLimitsHandler(ScalableGeneratorIndex scalableGeneratorIndex) {
+        this.scalableGeneratorIndex = scalableGeneratorIndex;
     }
 
     public void setPminPmaxToDefaultValue(Network network, Set<Country> countries) {
         initGenerators = new HashMap<>();
         countries.forEach(
-                country -> {
-                    final String areaCode = new EICode(country).getAreaCode();
-                    if (zonalScalableData.getData(areaCode) != null) {
-                        zonalScalableData.getData(areaCode).filterInjections(network)
-                                .stream()
-                                .filter(Generator.class::isInstance)
-                                .map(Generator.class::cast)
-                                .filter(gen -> gen.getTerminal().getVoltageLevel().getSubstation().isPresent()
-                                               && gen.getTerminal().getVoltageLevel().getSubstation().get().getCountry().equals(Optional.of(country)))
-                                .forEach(generator -> {
-                                    saveInitLimits(generator);
-                                    setLimitsToDefault(generator);
-                                });
-                    }
-                });
+                country -> scalableGeneratorIndex.getScalableGenerators(network, country)
+                        .forEach(generator -> {
+                            saveInitLimits(generator);
+                            setLimitsToDefault(generator);
+                        }));
         LOGGER.info("Pmax and Pmin are set to default values for network {}", network.getNameOrId());
     }
 
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa_swe_commons.shift;
+
+import com.powsybl.glsk.api.GlskDocument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Thread-safe cache of parsed GLSK documents, keyed by URL and bounded in number of documents.
+ * <p>
+ * A document requested by several threads at the same time is parsed only once: the other threads wait for
+ * the result of the first one. Parsing failures are not cached. Parsed documents are only read afterwards,
+ * so building zonal data from a cached document does not require any lock.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class GlskDocumentCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GlskDocumentCache.class);
+
+    private final Map<String, CompletableFuture<GlskDocument>> documents;
+
+    public GlskDocumentCache(int maxEntries) {
+        this.documents = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CompletableFuture<GlskDocument>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public GlskDocument get(String glskUrl, Function<String, GlskDocument> loader) {
+        final CompletableFuture<GlskDocument> document;
+        final boolean loadDocument;
+        synchronized (documents) {
+            final CompletableFuture<GlskDocument> cachedDocument = documents.get(glskUrl);
+            loadDocument = cachedDocument == null;
+            document = loadDocument ? new CompletableFuture<>() : cachedDocument;
+            if (loadDocument) {
+                documents.put(glskUrl, document);
+            }
+        }
+        if (loadDocument) {
+            load(glskUrl, loader, document);
+        } else {
+            LOGGER.debug("Glsk file {} read from cache", glskUrl);
+        }
+        try {
+            return document.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private void load(String glskUrl, Function<String, GlskDocument> loader, CompletableFuture<GlskDocument> document) {
+        try {
+            document.complete(loader.apply(glskUrl));
+        } catch (RuntimeException e) {
+            synchronized (documents) {
+                documents.remove(glskUrl, document);
+            }
+            document.completeExceptionally(e);
+        }
+    }
+
+    public int size() {
+        synchronized (documents) {
+            return documents.size();
+        }
+    }
+}
@@ -16,15 +16,15 @@ import com.powsybl.iidm.network.Generator;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.Terminal;
 import com.powsybl.iidm.network.TwoWindingsTransformer;
-import com.powsybl.openrao.commons.EICode;
 import org.jgrapht.alg.util.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -39,10 +39,15 @@ import java.util.stream.Collectors;
 public class ScalableGeneratorConnector {
     private static final Logger LOGGER = LoggerFactory.getLogger(ScalableGeneratorConnector.class);
     private Map<String, GeneratorState> changedGeneratorsInitialState;
-    private final ZonalData<Scalable> zonalScalable;
+    private final ScalableGeneratorIndex scalableGeneratorIndex;
+    private long topologyNanos;
 
     public ScalableGeneratorConnector(ZonalData<Scalable> zonalScalable) {
-        this.zonalScalable = zonalScalable;
+        this(new ScalableGeneratorIndex(zonalScalable));
+    }
+
+    public ScalableGeneratorConnector(ScalableGeneratorIndex scalableGeneratorIndex) {
+        this.scalableGeneratorIndex = scalableGeneratorIndex;
     }
 
     /**
@@ -50,6 +55,7 @@ public class ScalableGeneratorConnector {
      * revert modifications after scaling, for generators that still disconnected to main network
      */
     public void fillGeneratorsInitialState(Network network, Set<Country> countriesToProcess) throws ShiftingException {
+        final long start = System.nanoTime();
         changedGeneratorsInitialState = new HashMap<>();
         for (Country country : countriesToProcess) {
             Set<Generator> generators = getGeneratorsNotMainConnected(network, country);
@@ -58,6 +64,14 @@ public class ScalableGeneratorConnector {
                 changedGeneratorsInitialState.put(generator.getId(), generatorState);
             }
         }
+        topologyNanos += System.nanoTime() - start;
+    }
+
+    /**
+     * Time spent by this connector evaluating and changing the connectivity of the generators, in nanoseconds.
+     */
+    public long getTopologyNanos() {
+        return topologyNanos;
     }
 
     /**
@@ -66,18 +80,10 @@ public class ScalableGeneratorConnector {
      */
     private Set<Generator> getGeneratorsNotMainConnected(Network network,
                                                          Country country) {
-        final String areaCode = new EICode(country).getAreaCode();
-        if (zonalScalable.getData(areaCode) != null) {
-            return zonalScalable.getData(areaCode).filterInjections(network)
-                    .stream()
-                    .filter(Generator.class::isInstance)
-                    .map(Generator.class::cast)
-                    .filter(gen -> gen.getTerminal().getVoltageLevel().getSubstation().isPresent()
-                                   && gen.getTerminal().getVoltageLevel().getSubstation().get().getCountry().equals(Optional.of(country))
-                                   && !getBus(gen.getTerminal()).isInMainConnectedComponent()).collect(Collectors.toSet());
-        } else {
-            return Set.of();
-        }
+        return scalableGeneratorIndex.getScalableGenerators(network, country)
+                .stream()
+                .filter(gen -> !getBus(gen.getTerminal()).isInMainConnectedComponent())
+                .collect(Collectors.toSet());
     }
 
     private static Bus getBus(Terminal terminal) {
@@ -88,37 +94,39 @@ public class ScalableGeneratorConnector {
      * For countriesToProcess, get the generators used during shift but are not connected to the main network
      * For these generators, try to connect them to the network by connecting the associated transformers
      * If Generator still disconnected from main component, revert to the initial TargetP and connexion for transformers
+     * <p>
+     * Each topology change invalidates the connected components of the network, so all the transformers are connected
+     * first, and the generators still islanded are only evaluated then, with components computed once.
      */
     public void connectGeneratorsTransformers(Network network, Set<Country> countriesToProcess) {
-        for (Country c : countriesToProcess) {
-            Set<Generator> generators = getShiftedGeneratorsDisconnectedFromMainComponent(network, c);
-            generators.forEach(generator -> connectTransformersOfGenerator(generator, network));
-        }
+        final long start = System.nanoTime();
+        final Set<Generator> generators = new LinkedHashSet<>();
+        countriesToProcess.forEach(country -> generators.addAll(getShiftedGeneratorsDisconnectedFromMainComponent(network, country)));
+        generators.forEach(this::connectTransformersOfGenerator);
+        // Generators not connected to the main island, even after connecting them and their TWT
+        // Reset them to their initial state before scaling
+        final List<Generator> islandedGenerators = generators.stream()
+                .filter(generator -> !getBus(generator.getTerminal()).isInMainConnectedComponent())
+                .toList();
+        islandedGenerators.forEach(generator -> {
+            LOGGER.info("Generator {} still disconnected to the main network, reset to initial state", generator.getId());
+            GeneratorState initialState = changedGeneratorsInitialState.get(generator.getId());
+            if (initialState != null) {
+                initialState.apply(network);
+            }
+        });
+        topologyNanos += System.nanoTime() - start;
     }
 
     /**
-     * Checks if generator is connected to the network with transformers and connecting them.
+     * Connects the transformers linked to the generator bus.
      * (If no transformer exist, nothing is modified)
-     * If Generator still disconnected from main component, revert to the initial state
      */
-    private void connectTransformersOfGenerator(Generator generator, Network network) {
-        Bus genBus = getBus(generator.getTerminal());
-        Set<TwoWindingsTransformer> transformers = generator.getTerminal().getVoltageLevel().getTwoWindingsTransformerStream()
-                .filter(twt -> genBus.equals(getBus(twt.getTerminal1())) || genBus.equals(getBus(twt.getTerminal2())))
-                .collect(Collectors.toSet());
-        transformers.forEach(twt -> {
+    private void connectTransformersOfGenerator(Generator generator) {
+        scalableGeneratorIndex.getTransformersOfGenerator(generator).forEach(twt -> {
             LOGGER.info("Connecting twoWindingsTransformer {} linked to generator {}", twt.getId(), generator.getId());
             twt.getTerminals().forEach(Terminal::connect);
         });
-        // Generator is not connected to the main island, even after connecting it and its TWT
-        // Reset it to it's initial state before scaling
-        if (!genBus.isInMainConnectedComponent()) {
-            LOGGER.info("Generator {} still disconnected to the main network, reset to initial state", generator.getId());
-            GeneratorState initialState = changedGeneratorsInitialState.get(generator.getId());
-            if (initialState != null) {
-                initialState.apply(network);
-            }
-        }
     }
 
     private Set<Generator> getShiftedGeneratorsDisconnectedFromMainComponent(Network network, Country country) {
@@ -153,11 +161,8 @@ public class ScalableGeneratorConnector {
             this.targetP = generator.getTargetP();
             this.isTerminalConnected = generator.getTerminal().isConnected();
             this.twoWindingsTransformerConnection = new HashMap<>();
-            generator.getTerminal().getVoltageLevel().getTwoWindingsTransformers().forEach(twt -> {
-                if (genBus.equals(getBus(twt.getTerminal1())) || genBus.equals(getBus(twt.getTerminal2()))) {
-                    twoWindingsTransformerConnection.put(twt.getId(), Pair.of(twt.getTerminal1().isConnected(), twt.getTerminal2().isConnected()));
-                }
-            });
+            scalableGeneratorIndex.getTransformersOfGenerator(generator).forEach(twt ->
+                twoWindingsTransformerConnection.put(twt.getId(), Pair.of(twt.getTerminal1().isConnected(), twt.getTerminal2().isConnected())));
         }
 
         void apply(Network network) {
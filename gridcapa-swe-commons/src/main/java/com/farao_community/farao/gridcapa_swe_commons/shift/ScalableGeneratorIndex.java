@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa_swe_commons.shift;
+
+import com.powsybl.glsk.commons.ZonalData;
+import com.powsybl.iidm.modification.scalable.Scalable;
+import com.powsybl.iidm.network.Bus;
+import com.powsybl.iidm.network.Country;
+import com.powsybl.iidm.network.Generator;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.Substation;
+import com.powsybl.iidm.network.TwoWindingsTransformer;
+import com.powsybl.openrao.commons.EICode;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Index of the scalable generators of each country, and of the transformers of their voltage levels, built once for a
+ * network and reused by all the shifts and balancing iterations done on it.
+ * <p>
+ * Only the network structure is indexed, which is the same for all variants. Connection states, and therefore the
+ * transformers actually linked to a generator bus, depend on the variant and are still evaluated on each call.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class ScalableGeneratorIndex {
+    private final ZonalData<Scalable> zonalScalable;
+    private Network network;
+    private final Map<Country, List<Generator>> generatorsByCountry = new EnumMap<>(Country.class);
+    private final Map<String, List<TwoWindingsTransformer>> transformersByGenerator = new HashMap<>();
+
+    public ScalableGeneratorIndex(ZonalData<Scalable> zonalScalable) {
+        this.zonalScalable = zonalScalable;
+    }
+
+    /**
+     * Generators of the country scalable which are located in this country.
+     */
+    public synchronized List<Generator> getScalableGenerators(Network network, Country country) {
+        bindTo(network);
+        return generatorsByCountry.computeIfAbsent(country, this::findScalableGenerators);
+    }
+
+    /**
+     * Transformers of the generator voltage level connected to the generator bus in the current variant.
+     */
+    public List<TwoWindingsTransformer> getTransformersOfGenerator(Generator generator) {
+        final Bus generatorBus = getBus(generator);
+        final List<TwoWindingsTransformer> voltageLevelTransformers;
+        synchronized (this) {
+            bindTo(generator.getNetwork());
+            voltageLevelTransformers = transformersByGenerator.computeIfAbsent(generator.getId(),
+                id -> generator.getTerminal().getVoltageLevel().getTwoWindingsTransformerStream().toList());
+        }
+        return voltageLevelTransformers.stream()
+            .filter(twt -> generatorBus.equals(twt.getTerminal1().getBusBreakerView().getConnectableBus())
+                || generatorBus.equals(twt.getTerminal2().getBusBreakerView().getConnectableBus()))
+            .toList();
+    }
+
+    private void bindTo(Network network) {
+        if (this.network != network) {
+            this.network = network;
+            generatorsByCountry.clear();
+            transformersByGenerator.clear();
+        }
+    }
+
+    private List<Generator> findScalableGenerators(Country country) {
+        final Scalable scalable = zonalScalable.getData(new EICode(country).getAreaCode());
+        if (scalable == null) {
+            return List.of();
+        }
+        return scalable.filterInjections(network).stream()
+            .filter(Generator.class::isInstance)
+            .map(Generator.class::cast)
+            .filter(generator -> generator.getTerminal().getVoltageLevel().getSubstation()
+                .flatMap(Substation::getCountry)
+                .equals(Optional.of(country)))
+            .toList();
+    }
+
+    private static Bus getBus(Generator generator) {
+        return generator.getTerminal().getBusBreakerView().getConnectableBus();
+    }
+}
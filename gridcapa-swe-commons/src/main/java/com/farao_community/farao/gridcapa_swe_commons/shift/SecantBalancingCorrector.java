@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa_swe_commons.shift;
+
+/**
+ * Computes the balancing corrections of the shift with Broyden's secant method.
+ * <p>
+ * The unknowns are the ES-PT and ES-FR corrections given to {@link SweNetworkShifter#updateScalingValuesWithMismatch},
+ * and the residuals the ES-PT and ES-FR exchanges mismatches. The jacobian of the mismatches starts as minus identity,
+ * which gives the fixed point correction on the first iteration, and is updated with the mismatches observed after
+ * each correction. It is reset to minus identity when it becomes singular or gives a correction far larger than
+ * the mismatch, so that the method is never worse than the fixed point one on badly estimated sensitivities.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class SecantBalancingCorrector {
+    private static final double MIN_DETERMINANT = 1e-2;
+    private static final double MIN_CORRECTION_NORM = 1e-6;
+    private static final double MAX_CORRECTION_FACTOR = 4;
+
+    private double[][] jacobian = minusIdentity();
+    private double[] previousMismatch;
+    private double[] previousCorrection;
+
+    public record Correction(double esPt, double esFr) {
+    }
+
+    public Correction nextCorrection(final double mismatchEsPt, final double mismatchEsFr) {
+        final double[] mismatch = {mismatchEsPt, mismatchEsFr};
+        if (previousCorrection != null) {
+            updateJacobian(mismatch);
+        }
+        double[] correction = solveNewtonStep(mismatch);
+        if (correction.length == 0 || norm(correction) > MAX_CORRECTION_FACTOR * norm(mismatch)) {
+            jacobian = minusIdentity();
+            correction = mismatch.clone();
+        }
+        previousMismatch = mismatch;
+        previousCorrection = correction;
+        return new Correction(correction[0], correction[1]);
+    }
+
+    /**
+     * Broyden update: J += (dm - J.dx) dx^T / (dx^T dx)
+     */
+    private void updateJacobian(final double[] mismatch) {
+        final double correctionNorm2 = previousCorrection[0] * previousCorrection[0] + previousCorrection[1] * previousCorrection[1];
+        if (correctionNorm2 < MIN_CORRECTION_NORM) {
+            return;
+        }
+        for (int i = 0; i < 2; i++) {
+            final double residual = mismatch[i] - previousMismatch[i]
+                - (jacobian[i][0] * previousCorrection[0] + jacobian[i][1] * previousCorrection[1]);
+            for (int j = 0; j < 2; j++) {
+                jacobian[i][j] += residual * previousCorrection[j] / correctionNorm2;
+            }
+        }
+    }
+
+    /**
+     * Solves J.dx = -m, or returns an empty array when the jacobian is close to singular.
+     */
+    private double[] solveNewtonStep(final double[] mismatch) {
+        final double determinant = jacobian[0][0] * jacobian[1][1] - jacobian[0][1] * jacobian[1][0];
+        if (Math.abs(determinant) < MIN_DETERMINANT) {
+            return new double[0];
+        }
+        return new double[] {
+            -(jacobian[1][1] * mismatch[0] - jacobian[0][1] * mismatch[1]) / determinant,
+            -(-jacobian[1][0] * mismatch[0] + jacobian[0][0] * mismatch[1]) / determinant
+        };
+    }
+
+    private static double norm(final double[] vector) {
+        return Math.hypot(vector[0], vector[1]);
+    }
+
+    private static double[][] minusIdentity() {
+        return new double[][] {{-1, 0}, {0, -1}};
+    }
+}
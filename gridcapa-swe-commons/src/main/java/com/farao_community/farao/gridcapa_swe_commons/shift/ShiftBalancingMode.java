@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa_swe_commons.shift;
+
+/**
+ * Correction applied to the scaling values between two balancing iterations of the shift.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public enum ShiftBalancingMode {
+    /**
+     * The exchanges mismatch is added to the scaling values, as if exchanges followed the scaling one for one.
+     */
+    FIXED_POINT,
+    /**
+     * The sensitivity of the exchanges to the scaling values is estimated from the previous iterations,
+     * and a Newton correction is applied with it.
+     */
+    SECANT
+}
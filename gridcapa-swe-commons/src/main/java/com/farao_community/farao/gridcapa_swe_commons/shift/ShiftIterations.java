@@ -0,0 +1,16 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa_swe_commons.shift;
+
+/**
+ * Balancing iterations run by {@link SweNetworkShifter} to shift the network to a dichotomy step: DC pre-balancing
+ * iterations, zero when this phase is disabled, and AC balancing iterations, each one running a load flow.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public record ShiftIterations(double stepValue, int dcIterations, int acIterations) {
+}
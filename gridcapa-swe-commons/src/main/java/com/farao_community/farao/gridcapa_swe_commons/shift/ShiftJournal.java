@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa_swe_commons.shift;
+
+import com.powsybl.glsk.commons.ZonalData;
+import com.powsybl.iidm.modification.scalable.Scalable;
+import com.powsybl.iidm.network.Battery;
+import com.powsybl.iidm.network.DanglingLine;
+import com.powsybl.iidm.network.Generator;
+import com.powsybl.iidm.network.Injection;
+import com.powsybl.iidm.network.Load;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.PhaseTapChanger;
+import com.powsybl.iidm.network.RatioTapChanger;
+import com.powsybl.iidm.network.ShuntCompensator;
+import com.powsybl.iidm.network.Switch;
+import com.powsybl.iidm.network.Terminal;
+import com.powsybl.iidm.network.ThreeWindingsTransformer;
+import com.powsybl.iidm.network.TopologyKind;
+import com.powsybl.iidm.network.TwoWindingsTransformer;
+import com.powsybl.iidm.network.VoltageLevel;
+import com.powsybl.loadflow.LoadFlowParameters;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Journal of the working variant state that a balancing iteration of the shift can modify, used to reset the
+ * working variant between iterations without cloning the whole variant.
+ * <p>
+ * It records the set points and connection of the scalable injections, including the voltage regulation of
+ * generators, the connection of the transformers that {@link ScalableGeneratorConnector} may connect, the switches of
+ * the node breaker voltage levels holding them, and the tap positions and shunt sections that the load flow may write
+ * back. Load flow state variables (voltages, flows)
+ * are not recorded, as they are computed again by the next load flow. The journal is replayed backwards on rollback.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class ShiftJournal {
+    private final Deque<Runnable> undoActions = new ArrayDeque<>();
+    private boolean complete = true;
+
+    private ShiftJournal() {
+    }
+
+    public static ShiftJournal record(final Network network,
+                                      final ZonalData<Scalable> zonalScalable,
+                                      final LoadFlowParameters loadFlowParameters) {
+        final ShiftJournal shiftJournal = new ShiftJournal();
+        final Set<VoltageLevel> voltageLevels = new LinkedHashSet<>();
+        zonalScalable.getDataPerZone().values().forEach(scalable -> scalable.filterInjections(network).forEach(injection -> {
+            shiftJournal.recordInjection(injection);
+            voltageLevels.add(injection.getTerminal().getVoltageLevel());
+        }));
+        // Transformers of the voltage levels of scalable generators may be connected by ScalableGeneratorConnector
+        Set.copyOf(voltageLevels).forEach(voltageLevel -> voltageLevel.getTwoWindingsTransformerStream()
+            .forEach(twt -> twt.getTerminals().forEach(terminal -> {
+                voltageLevels.add(terminal.getVoltageLevel());
+                shiftJournal.recordConnection(terminal);
+            })));
+        voltageLevels.forEach(shiftJournal::recordSwitches);
+        if (loadFlowParameters != null) {
+            shiftJournal.recordLoadFlowControls(network, loadFlowParameters);
+        }
+        return shiftJournal;
+    }
+
+    /**
+     * False when a scalable injection type is not handled, in which case the journal cannot restore the working variant.
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public void rollback() {
+        final Iterator<Runnable> iterator = undoActions.descendingIterator();
+        while (iterator.hasNext()) {
+            iterator.next().run();
+        }
+    }
+
+    private void recordInjection(final Injection<?> injection) {
+        switch (injection) {
+            case Generator generator -> {
+                final double targetP = generator.getTargetP();
+                final double targetQ = generator.getTargetQ();
+                // Voltage set point is rewritten when the scaling reconnects the generator
+                final double targetV = generator.getTargetV();
+                final boolean voltageRegulatorOn = generator.isVoltageRegulatorOn();
+                undoActions.add(() -> {
+                    generator.setTargetP(targetP).setTargetQ(targetQ);
+                    // Voltage regulation is only switched on once its set point is valid, and switched off before
+                    if (voltageRegulatorOn) {
+                        generator.setTargetV(targetV).setVoltageRegulatorOn(true);
+                    } else {
+                        generator.setVoltageRegulatorOn(false).setTargetV(targetV);
+                    }
+                });
+            }
+            case Load load -> {
+                final double p0 = load.getP0();
+                final double q0 = load.getQ0();
+                undoActions.add(() -> load.setP0(p0).setQ0(q0));
+            }
+            case DanglingLine danglingLine -> {
+                final double p0 = danglingLine.getP0();
+                final double q0 = danglingLine.getQ0();
+                undoActions.add(() -> danglingLine.setP0(p0).setQ0(q0));
+            }
+            case Battery battery -> {
+                final double targetP = battery.getTargetP();
+                final double targetQ = battery.getTargetQ();
+                undoActions.add(() -> battery.setTargetP(targetP).setTargetQ(targetQ));
+            }
+            default -> complete = false;
+        }
+        recordConnection(injection.getTerminal());
+    }
+
+    /**
+     * Connections of node breaker terminals are restored with the switches of their voltage level.
+     */
+    private void recordConnection(final Terminal terminal) {
+        if (terminal.getVoltageLevel().getTopologyKind() != TopologyKind.BUS_BREAKER) {
+            return;
+        }
+        final boolean connected = terminal.isConnected();
+        undoActions.add(() -> {
+            if (connected && !terminal.isConnected()) {
+                terminal.connect();
+            } else if (!connected && terminal.isConnected()) {
+                terminal.disconnect();
+            }
+        });
+    }
+
+    private void recordSwitches(final VoltageLevel voltageLevel) {
+        if (voltageLevel.getTopologyKind() != TopologyKind.NODE_BREAKER) {
+            return;
+        }
+        voltageLevel.getSwitches().forEach(this::recordSwitch);
+    }
+
+    private void recordSwitch(final Switch aSwitch) {
+        final boolean open = aSwitch.isOpen();
+        undoActions.add(() -> aSwitch.setOpen(open));
+    }
+
+    private void recordLoadFlowControls(final Network network, final LoadFlowParameters loadFlowParameters) {
+        if (loadFlowParameters.isTransformerVoltageControlOn()) {
+            network.getTwoWindingsTransformerStream().map(TwoWindingsTransformer::getRatioTapChanger).forEach(this::recordTapPosition);
+            network.getThreeWindingsTransformerStream().flatMap(twt -> twt.getLegs().stream())
+                .map(ThreeWindingsTransformer.Leg::getRatioTapChanger).forEach(this::recordTapPosition);
+        }
+        if (loadFlowParameters.isPhaseShifterRegulationOn()) {
+            network.getTwoWindingsTransformerStream().map(TwoWindingsTransformer::getPhaseTapChanger).forEach(this::recordTapPosition);
+            network.getThreeWindingsTransformerStream().flatMap(twt -> twt.getLegs().stream())
+                .map(ThreeWindingsTransformer.Leg::getPhaseTapChanger).forEach(this::recordTapPosition);
+        }
+        if (loadFlowParameters.isShuntCompensatorVoltageControlOn()) {
+            network.getShuntCompensatorStream().forEach(this::recordSectionCount);
+        }
+    }
+
+    private void recordTapPosition(final RatioTapChanger ratioTapChanger) {
+        if (ratioTapChanger != null) {
+            final int tapPosition = ratioTapChanger.getTapPosition();
+            undoActions.add(() -> ratioTapChanger.setTapPosition(tapPosition));
+        }
+    }
+
+    private void recordTapPosition(final PhaseTapChanger phaseTapChanger) {
+        if (phaseTapChanger != null) {
+            final int tapPosition = phaseTapChanger.getTapPosition();
+            undoActions.add(() -> phaseTapChanger.setTapPosition(tapPosition));
+        }
+    }
+
+    private void recordSectionCount(final ShuntCompensator shuntCompensator) {
+        final int sectionCount = shuntCompensator.getSectionCount();
+        undoActions.add(() -> shuntCompensator.setSectionCount(sectionCount));
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa_swe_commons.shift;
+
+import com.powsybl.balances_adjustment.util.BorderBasedCountryArea;
+import com.powsybl.balances_adjustment.util.CountryAreaFactory;
+import com.powsybl.iidm.network.Country;
+import com.powsybl.iidm.network.Network;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static com.powsybl.iidm.network.Country.ES;
+import static com.powsybl.iidm.network.Country.FR;
+import static com.powsybl.iidm.network.Country.PT;
+
+/**
+ * Border areas of the SWE countries of a network, from which the ES-FR and ES-PT exchanges are computed.
+ * <p>
+ * Building a {@link BorderBasedCountryArea} walks the whole network to find its border branches, boundary lines and
+ * HVDC lines, which only depend on the network structure. Flows are read from the terminals of these elements on each
+ * computation, so the same areas give the exchanges of any variant, and can be kept as long as the network is used.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class SweBorderAreas {
+    private final Network network;
+    private final Map<Country, BorderBasedCountryArea> countryAreaPerCountry = new EnumMap<>(Country.class);
+
+    public SweBorderAreas(final Network network) {
+        this.network = network;
+        Stream.of(FR, ES, PT).forEach(country -> countryAreaPerCountry.put(country, (BorderBasedCountryArea) new CountryAreaFactory(country).create(network)));
+    }
+
+    public boolean isFor(final Network network) {
+        return this.network == network;
+    }
+
+    public Map<String, Double> computeSweBordersExchanges() {
+        final Map<String, Double> borderExchanges = new HashMap<>();
+        borderExchanges.put("ES_FR", getBorderExchange(ES, FR));
+        borderExchanges.put("ES_PT", getBorderExchange(ES, PT));
+        return borderExchanges;
+    }
+
+    private double getBorderExchange(final Country from, final Country to) {
+        return countryAreaPerCountry.get(from).getLeavingFlowToCountry(countryAreaPerCountry.get(to));
+    }
+}
@@ -13,6 +13,7 @@ import com.farao_community.farao.dichotomy.shift.ShiftDispatcher;
 import com.farao_community.farao.gridcapa_swe_commons.configuration.ProcessConfiguration;
 import com.farao_community.farao.gridcapa_swe_commons.dichotomy.DichotomyDirection;
 import com.farao_community.farao.gridcapa_swe_commons.resource.ProcessType;
+import com.powsybl.commons.PowsyblException;
 import com.powsybl.glsk.commons.ZonalData;
 import com.powsybl.iidm.modification.scalable.Scalable;
 import com.powsybl.iidm.modification.scalable.ScalingParameters;
@@ -20,14 +21,20 @@ import com.powsybl.iidm.network.Country;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.VariantManager;
 import com.powsybl.loadflow.LoadFlowParameters;
+import com.powsybl.loadflow.LoadFlowParameters.VoltageInitMode;
 import com.powsybl.loadflow.LoadFlowResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
 
 import static com.farao_community.farao.dichotomy.api.results.ReasonInvalid.BALANCE_LOADFLOW_DIVERGENCE;
 import static com.farao_community.farao.gridcapa_swe_commons.loadflow.LoadFlowUtil.runLoadFlowWithMdc;
@@ -35,10 +42,16 @@ import static com.farao_community.farao.gridcapa_swe_commons.resource.ProcessTyp
 import static com.farao_community.farao.gridcapa_swe_commons.resource.SweEICode.ES_EIC;
 import static com.farao_community.farao.gridcapa_swe_commons.resource.SweEICode.FR_EIC;
 import static com.farao_community.farao.gridcapa_swe_commons.resource.SweEICode.PT_EIC;
-import static com.farao_community.farao.gridcapa_swe_commons.shift.CountryBalanceComputation.computeSweBordersExchanges;
 import static com.powsybl.iidm.modification.scalable.ScalingParameters.Priority.RESPECT_OF_VOLUME_ASKED;
 
 /**
+ * Shifts the network to the exchanges of a dichotomy step, then balances the SWE exchanges with successive loadflows.
+ * <p>
+ * The balanced variants of the last steps are kept, so that a new step can be shifted from the closest of them by
+ * scaling only the remaining delta, with its voltages as loadflow starting point. A balanced variant is only reused
+ * when every country keeps scaling in the same direction from it, so that the resulting dispatch of merit order
+ * GLSK is the same as when shifting from the initial state.
+ *
  * @author Ameni Walha {@literal <ameni.walha at rte-france.com>}
  */
 public class SweNetworkShifter implements NetworkShifter {
@@ -47,6 +60,7 @@ public class SweNetworkShifter implements NetworkShifter {
     public static final String ES_PT = "ES_PT";
     public static final String ES_FR = "ES_FR";
     private static final Set<Country> PRE_PROCESSING_COUNTRIES = Set.of(Country.ES, Country.PT);
+    private static final String BALANCED_VARIANT_FORMAT = "%s BALANCED %s";
     private final Logger businessLogger;
 
     private final ProcessType processType;
@@ -60,6 +74,27 @@ public class SweNetworkShifter implements NetworkShifter {
     private final LoadFlowParameters loadFlowParameters;
     private final NetworkExporter networkExporter;
     private final boolean runGlskChecksBeforeLoadFlow;
+    private final LoadFlowParameters warmStartLoadFlowParameters;
+    private final LoadFlowParameters dcLoadFlowParameters;
+    private final ScalableGeneratorIndex scalableGeneratorIndex;
+    private final Consumer<ShiftIterations> shiftIterationsListener;
+    private SweBorderAreas sweBorderAreas;
+    /**
+     * Balanced variants of the previous steps, by step value. All accesses are synchronized on the map itself.
+     */
+    private final NavigableMap<Double, BalancedState> balancedStates = new TreeMap<>();
+    private Network balancedStatesNetwork;
+    /**
+     * Balancing corrections (balanced minus dispatched scaling values) of the previous steps, by step value.
+     * All accesses are synchronized on the map itself.
+     */
+    private final NavigableMap<Double, Map<String, Double>> balancingCorrections = new TreeMap<>();
+
+    /**
+     * Balanced variant of a step, with the scaling values given by the dispatcher and the ones which balanced the exchanges.
+     */
+    private record BalancedState(String variantId, Map<String, Double> dispatchedScalingValues, Map<String, Double> balancedScalingValues) {
+    }
 
     public SweNetworkShifter(final Logger businessLogger,
                              final ProcessType processType,
@@ -73,6 +108,26 @@ public class SweNetworkShifter implements NetworkShifter {
                              final LoadFlowParameters loadFlowParameters,
                              final NetworkExporter networkExporter,
                              final boolean runGlskChecksBeforeLoadFlow) { // NOSONAR
+        this(businessLogger, processType, direction, zonalScalable, shiftDispatcher, toleranceEsPt, toleranceEsFr, initialNetPositions,
+             processConfiguration, loadFlowParameters, networkExporter, runGlskChecksBeforeLoadFlow, shiftIterations -> { });
+    }
+
+    /**
+     * @param shiftIterationsListener notified of the balancing iterations of each successfully shifted step
+     */
+    public SweNetworkShifter(final Logger businessLogger,
+                             final ProcessType processType,
+                             final DichotomyDirection direction,
+                             final ZonalData<Scalable> zonalScalable,
+                             final ShiftDispatcher shiftDispatcher,
+                             final double toleranceEsPt,
+                             final double toleranceEsFr,
+                             final Map<String, Double> initialNetPositions,
+                             final ProcessConfiguration processConfiguration,
+                             final LoadFlowParameters loadFlowParameters,
+                             final NetworkExporter networkExporter,
+                             final boolean runGlskChecksBeforeLoadFlow,
+                             final Consumer<ShiftIterations> shiftIterationsListener) { // NOSONAR
         this.businessLogger = businessLogger;
         this.processType = processType;
         this.direction = direction;
@@ -85,15 +140,20 @@ public class SweNetworkShifter implements NetworkShifter {
         this.loadFlowParameters = loadFlowParameters;
         this.networkExporter = networkExporter;
         this.runGlskChecksBeforeLoadFlow = runGlskChecksBeforeLoadFlow;
+        this.warmStartLoadFlowParameters = loadFlowParameters == null ? null : loadFlowParameters.copy().setVoltageInitMode(VoltageInitMode.PREVIOUS_VALUES);
+        this.dcLoadFlowParameters = loadFlowParameters == null ? null : loadFlowParameters.copy().setDc(true);
+        this.scalableGeneratorIndex = new ScalableGeneratorIndex(zonalScalable);
+        this.shiftIterationsListener = shiftIterationsListener;
     }
 
     @Override
     public void shiftNetwork(final double stepValue, final Network network) throws GlskLimitationException, ShiftingException {
         final VariantManager variantManager = network.getVariantManager();
         businessLogger.info("Starting shift on network {}", variantManager.getWorkingVariantId());
-        final Map<String, Double> scalingValuesByCountry = shiftDispatcher.dispatch(stepValue);
-        final ScalableGeneratorConnector scalableGeneratorConnector = new ScalableGeneratorConnector(zonalScalable);
-        final GeneratorLimitsHandler generatorLimitsHandler = new GeneratorLimitsHandler(zonalScalable);
+        final Map<String, Double> dispatchedScalingValues = shiftDispatcher.dispatch(stepValue);
+        final Map<String, Double> scalingValuesByCountry = new HashMap<>(dispatchedScalingValues);
+        final ScalableGeneratorConnector scalableGeneratorConnector = new ScalableGeneratorConnector(scalableGeneratorIndex);
+        final GeneratorLimitsHandler generatorLimitsHandler = new GeneratorLimitsHandler(scalableGeneratorIndex);
 
         try {
             final String targetCountriesShiftMessage = String.format(
@@ -108,12 +168,29 @@ public class SweNetworkShifter implements NetworkShifter {
             final String initialVariantId = variantManager.getWorkingVariantId();
             final String processedVariantId = initialVariantId + " PROCESSED COPY";
             final String workingVariantCopyId = initialVariantId + " WORKING COPY";
-            preProcessNetwork(
-                network, scalableGeneratorConnector, generatorLimitsHandler, initialVariantId, processedVariantId, workingVariantCopyId
+            final Optional<BalancedState> startingState = findStartingState(network, dispatchedScalingValues);
+            startingState.ifPresent(state -> {
+                businessLogger.info("Shift starts from the balanced variant {}", state.variantId());
+                // Only the delta from the starting state is scaled, keeping the balancing correction found for it
+                dispatchedScalingValues.forEach((zoneId, dispatched) -> scalingValuesByCountry.put(
+                    zoneId, dispatched - state.dispatchedScalingValues().getOrDefault(zoneId, 0.)));
+            });
+            applyEstimatedBalancingCorrection(stepValue, scalingValuesByCountry, startingState.orElse(null));
+            final Runnable workingVariantReset = preProcessNetwork(
+                network, scalableGeneratorConnector, generatorLimitsHandler,
+                startingState.map(BalancedState::variantId).orElse(initialVariantId), processedVariantId, workingVariantCopyId
             );
             Map<String, Double> bordersExchanges;
             final int maxIterationNumber = processConfiguration.getShiftMaxIterationNumber();
             final ScalingParameters scalingParameters = getScalingParameters();
+            int dcIterationCounter = 0;
+            if (processConfiguration.getShiftDcPreBalancingTolerance() != null) {
+                dcIterationCounter = preBalanceWithDcLoadFlows(
+                    network, scalingValuesByCountry, scalingParameters, scalableGeneratorConnector, targetExchanges, workingVariantReset, workingVariantCopyId
+                );
+            }
+            final SecantBalancingCorrector secantBalancingCorrector = getSecantBalancingCorrector();
+            long loadFlowNanos = 0;
 
             do {
                 // Step 1: Perform the scaling
@@ -122,7 +199,9 @@ public class SweNetworkShifter implements NetworkShifter {
                     network, scalingValuesByCountry, scalingParameters, scalableGeneratorConnector
                 );
                 // Step 2: Compute exchanges mismatch
-                final LoadFlowResult result = runLoadFlowWithMdc(network, workingVariantCopyId, loadFlowParameters);
+                final long loadFlowStart = System.nanoTime();
+                final LoadFlowResult result = runBalancingLoadFlow(network, workingVariantCopyId, startingState.isPresent());
+                loadFlowNanos += System.nanoTime() - loadFlowStart;
                 if (result.isFailed()) {
                     LOGGER.error("Load flow computation diverged on network '{}' for direction {}", network.getId(), direction.getDashName());
                     businessLogger.error("Load flow computation diverged on network during balancing adjustment");
@@ -132,7 +211,7 @@ public class SweNetworkShifter implements NetworkShifter {
                     throw new ShiftingException("Load flow computation diverged during balancing adjustment", BALANCE_LOADFLOW_DIVERGENCE);
                 }
 
-                bordersExchanges = computeSweBordersExchanges(network);
+                bordersExchanges = getSweBorderAreas(network).computeSweBordersExchanges();
                 final double mismatchEsPt = targetExchanges.get(ES_PT) - bordersExchanges.get(ES_PT);
                 final double mismatchEsFr = targetExchanges.get(ES_FR) - bordersExchanges.get(ES_FR);
 
@@ -142,16 +221,20 @@ public class SweNetworkShifter implements NetworkShifter {
                     checkGlskLimitations(incompleteShiftCountries, mismatchEsPt, mismatchEsFr);
                 }
                 if (isWithinTolerances(mismatchEsPt, mismatchEsFr)) {
-                    logShiftSuccess(iterationCounter, bordersExchanges);
+                    logShiftSuccess(iterationCounter, loadFlowNanos, bordersExchanges);
                     variantManager.cloneVariant(workingVariantCopyId, initialVariantId, true);
+                    final Map<String, Double> balancedScalingValues = getBalancedScalingValues(scalingValuesByCountry, startingState.orElse(null));
+                    saveBalancingCorrection(stepValue, dispatchedScalingValues, balancedScalingValues);
+                    saveBalancedState(network, stepValue, dispatchedScalingValues, balancedScalingValues, workingVariantCopyId);
+                    shiftIterationsListener.accept(new ShiftIterations(stepValue, dcIterationCounter, iterationCounter));
                     shiftSucceeded = true;
                 } else {
                     if (!runGlskChecksBeforeLoadFlow) {
                         checkGlskLimitations(incompleteShiftCountries, mismatchEsPt, mismatchEsFr);
                     }
                     // Reset current variant with initial state for each iteration (keeping pre-processing)
-                    variantManager.cloneVariant(processedVariantId, workingVariantCopyId, true);
-                    updateScalingValuesWithMismatch(scalingValuesByCountry, mismatchEsPt, mismatchEsFr);
+                    workingVariantReset.run();
+                    applyBalancingCorrection(scalingValuesByCountry, secantBalancingCorrector, mismatchEsPt, mismatchEsFr);
                     ++iterationCounter;
                 }
 
@@ -166,9 +249,13 @@ public class SweNetworkShifter implements NetworkShifter {
                 throw new ShiftingException(message);
             }
 
+            LOGGER.info("[{}] : {} ms spent in generators connectivity evaluation", direction, scalableGeneratorConnector.getTopologyNanos() / 1_000_000);
+
             // Step 5: Reset current variant with initial state
             variantManager.setWorkingVariant(initialVariantId);
-            variantManager.removeVariant(processedVariantId);
+            if (variantManager.getVariantIds().contains(processedVariantId)) {
+                variantManager.removeVariant(processedVariantId);
+            }
             variantManager.removeVariant(workingVariantCopyId);
         } finally {
             // here set working variant generators pmin and pmax values to initial values
@@ -176,9 +263,226 @@ public class SweNetworkShifter implements NetworkShifter {
         }
     }
 
-    private void logShiftSuccess(final int iterationCounter, final Map<String, Double> bordersExchanges) {
+    private synchronized SweBorderAreas getSweBorderAreas(final Network network) {
+        if (sweBorderAreas == null || !sweBorderAreas.isFor(network)) {
+            sweBorderAreas = new SweBorderAreas(network);
+        }
+        return sweBorderAreas;
+    }
+
+    /**
+     * Removes the balanced variants kept by the shifters of the direction, which are only needed while its dichotomy runs.
+     */
+    public static void removeBalancedVariants(final Network network, final DichotomyDirection direction) {
+        final String variantIdPrefix = String.format(BALANCED_VARIANT_FORMAT, direction.getDashName(), "");
+        final VariantManager variantManager = network.getVariantManager();
+        List.copyOf(variantManager.getVariantIds()).stream()
+            .filter(variantId -> variantId.startsWith(variantIdPrefix))
+            .forEach(variantManager::removeVariant);
+    }
+
+    /**
+     * Adds to the scaling values the balancing correction expected for this step, interpolated from the corrections
+     * of the previous steps. When starting from a balanced variant, its own correction is already applied.
+     */
+    private void applyEstimatedBalancingCorrection(final double stepValue,
+                                                   final Map<String, Double> scalingValuesByCountry,
+                                                   final BalancedState startingState) {
+        final Map<String, Double> estimatedCorrection = getEstimatedBalancingCorrection(stepValue);
+        if (estimatedCorrection.isEmpty()) {
+            return;
+        }
+        estimatedCorrection.forEach((zoneId, correction) -> scalingValuesByCountry.computeIfPresent(zoneId, (k, value) -> value + correction));
+        if (startingState != null) {
+            startingState.balancedScalingValues().forEach((zoneId, balanced) -> scalingValuesByCountry.computeIfPresent(
+                zoneId, (k, value) -> value - balanced + startingState.dispatchedScalingValues().getOrDefault(zoneId, 0.)));
+        }
+        LOGGER.info("[{}] : Estimated balancing correction {} applied to the target shift", direction, estimatedCorrection);
+    }
+
+    private Map<String, Double> getEstimatedBalancingCorrection(final double stepValue) {
+        if (!processConfiguration.isShiftBalancingCorrectionCarryOver()) {
+            return Map.of();
+        }
+        synchronized (balancingCorrections) {
+            final Map.Entry<Double, Map<String, Double>> lowerEntry = balancingCorrections.floorEntry(stepValue);
+            final Map.Entry<Double, Map<String, Double>> upperEntry = balancingCorrections.ceilingEntry(stepValue);
+            if (lowerEntry == null) {
+                return upperEntry == null ? Map.of() : upperEntry.getValue();
+            }
+            if (upperEntry == null || lowerEntry.getKey().equals(upperEntry.getKey())) {
+                return lowerEntry.getValue();
+            }
+            final double weight = (stepValue - lowerEntry.getKey()) / (upperEntry.getKey() - lowerEntry.getKey());
+            final Map<String, Double> interpolatedCorrection = new HashMap<>();
+            lowerEntry.getValue().forEach((zoneId, lowerCorrection) -> interpolatedCorrection.put(
+                zoneId, lowerCorrection + weight * (upperEntry.getValue().getOrDefault(zoneId, lowerCorrection) - lowerCorrection)));
+            return interpolatedCorrection;
+        }
+    }
+
+    private void saveBalancingCorrection(final double stepValue,
+                                         final Map<String, Double> dispatchedScalingValues,
+                                         final Map<String, Double> balancedScalingValues) {
+        final Map<String, Double> correction = new HashMap<>();
+        balancedScalingValues.forEach((zoneId, balanced) -> correction.put(zoneId, balanced - dispatchedScalingValues.getOrDefault(zoneId, 0.)));
+        synchronized (balancingCorrections) {
+            balancingCorrections.put(stepValue, Map.copyOf(correction));
+        }
+    }
+
+    /**
+     * Balances the exchanges with DC load flows, which are much cheaper than AC ones, until they are within the
+     * configured coarse tolerance. The working variant is reset afterwards, so that the AC balancing starts from the
+     * scaling values found here. The DC phase stops as soon as a zone cannot be fully shifted or a DC load flow fails,
+     * GLSK limitations and divergences being only reported by the AC balancing.
+     *
+     * @return the number of DC load flows run
+     */
+    private int preBalanceWithDcLoadFlows(final Network network,
+                                           final Map<String, Double> scalingValuesByCountry,
+                                           final ScalingParameters scalingParameters,
+                                           final ScalableGeneratorConnector scalableGeneratorConnector,
+                                           final Map<String, Double> targetExchanges,
+                                           final Runnable workingVariantReset,
+                                           final String workingVariantCopyId) {
+        final double coarseTolerance = processConfiguration.getShiftDcPreBalancingTolerance();
+        final SecantBalancingCorrector secantBalancingCorrector = getSecantBalancingCorrector();
+        final long start = System.nanoTime();
+        for (int iterationCounter = 1; iterationCounter <= processConfiguration.getShiftMaxIterationNumber(); iterationCounter++) {
+            LOGGER.info("[{}] : Applying DC pre-balancing shift iteration {} ", direction, iterationCounter);
+            final Map<String, Double> incompleteShiftCountries = iterateOnShift(
+                network, scalingValuesByCountry, scalingParameters, scalableGeneratorConnector
+            );
+            final LoadFlowResult result = runLoadFlowWithMdc(network, workingVariantCopyId, dcLoadFlowParameters);
+            final Map<String, Double> bordersExchanges = result.isFailed() ? null : getSweBorderAreas(network).computeSweBordersExchanges();
+            workingVariantReset.run();
+            if (bordersExchanges == null || !incompleteShiftCountries.isEmpty()) {
+                LOGGER.info("[{}] : DC pre-balancing stopped after {} iteration, balancing goes on with AC load flows", direction, iterationCounter);
+                return iterationCounter;
+            }
+            final double mismatchEsPt = targetExchanges.get(ES_PT) - bordersExchanges.get(ES_PT);
+            final double mismatchEsFr = targetExchanges.get(ES_FR) - bordersExchanges.get(ES_FR);
+            if (Math.abs(mismatchEsPt) < coarseTolerance && Math.abs(mismatchEsFr) < coarseTolerance) {
+                LOGGER.info("[{}] : DC pre-balancing succeeded after {} iteration ({} ms)", direction, iterationCounter, (System.nanoTime() - start) / 1_000_000);
+                return iterationCounter;
+            }
+            applyBalancingCorrection(scalingValuesByCountry, secantBalancingCorrector, mismatchEsPt, mismatchEsFr);
+        }
+        LOGGER.info("[{}] : DC pre-balancing out of coarse tolerance, balancing goes on with AC load flows", direction);
+        return processConfiguration.getShiftMaxIterationNumber();
+    }
+
+    private SecantBalancingCorrector getSecantBalancingCorrector() {
+        return processConfiguration.getShiftBalancingMode() == ShiftBalancingMode.SECANT ? new SecantBalancingCorrector() : null;
+    }
+
+    private void applyBalancingCorrection(final Map<String, Double> scalingValuesByCountry,
+                                          final SecantBalancingCorrector secantBalancingCorrector,
+                                          final double mismatchEsPt,
+                                          final double mismatchEsFr) {
+        if (secantBalancingCorrector != null) {
+            final SecantBalancingCorrector.Correction correction = secantBalancingCorrector.nextCorrection(mismatchEsPt, mismatchEsFr);
+            updateScalingValuesWithMismatch(scalingValuesByCountry, correction.esPt(), correction.esFr());
+        } else {
+            updateScalingValuesWithMismatch(scalingValuesByCountry, mismatchEsPt, mismatchEsFr);
+        }
+    }
+
+    /**
+     * Closest balanced variant from which the given dispatch can be reached with every country scaled further in the
+     * same direction. Scaling a merit order GLSK back and forth does not give the same dispatch as scaling it once.
+     */
+    private Optional<BalancedState> findStartingState(final Network network, final Map<String, Double> dispatchedScalingValues) {
+        synchronized (balancedStates) {
+            if (balancedStatesNetwork != network) {
+                balancedStates.clear();
+                balancedStatesNetwork = network;
+                return Optional.empty();
+            }
+            final Set<String> variantIds = Set.copyOf(network.getVariantManager().getVariantIds());
+            return balancedStates.values().stream()
+                .filter(state -> variantIds.contains(state.variantId()))
+                .filter(state -> isOnShiftPath(state, dispatchedScalingValues))
+                .min(Comparator.comparingDouble(state -> getDistance(state, dispatchedScalingValues)));
+        }
+    }
+
+    private static boolean isOnShiftPath(final BalancedState state, final Map<String, Double> dispatchedScalingValues) {
+        return dispatchedScalingValues.entrySet().stream().allMatch(entry -> {
+            final double delta = entry.getValue() - state.dispatchedScalingValues().getOrDefault(entry.getKey(), 0.);
+            final double balanced = state.balancedScalingValues().getOrDefault(entry.getKey(), 0.);
+            return Math.abs(delta) < DEFAULT_SHIFT_EPSILON || Math.signum(delta) == Math.signum(balanced);
+        });
+    }
+
+    private static double getDistance(final BalancedState state, final Map<String, Double> dispatchedScalingValues) {
+        return dispatchedScalingValues.entrySet().stream()
+            .mapToDouble(entry -> Math.abs(entry.getValue() - state.dispatchedScalingValues().getOrDefault(entry.getKey(), 0.)))
+            .sum();
+    }
+
+    private static Map<String, Double> getBalancedScalingValues(final Map<String, Double> scalingValuesByCountry,
+                                                                final BalancedState startingState) {
+        final Map<String, Double> balancedScalingValues = new HashMap<>(scalingValuesByCountry);
+        if (startingState != null) {
+            startingState.balancedScalingValues().forEach((zoneId, balanced) -> balancedScalingValues.merge(zoneId, balanced, Double::sum));
+        }
+        return balancedScalingValues;
+    }
+
+    /**
+     * Keeps a copy of the balanced variant, and removes the variants the furthest from this step over the configured number.
+     */
+    private void saveBalancedState(final Network network,
+                                   final double stepValue,
+                                   final Map<String, Double> dispatchedScalingValues,
+                                   final Map<String, Double> balancedScalingValues,
+                                   final String balancedVariantId) {
+        final Integer maxBalancedVariants = processConfiguration.getShiftBalancedVariantsNumber();
+        if (maxBalancedVariants == null || maxBalancedVariants <= 0) {
+            return;
+        }
+        final VariantManager variantManager = network.getVariantManager();
+        final String variantId = String.format(BALANCED_VARIANT_FORMAT, direction.getDashName(), stepValue);
+        synchronized (balancedStates) {
+            balancedStatesNetwork = network;
+            variantManager.cloneVariant(balancedVariantId, variantId, true);
+            balancedStates.put(stepValue, new BalancedState(variantId, Map.copyOf(dispatchedScalingValues), Map.copyOf(balancedScalingValues)));
+            while (balancedStates.size() > maxBalancedVariants) {
+                final double furthestStepValue = Math.abs(balancedStates.firstKey() - stepValue) > Math.abs(balancedStates.lastKey() - stepValue)
+                    ? balancedStates.firstKey()
+                    : balancedStates.lastKey();
+                final BalancedState removedState = balancedStates.remove(furthestStepValue);
+                if (variantManager.getVariantIds().contains(removedState.variantId())) {
+                    variantManager.removeVariant(removedState.variantId());
+                }
+            }
+        }
+    }
+
+    /**
+     * Loadflows run from a balanced variant start from its voltages. They are run again from the configured
+     * initialisation if they fail, as the previous values may be missing on newly connected buses.
+     */
+    private LoadFlowResult runBalancingLoadFlow(final Network network, final String variantId, final boolean warmStart) {
+        if (warmStart) {
+            try {
+                final LoadFlowResult result = runLoadFlowWithMdc(network, variantId, warmStartLoadFlowParameters);
+                if (!result.isFailed()) {
+                    return result;
+                }
+            } catch (PowsyblException e) {
+                LOGGER.warn("[{}] : Load flow from previous values failed", direction, e);
+            }
+            LOGGER.info("[{}] : Load flow run again from the configured voltage initialisation", direction);
+        }
+        return runLoadFlowWithMdc(network, variantId, loadFlowParameters);
+    }
+
+    private void logShiftSuccess(final int iterationCounter, final long loadFlowNanos, final Map<String, Double> bordersExchanges) {
         final String logShiftSucceeded = String.format(
-            "[%s] : Shift succeeded after %s iteration ", direction, iterationCounter
+            "[%s] : Shift succeeded after %s iteration (%d ms of load flow)", direction, iterationCounter, loadFlowNanos / 1_000_000
         );
         LOGGER.info(logShiftSucceeded);
         businessLogger.info("Shift succeeded after {} iteration ", iterationCounter);
@@ -256,21 +560,38 @@ public class SweNetworkShifter implements NetworkShifter {
         }
     }
 
-    private void preProcessNetwork(final Network network,
-                                   final ScalableGeneratorConnector scalableGeneratorConnector,
-                                   final GeneratorLimitsHandler generatorLimitsHandler,
-                                   final String initialVariantId,
-                                   final String processedVariantId,
-                                   final String workingVariantCopyId) throws ShiftingException {
+    /**
+     * Pre-processes the working variant, and returns how to reset it to the pre-processed state between balancing
+     * iterations: by rolling back a journal of the elements the iteration can modify when enabled, by cloning a
+     * pre-processed copy of the variant otherwise.
+     */
+    private Runnable preProcessNetwork(final Network network,
+                                       final ScalableGeneratorConnector scalableGeneratorConnector,
+                                       final GeneratorLimitsHandler generatorLimitsHandler,
+                                       final String initialVariantId,
+                                       final String processedVariantId,
+                                       final String workingVariantCopyId) throws ShiftingException {
         final VariantManager variantManager = network.getVariantManager();
-        variantManager.cloneVariant(initialVariantId, processedVariantId, true);
-        variantManager.setWorkingVariant(processedVariantId);
+        final boolean journalRollback = processConfiguration.isShiftJournalRollback();
+        final String preProcessedVariantId = journalRollback ? workingVariantCopyId : processedVariantId;
+        variantManager.cloneVariant(initialVariantId, preProcessedVariantId, true);
+        variantManager.setWorkingVariant(preProcessedVariantId);
         scalableGeneratorConnector.fillGeneratorsInitialState(network, PRE_PROCESSING_COUNTRIES);
         // here set working variant generators pmin and pmax values to default values
         // so that glsk generator pmin and pmax values are used
         generatorLimitsHandler.setPminPmaxToDefaultValue(network, PRE_PROCESSING_COUNTRIES);
-        variantManager.cloneVariant(processedVariantId, workingVariantCopyId, true);
-        variantManager.setWorkingVariant(workingVariantCopyId);
+        if (journalRollback) {
+            final ShiftJournal shiftJournal = ShiftJournal.record(network, zonalScalable, loadFlowParameters);
+            if (shiftJournal.isComplete()) {
+                return shiftJournal::rollback;
+            }
+            LOGGER.warn("[{}] : Scalable injections cannot all be journaled, working variant is reset by cloning", direction);
+            variantManager.cloneVariant(workingVariantCopyId, processedVariantId, true);
+        } else {
+            variantManager.cloneVariant(processedVariantId, workingVariantCopyId, true);
+            variantManager.setWorkingVariant(workingVariantCopyId);
+        }
+        return () -> variantManager.cloneVariant(processedVariantId, workingVariantCopyId, true);
     }
 
     private static ScalingParameters getScalingParameters() {
@@ -7,6 +7,7 @@
 package com.farao_community.farao.gridcapa_swe_commons.shift;
 
 import com.farao_community.farao.gridcapa_swe_commons.exception.SweInvalidDataException;
+import com.powsybl.glsk.api.GlskDocument;
 import com.powsybl.glsk.api.io.GlskDocumentImporters;
 import com.powsybl.glsk.commons.ZonalData;
 import com.powsybl.glsk.commons.ZonalDataImpl;
@@ -28,11 +29,28 @@ import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Function;
 
 public class ZonalScalableProvider {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ZonalScalableProvider.class);
-    private static final Object LOCK_GLSK = new Object();
+
+    private final GlskDocumentCache glskDocumentCache;
+    private final Function<String, InputStream> glskStreamOpener;
+
+    public ZonalScalableProvider() {
+        this(new GlskDocumentCache(1), ZonalScalableProvider::openUrlStream);
+    }
+
+    /**
+     * @param glskDocumentCache cache of the GLSK documents, which can be shared with other GLSK importers
+     * @param glskStreamOpener opens the GLSK file of an URL; it must apply the same URL checks as the other importers
+     *                         sharing the cache, as a document read here is then served to them without any check
+     */
+    public ZonalScalableProvider(GlskDocumentCache glskDocumentCache, Function<String, InputStream> glskStreamOpener) {
+        this.glskDocumentCache = glskDocumentCache;
+        this.glskStreamOpener = glskStreamOpener;
+    }
 
     public ZonalData<Scalable> get(String glskUrl, Network network, OffsetDateTime timestamp) {
         ZonalData<Scalable> zonalData = importGlsk(glskUrl, network, timestamp.toInstant());
@@ -46,11 +64,21 @@ public class ZonalScalableProvider {
     }
 
     public ZonalData<Scalable> importGlsk(String glskUrl, Network network, Instant instant) {
-        try (InputStream glskResultStream = new URI(glskUrl).toURL().openStream()) {
-            synchronized (LOCK_GLSK) {
-                LOGGER.info("Importing Glsk file : {}", glskUrl);
-                return GlskDocumentImporters.importGlsk(glskResultStream).getZonalScalable(network, instant);
-            }
+        return glskDocumentCache.get(glskUrl, this::readGlskDocument).getZonalScalable(network, instant);
+    }
+
+    private GlskDocument readGlskDocument(String glskUrl) {
+        try (InputStream glskResultStream = glskStreamOpener.apply(glskUrl)) {
+            LOGGER.info("Importing Glsk file : {}", glskUrl);
+            return GlskDocumentImporters.importGlsk(glskResultStream);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new SweInvalidDataException("Cannot import glsk from url", e);
+        }
+    }
+
+    private static InputStream openUrlStream(String glskUrl) {
+        try {
+            return new URI(glskUrl).toURL().openStream();
         } catch (IOException | URISyntaxException | IllegalArgumentException e) {
             throw new SweInvalidDataException("Cannot import glsk from url", e);
         }
@@ -6,11 +6,13 @@
  */
 package com.farao_community.farao.gridcapa_swe_commons.configuration;
 
+import com.farao_community.farao.gridcapa_swe_commons.shift.ShiftBalancingMode;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * @author Ameni Walha {@literal <ameni.walha at rte-france.com>}
@@ -24,6 +26,11 @@ class ProcessConfigurationTest {
     @Test
     void checkProcessConfiguration() {
         assertEquals(20, processConfiguration.getShiftMaxIterationNumber());
+        assertEquals(4, processConfiguration.getShiftBalancedVariantsNumber());
+        assertEquals(ShiftBalancingMode.SECANT, processConfiguration.getShiftBalancingMode());
+        assertEquals(50., processConfiguration.getShiftDcPreBalancingTolerance());
+        assertTrue(processConfiguration.isShiftBalancingCorrectionCarryOver());
+        assertTrue(processConfiguration.isShiftJournalRollback());
         assertEquals("Europe/Paris", processConfiguration.getZoneId());
         assertEquals("http://www.ree.es/OperationalPlanning", processConfiguration.getModelingAuthorityMap().get("REE"));
         assertEquals("http://www.ren.pt/OperationalPlanning", processConfiguration.getModelingAuthorityMap().get("REN"));
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa_swe_commons.shift;
+
+import com.farao_community.farao.gridcapa_swe_commons.exception.SweInvalidDataException;
+import com.powsybl.glsk.api.GlskDocument;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class GlskDocumentCacheTest {
+
+    @Test
+    void documentIsParsedOnceForConcurrentRequests() throws Exception {
+        GlskDocumentCache cache = new GlskDocumentCache(2);
+        GlskDocument document = mock(GlskDocument.class);
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        Function<String, GlskDocument> slowLoader = url -> {
+            loadCount.incrementAndGet();
+            loadStarted.countDown();
+            await(releaseLoad);
+            return document;
+        };
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            Future<GlskDocument> first = executor.submit(() -> cache.get("glsk-url", slowLoader));
+            assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+            List<Future<GlskDocument>> others = IntStream.range(0, 3)
+                .mapToObj(i -> executor.submit(() -> cache.get("glsk-url", slowLoader)))
+                .toList();
+            releaseLoad.countDown();
+            assertSame(document, first.get());
+            for (Future<GlskDocument> other : others) {
+                assertSame(document, other.get());
+            }
+        }
+        assertEquals(1, loadCount.get());
+    }
+
+    @Test
+    void leastRecentlyUsedDocumentIsEvicted() {
+        GlskDocumentCache cache = new GlskDocumentCache(2);
+        AtomicInteger loadCount = new AtomicInteger();
+        Function<String, GlskDocument> loader = url -> {
+            loadCount.incrementAndGet();
+            return mock(GlskDocument.class);
+        };
+        GlskDocument documentA = cache.get("a", loader);
+        cache.get("b", loader);
+        assertSame(documentA, cache.get("a", loader));
+        cache.get("c", loader);
+
+        assertEquals(2, cache.size());
+        assertSame(documentA, cache.get("a", loader));
+        assertEquals(3, loadCount.get());
+        cache.get("b", loader);
+        assertEquals(4, loadCount.get());
+    }
+
+    @Test
+    void failureIsNotCached() {
+        GlskDocumentCache cache = new GlskDocumentCache(2);
+        GlskDocument document = mock(GlskDocument.class);
+        Function<String, GlskDocument> failingLoader = url -> {
+            throw new SweInvalidDataException("Cannot import glsk from url");
+        };
+        assertThrows(SweInvalidDataException.class, () -> cache.get("glsk-url", failingLoader));
+        assertEquals(0, cache.size());
+        assertSame(document, cache.get("glsk-url", url -> document));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -135,6 +135,15 @@ class ScalableGeneratorConnectorTest {
         assertFalse(network.getGenerator("FRDTGN1 _generator").getTerminal().getBusBreakerView().getConnectableBus().isInMainSynchronousComponent());
     }
 
+    @Test
+    void testTopologyTimeIsMeasured() {
+        long fillTopologyNanos = scalableGeneratorConnector.getTopologyNanos();
+        assertTrue(fillTopologyNanos > 0);
+        zonalScalable.getData(new EICode(Country.ES).getAreaCode()).scale(network, 2000, scalingParameters);
+        scalableGeneratorConnector.connectGeneratorsTransformers(network, Set.of(Country.ES, Country.PT));
+        assertTrue(scalableGeneratorConnector.getTopologyNanos() > fillTopologyNanos);
+    }
+
     @Test
     void testScalingEs() {
         double done = zonalScalable.getData(new EICode(Country.ES).getAreaCode()).scale(network, 2000, scalingParameters);
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa_swe_commons.shift;
+
+import com.powsybl.glsk.cim.CimGlskDocument;
+import com.powsybl.glsk.commons.ZonalData;
+import com.powsybl.iidm.modification.scalable.Scalable;
+import com.powsybl.iidm.network.Bus;
+import com.powsybl.iidm.network.Country;
+import com.powsybl.iidm.network.Generator;
+import com.powsybl.iidm.network.Identifiable;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.TwoWindingsTransformer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class ScalableGeneratorIndexTest {
+    private static final String NETWORK_FILE_NAME = "/shift/TestCase_with_transformers.xiidm";
+
+    private Network network;
+    private ZonalData<Scalable> zonalScalable;
+
+    @BeforeEach
+    void setUp() {
+        network = Network.read(NETWORK_FILE_NAME, getClass().getResourceAsStream(NETWORK_FILE_NAME));
+        CimGlskDocument doc = CimGlskDocument.importGlsk(getClass().getResourceAsStream("/shift/TestCase_with_transformers_glsk.xml"));
+        Instant instant = LocalDateTime.of(2023, 7, 31, 7, 30).toInstant(ZoneOffset.UTC);
+        zonalScalable = doc.getZonalScalable(network, instant);
+    }
+
+    @Test
+    void scalableGeneratorsAreIndexedOncePerCountry() {
+        ScalableGeneratorIndex index = new ScalableGeneratorIndex(zonalScalable);
+
+        List<Generator> esGenerators = index.getScalableGenerators(network, Country.ES);
+
+        assertTrue(esGenerators.stream().map(Identifiable::getId).collect(Collectors.toSet()).contains("ESCDGU1 _generator"));
+        assertTrue(esGenerators.stream().allMatch(generator -> generator.getId().startsWith("ES")));
+        assertSame(esGenerators, index.getScalableGenerators(network, Country.ES));
+        assertTrue(index.getScalableGenerators(network, Country.DE).isEmpty());
+    }
+
+    @Test
+    void indexIsBuiltAgainForAnotherNetwork() {
+        ScalableGeneratorIndex index = new ScalableGeneratorIndex(zonalScalable);
+        List<Generator> esGenerators = index.getScalableGenerators(network, Country.ES);
+
+        Network otherNetwork = Network.read(NETWORK_FILE_NAME, getClass().getResourceAsStream(NETWORK_FILE_NAME));
+        List<Generator> otherEsGenerators = index.getScalableGenerators(otherNetwork, Country.ES);
+
+        assertNotSame(esGenerators, otherEsGenerators);
+        assertTrue(otherEsGenerators.stream().allMatch(generator -> generator.getNetwork() == otherNetwork));
+    }
+
+    @Test
+    void transformersOfGeneratorAreTheOnesLinkedToItsBus() {
+        ScalableGeneratorIndex index = new ScalableGeneratorIndex(zonalScalable);
+
+        for (Generator generator : index.getScalableGenerators(network, Country.ES)) {
+            Bus generatorBus = generator.getTerminal().getBusBreakerView().getConnectableBus();
+            Set<String> expectedTransformers = generator.getTerminal().getVoltageLevel().getTwoWindingsTransformerStream()
+                .filter(twt -> generatorBus.equals(twt.getTerminal1().getBusBreakerView().getConnectableBus())
+                    || generatorBus.equals(twt.getTerminal2().getBusBreakerView().getConnectableBus()))
+                .map(TwoWindingsTransformer::getId)
+                .collect(Collectors.toSet());
+            assertEquals(expectedTransformers, index.getTransformersOfGenerator(generator).stream().map(TwoWindingsTransformer::getId).collect(Collectors.toSet()));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa_swe_commons.shift;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class SecantBalancingCorrectorTest {
+
+    private static final double TOLERANCE = 1.;
+    private static final int MAX_ITERATIONS = 50;
+    private static final double[] TARGET = {500., 1000.};
+
+    @Test
+    void firstCorrectionIsTheMismatch() {
+        SecantBalancingCorrector corrector = new SecantBalancingCorrector();
+        SecantBalancingCorrector.Correction correction = corrector.nextCorrection(50., -20.);
+        assertEquals(50., correction.esPt(), 1e-9);
+        assertEquals(-20., correction.esFr(), 1e-9);
+    }
+
+    @Test
+    void convergesInFewerIterationsThanFixedPointWithWeakCoupledSensitivities() {
+        double[][] sensitivities = {{0.5, 0.3}, {0.2, 0.6}};
+        int fixedPointIterations = iterationsToTolerance(sensitivities, null);
+        int secantIterations = iterationsToTolerance(sensitivities, new SecantBalancingCorrector());
+        assertTrue(secantIterations < fixedPointIterations, secantIterations + " >= " + fixedPointIterations);
+    }
+
+    @Test
+    void convergesWhenFixedPointOscillates() {
+        // Exchanges moving nearly twice as much as the scaling make the fixed point correction diverge
+        double[][] sensitivities = {{2.1, 0.}, {0., 1.95}};
+        assertEquals(MAX_ITERATIONS, iterationsToTolerance(sensitivities, null));
+        assertTrue(iterationsToTolerance(sensitivities, new SecantBalancingCorrector()) < 10);
+    }
+
+    /**
+     * Number of corrections before the mismatch of a linear exchanges model is within tolerance.
+     */
+    private static int iterationsToTolerance(double[][] sensitivities, SecantBalancingCorrector corrector) {
+        double[] corrections = {0., 0.};
+        for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+            double mismatchEsPt = TARGET[0] - (sensitivities[0][0] * corrections[0] + sensitivities[0][1] * corrections[1]);
+            double mismatchEsFr = TARGET[1] - (sensitivities[1][0] * corrections[0] + sensitivities[1][1] * corrections[1]);
+            if (Math.abs(mismatchEsPt) < TOLERANCE && Math.abs(mismatchEsFr) < TOLERANCE) {
+                return iteration;
+            }
+            if (corrector == null) {
+                corrections[0] += mismatchEsPt;
+                corrections[1] += mismatchEsFr;
+            } else {
+                SecantBalancingCorrector.Correction correction = corrector.nextCorrection(mismatchEsPt, mismatchEsFr);
+                corrections[0] += correction.esPt();
+                corrections[1] += correction.esFr();
+            }
+        }
+        return MAX_ITERATIONS;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa_swe_commons.shift;
+
+import com.powsybl.glsk.commons.ZonalDataImpl;
+import com.powsybl.iidm.modification.scalable.Scalable;
+import com.powsybl.iidm.modification.scalable.ScalingParameters;
+import com.powsybl.iidm.network.Generator;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.TwoWindingsTransformer;
+import com.powsybl.iidm.network.VariantManager;
+import com.powsybl.loadflow.LoadFlowParameters;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static com.farao_community.farao.gridcapa_swe_commons.resource.SweEICode.ES_EIC;
+import static com.farao_community.farao.gridcapa_swe_commons.resource.SweEICode.FR_EIC;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class ShiftJournalTest {
+
+    private static final String NETWORK_FILE_NAME = "/shift/TestCase_with_swe_countries.xiidm";
+
+    @Test
+    void rollbackRestoresScaledInjections() {
+        Network network = Network.read(NETWORK_FILE_NAME, getClass().getResourceAsStream(NETWORK_FILE_NAME));
+        ZonalDataImpl<Scalable> zonalScalable = new ZonalDataImpl<>(Map.of(
+            FR_EIC, Scalable.onGenerator("FFR1AA11_generator"),
+            ES_EIC, Scalable.onGenerator("EES1AA11_generator")));
+        Generator frGenerator = network.getGenerator("FFR1AA11_generator");
+        Generator esGenerator = network.getGenerator("EES1AA11_generator");
+        double frTargetP = frGenerator.getTargetP();
+        double esTargetP = esGenerator.getTargetP();
+
+        ShiftJournal shiftJournal = ShiftJournal.record(network, zonalScalable, new LoadFlowParameters());
+        zonalScalable.getData(FR_EIC).scale(network, 500., new ScalingParameters());
+        esGenerator.setTargetP(esTargetP - 300.);
+        esGenerator.getTerminal().disconnect();
+        assertNotEquals(frTargetP, frGenerator.getTargetP());
+        assertFalse(esGenerator.getTerminal().isConnected());
+
+        shiftJournal.rollback();
+
+        assertTrue(shiftJournal.isComplete());
+        assertEquals(frTargetP, frGenerator.getTargetP(), 1e-9);
+        assertEquals(esTargetP, esGenerator.getTargetP(), 1e-9);
+        assertTrue(esGenerator.getTerminal().isConnected());
+    }
+
+    @Test
+    void rollbackGivesSameGeneratorAsClonedVariantWhenScalingReconnectsIt() {
+        Network network = Network.read(NETWORK_FILE_NAME, getClass().getResourceAsStream(NETWORK_FILE_NAME));
+        ZonalDataImpl<Scalable> zonalScalable = new ZonalDataImpl<>(Map.of(ES_EIC, Scalable.onGenerator("EES1AA11_generator")));
+        Generator esGenerator = network.getGenerator("EES1AA11_generator");
+        esGenerator.getTerminal().disconnect();
+        VariantManager variantManager = network.getVariantManager();
+        variantManager.cloneVariant(variantManager.getWorkingVariantId(), "Reset copy");
+        GeneratorState initialState = GeneratorState.of(esGenerator);
+
+        ShiftJournal shiftJournal = ShiftJournal.record(network, zonalScalable, new LoadFlowParameters());
+        // Reconnected generator takes the voltage of its bus as set point
+        esGenerator.getTerminal().getBusBreakerView().getConnectableBus().setV(esGenerator.getTargetV() + 10.);
+        zonalScalable.getData(ES_EIC).scale(network, 300., new ScalingParameters().setReconnect(true));
+        assertTrue(esGenerator.getTerminal().isConnected());
+        assertNotEquals(initialState.targetV(), esGenerator.getTargetV());
+
+        shiftJournal.rollback();
+        GeneratorState rolledBackState = GeneratorState.of(esGenerator);
+        variantManager.setWorkingVariant("Reset copy");
+
+        assertEquals(GeneratorState.of(esGenerator), rolledBackState);
+    }
+
+    @Test
+    void rollbackRestoresTapPositionsWhenLoadFlowControlsThem() {
+        Network network = Network.read(NETWORK_FILE_NAME, getClass().getResourceAsStream(NETWORK_FILE_NAME));
+        ZonalDataImpl<Scalable> zonalScalable = new ZonalDataImpl<>(Map.of(FR_EIC, Scalable.onGenerator("FFR1AA11_generator")));
+        LoadFlowParameters loadFlowParameters = new LoadFlowParameters().setPhaseShifterRegulationOn(true);
+        TwoWindingsTransformer phaseShifter = network.getTwoWindingsTransformerStream()
+            .filter(twt -> twt.getPhaseTapChanger() != null)
+            .findFirst()
+            .orElseThrow();
+        int tapPosition = phaseShifter.getPhaseTapChanger().getTapPosition();
+        ShiftJournal shiftJournal = ShiftJournal.record(network, zonalScalable, loadFlowParameters);
+        phaseShifter.getPhaseTapChanger().setTapPosition(tapPosition == phaseShifter.getPhaseTapChanger().getLowTapPosition() ? tapPosition + 1 : tapPosition - 1);
+
+        shiftJournal.rollback();
+
+        assertEquals(tapPosition, phaseShifter.getPhaseTapChanger().getTapPosition());
+    }
+
+    private record GeneratorState(double targetP, double targetQ, double targetV, boolean voltageRegulatorOn, boolean connected) {
+        static GeneratorState of(Generator generator) {
+            return new GeneratorState(generator.getTargetP(), generator.getTargetQ(), generator.getTargetV(),
+                generator.isVoltageRegulatorOn(), generator.getTerminal().isConnected());
+        }
+    }
+}
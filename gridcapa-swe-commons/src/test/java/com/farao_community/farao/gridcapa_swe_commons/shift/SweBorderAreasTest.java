@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.gridcapa_swe_commons.shift;
+
+import com.powsybl.balances_adjustment.util.BorderBasedCountryArea;
+import com.powsybl.balances_adjustment.util.CountryAreaFactory;
+import com.powsybl.iidm.network.Country;
+import com.powsybl.iidm.network.Generator;
+import com.powsybl.iidm.network.HvdcLine;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VoltageLevel;
+import com.powsybl.iidm.network.extensions.HvdcAngleDroopActivePowerControl;
+import com.powsybl.loadflow.LoadFlow;
+import com.powsybl.loadflow.LoadFlowParameters;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static com.powsybl.iidm.network.Country.ES;
+import static com.powsybl.iidm.network.Country.FR;
+import static com.powsybl.iidm.network.Country.PT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class SweBorderAreasTest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SweBorderAreasTest.class);
+    private static final String NETWORK_FILE_NAME = "/shift/TestCase_with_swe_countries.xiidm";
+    private static final int BENCHMARK_RUNS = 50;
+
+    @Test
+    void keptAreasGiveSameExchangesAsFreshOnesOnEveryVariant() {
+        Network network = readNetworkWithHvdcAndDanglingLines();
+        LoadFlow.run(network, LoadFlowParameters.load());
+        assertNotEquals(0., network.getHvdcLine("EES2AA11 FFR3AA11 1").getConverterStation1().getTerminal().getP(), 1.);
+        assertNotEquals(0., network.getTieLine("XESFR1").getDanglingLine1().getTerminal().getP(), 1.);
+        SweBorderAreas sweBorderAreas = new SweBorderAreas(network);
+        Map<String, Double> initialExchanges = sweBorderAreas.computeSweBordersExchanges();
+        assertEquals(computeExchangesWithFreshAreas(network), initialExchanges);
+
+        network.getVariantManager().cloneVariant(network.getVariantManager().getWorkingVariantId(), "SHIFTED");
+        network.getVariantManager().setWorkingVariant("SHIFTED");
+        Generator esGenerator = network.getGenerator("EES1AA11_generator");
+        esGenerator.setTargetP(esGenerator.getTargetP() + 500.);
+        LoadFlow.run(network, "SHIFTED", network.getComputationManager(), LoadFlowParameters.load());
+
+        Map<String, Double> shiftedExchanges = sweBorderAreas.computeSweBordersExchanges();
+        assertEquals(computeExchangesWithFreshAreas(network), shiftedExchanges);
+        assertNotEquals(initialExchanges, shiftedExchanges);
+    }
+
+    @Test
+    void areasAreBoundToTheirNetwork() {
+        Network network = Network.read(NETWORK_FILE_NAME, getClass().getResourceAsStream(NETWORK_FILE_NAME));
+        SweBorderAreas sweBorderAreas = new SweBorderAreas(network);
+        assertTrue(sweBorderAreas.isFor(network));
+        assertFalse(sweBorderAreas.isFor(Network.read(NETWORK_FILE_NAME, getClass().getResourceAsStream(NETWORK_FILE_NAME))));
+    }
+
+    @Test
+    @Tag("benchmark")
+    void benchmarkKeptAreasAgainstFreshOnes() {
+        Network network = readNetworkWithHvdcAndDanglingLines();
+        LoadFlow.run(network, LoadFlowParameters.load());
+        Map<String, Double> expectedExchanges = computeExchangesWithFreshAreas(network);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < BENCHMARK_RUNS; i++) {
+            assertEquals(expectedExchanges, computeExchangesWithFreshAreas(network));
+        }
+        long freshAreasNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        SweBorderAreas sweBorderAreas = new SweBorderAreas(network);
+        for (int i = 0; i < BENCHMARK_RUNS; i++) {
+            assertEquals(expectedExchanges, sweBorderAreas.computeSweBordersExchanges());
+        }
+        long keptAreasNanos = System.nanoTime() - start;
+
+        LOGGER.info("{} border exchanges computations: {} us with fresh areas, {} us with kept areas",
+            BENCHMARK_RUNS, freshAreasNanos / 1000, keptAreasNanos / 1000);
+    }
+
+    /**
+     * Exchanges computed as before the areas were kept: the country areas are built again from the network each time.
+     */
+    private static Map<String, Double> computeExchangesWithFreshAreas(Network network) {
+        Map<Country, BorderBasedCountryArea> countryAreas = new EnumMap<>(Country.class);
+        Stream.of(FR, ES, PT).forEach(country -> countryAreas.put(country, (BorderBasedCountryArea) new CountryAreaFactory(country).create(network)));
+        return Map.of(
+            "ES_FR", countryAreas.get(ES).getLeavingFlowToCountry(countryAreas.get(FR)),
+            "ES_PT", countryAreas.get(ES).getLeavingFlowToCountry(countryAreas.get(PT))
+        );
+    }
+
+    /**
+     * SWE test network with a loaded HVDC line between Spain and France, an ES-FR tie line made of two dangling lines
+     * and an unpaired dangling line exporting from Spain out of the SWE area.
+     */
+    private Network readNetworkWithHvdcAndDanglingLines() {
+        Network network = Network.read(NETWORK_FILE_NAME, getClass().getResourceAsStream(NETWORK_FILE_NAME));
+        HvdcLine hvdcLine = network.getHvdcLine("EES2AA11 FFR3AA11 1");
+        hvdcLine.getExtension(HvdcAngleDroopActivePowerControl.class).setEnabled(false);
+        hvdcLine.setActivePowerSetpoint(400.);
+        addDanglingLine(network.getVoltageLevel("EES1AA1"), "EES1AA11", "EES1AA11 XESFR1 1", 0.);
+        addDanglingLine(network.getVoltageLevel("FFR1AA1"), "FFR1AA11", "FFR1AA11 XESFR1 1", 0.);
+        network.newTieLine()
+            .setId("XESFR1")
+            .setDanglingLine1("EES1AA11 XESFR1 1")
+            .setDanglingLine2("FFR1AA11 XESFR1 1")
+            .add();
+        addDanglingLine(network.getVoltageLevel("EES1AA1"), "EES4AA11", "EES4AA11 XESMA1 1", 150.);
+        return network;
+    }
+
+    private static void addDanglingLine(VoltageLevel voltageLevel, String busId, String id, double p0) {
+        voltageLevel.newDanglingLine()
+            .setId(id)
+            .setBus(busId)
+            .setConnectableBus(busId)
+            .setR(0.5)
+            .setX(10.)
+            .setG(0.)
+            .setB(0.)
+            .setP0(p0)
+            .setQ0(0.)
+            .add();
+    }
+}
@@ -37,6 +37,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import static com.farao_community.farao.gridcapa_swe_commons.dichotomy.DichotomyDirection.ES_FR;
 import static com.farao_community.farao.gridcapa_swe_commons.dichotomy.DichotomyDirection.ES_PT;
@@ -172,6 +173,169 @@ class SweNetworkShifterTest {
 
     }
 
+    @Test
+    void shiftNetworkWithSecantBalancingNeedsFewerIterationsTest() throws GlskLimitationException, ShiftingException {
+        Network network = Network.read(networkFileName, getClass().getResourceAsStream(networkFileName));
+        Mockito.when(processConfiguration.getShiftMaxIterationNumber()).thenReturn(30);
+        List<ShiftIterations> shiftIterations = new ArrayList<>();
+
+        Mockito.when(processConfiguration.getShiftBalancingMode()).thenReturn(ShiftBalancingMode.FIXED_POINT);
+        Map<String, Double> fixedPointExchanges = shiftStepVariant(halfSeenFrShifter(shiftIterations::add), network, 1000.);
+        Mockito.when(processConfiguration.getShiftBalancingMode()).thenReturn(ShiftBalancingMode.SECANT);
+        Map<String, Double> secantExchanges = shiftStepVariant(halfSeenFrShifter(shiftIterations::add), network, 1000.);
+
+        assertEquals(1000, fixedPointExchanges.get("ES_FR"), 1.);
+        assertEquals(1000, secantExchanges.get("ES_FR"), 1.);
+        assertEquals(0., secantExchanges.get("ES_PT"), 1.);
+        int fixedPointIterations = shiftIterations.get(0).acIterations();
+        int secantIterations = shiftIterations.get(1).acIterations();
+        assertTrue(fixedPointIterations > 2);
+        assertTrue(secantIterations < fixedPointIterations);
+    }
+
+    @Test
+    void shiftNetworkWithDcPreBalancingNeedsFewerAcIterationsTest() throws GlskLimitationException, ShiftingException {
+        Network network = Network.read(networkFileName, getClass().getResourceAsStream(networkFileName));
+        Mockito.when(processConfiguration.getShiftMaxIterationNumber()).thenReturn(30);
+        List<ShiftIterations> shiftIterations = new ArrayList<>();
+
+        Map<String, Double> acOnlyExchanges = shiftStepVariant(halfSeenFrShifter(shiftIterations::add), network, 1000.);
+        Mockito.when(processConfiguration.getShiftDcPreBalancingTolerance()).thenReturn(50.);
+        Map<String, Double> dcPreBalancedExchanges = shiftStepVariant(halfSeenFrShifter(shiftIterations::add), network, 1000.);
+
+        assertEquals(1000, acOnlyExchanges.get("ES_FR"), 1.);
+        assertEquals(1000, dcPreBalancedExchanges.get("ES_FR"), 1.);
+        assertEquals(0., dcPreBalancedExchanges.get("ES_PT"), 1.);
+        assertEquals(0, shiftIterations.get(0).dcIterations());
+        assertTrue(shiftIterations.get(0).acIterations() > 2);
+        assertTrue(shiftIterations.get(1).dcIterations() > 0);
+        assertTrue(shiftIterations.get(1).acIterations() < shiftIterations.get(0).acIterations());
+        assertTrue(network.getVariantManager().getVariantIds().stream().noneMatch(variantId -> variantId.endsWith(" COPY")));
+    }
+
+    /**
+     * Shifter whose FR GLSK has half of its generation in Spain, so that only half of the FR scaling is seen on the
+     * ES-FR border and the fixed point balancing halves the mismatch at each iteration.
+     */
+    private SweNetworkShifter halfSeenFrShifter(Consumer<ShiftIterations> shiftIterationsListener) {
+        Map<String, Double> initialNetPositions = Map.of(ES_EIC, 2317., FR_EIC, -2317., PT_EIC, 0.);
+        Map<String, Scalable> mapScalable = new HashMap<>();
+        mapScalable.put(FR_EIC, Scalable.proportional(List.of(50., 50.), List.of(Scalable.onGenerator("FFR1AA11_generator"), Scalable.onGenerator("EES4AA11_generator"))));
+        mapScalable.put(ES_EIC, Scalable.onGenerator("EES1AA11_generator"));
+        mapScalable.put(PT_EIC, Scalable.onGenerator("PPT1AA11_generator"));
+        return new SweNetworkShifter(
+            businessLogger, D2CC, ES_FR, new ZonalDataImpl<>(mapScalable), new SweD2ccShiftDispatcher(ES_FR, initialNetPositions), 1., 1.,
+            initialNetPositions, processConfiguration, LoadFlowParameters.load(), null, true, shiftIterationsListener
+        );
+    }
+
+    @Test
+    void shiftNetworkWithDcPreBalancingKeepsGlskLimitation() {
+        Network network = Network.read(networkFileName, getClass().getResourceAsStream(networkFileName));
+        Map<String, Double> initialNetPositions = Map.of(ES_EIC, 2317., FR_EIC, -2317., PT_EIC, 0.);
+        ShiftDispatcher shiftDispatcher = new SweD2ccShiftDispatcher(ES_FR, initialNetPositions);
+        SweNetworkShifter sweNetworkShifter = new SweNetworkShifter(
+            businessLogger, D2CC, ES_FR, zonalScalable, shiftDispatcher, 1., 1., initialNetPositions, processConfiguration, LoadFlowParameters.load(), null, true
+        );
+        Mockito.when(processConfiguration.getShiftMaxIterationNumber()).thenReturn(5);
+        Mockito.when(processConfiguration.getShiftDcPreBalancingTolerance()).thenReturn(50.);
+        assertThrows(GlskLimitationException.class, () -> sweNetworkShifter.shiftNetwork(11000., network));
+    }
+
+    @Test
+    void shiftNetworkSuccessWithJournalRollbackTest() throws GlskLimitationException, ShiftingException {
+        Network network = Network.read(networkFileName, getClass().getResourceAsStream(networkFileName));
+        Map<String, Double> initialNetPositions = Map.of(ES_EIC, 2317., FR_EIC, -2317., PT_EIC, 0.);
+        ShiftDispatcher shiftDispatcher = new SweD2ccShiftDispatcher(ES_FR, initialNetPositions);
+        SweNetworkShifter sweNetworkShifter = new SweNetworkShifter(
+            businessLogger, D2CC, ES_FR, zonalScalable, shiftDispatcher, 1., 1., initialNetPositions, processConfiguration, LoadFlowParameters.load(), null, true
+        );
+
+        Mockito.when(processConfiguration.getShiftMaxIterationNumber()).thenReturn(5);
+        Mockito.when(processConfiguration.isShiftJournalRollback()).thenReturn(true);
+        sweNetworkShifter.shiftNetwork(10820, network); // incomplete shift for ES in the first iteration, the working variant is rolled back
+
+        Map<String, Double> shiftedExchanges = CountryBalanceComputation.computeSweBordersExchanges(network);
+        assertEquals(10820, shiftedExchanges.get("ES_FR"), 1.);
+        assertEquals(0., shiftedExchanges.get("ES_PT"), 1.);
+        assertEquals(List.of(network.getVariantManager().getWorkingVariantId()), List.copyOf(network.getVariantManager().getVariantIds()));
+    }
+
+    @Test
+    void shiftNetworkStartsFromClosestBalancedVariant() throws GlskLimitationException, ShiftingException {
+        Network network = Network.read(networkFileName, getClass().getResourceAsStream(networkFileName));
+        Map<String, Double> initialNetPositions = Map.of(ES_EIC, 2317., FR_EIC, -2317., PT_EIC, 0.);
+        ShiftDispatcher shiftDispatcher = new SweD2ccShiftDispatcher(ES_FR, initialNetPositions);
+        SweNetworkShifter sweNetworkShifter = new SweNetworkShifter(
+            businessLogger, D2CC, ES_FR, zonalScalable, shiftDispatcher, 1., 1., initialNetPositions, processConfiguration, LoadFlowParameters.load(), null, true
+        );
+        Mockito.when(processConfiguration.getShiftMaxIterationNumber()).thenReturn(5);
+        Mockito.when(processConfiguration.getShiftBalancedVariantsNumber()).thenReturn(1);
+
+        shiftStepVariant(sweNetworkShifter, network, 3000.);
+        assertTrue(network.getVariantManager().getVariantIds().contains("ES-FR BALANCED 3000.0"));
+
+        Map<String, Double> shiftedExchanges = shiftStepVariant(sweNetworkShifter, network, 3500.);
+        Mockito.verify(businessLogger).info("Shift starts from the balanced variant {}", "ES-FR BALANCED 3000.0");
+        assertEquals(3500, shiftedExchanges.get("ES_FR"), 1.);
+        assertEquals(0., shiftedExchanges.get("ES_PT"), 1.);
+        assertFalse(network.getVariantManager().getVariantIds().contains("ES-FR BALANCED 3000.0"));
+
+        // Going back to a lower exchange would scale merit order GLSK backwards, it starts from the initial variant
+        shiftedExchanges = shiftStepVariant(sweNetworkShifter, network, 2500.);
+        Mockito.verify(businessLogger, Mockito.never()).info("Shift starts from the balanced variant {}", "ES-FR BALANCED 3500.0");
+        assertEquals(2500, shiftedExchanges.get("ES_FR"), 1.);
+
+        SweNetworkShifter.removeBalancedVariants(network, ES_FR);
+        assertTrue(network.getVariantManager().getVariantIds().stream().noneMatch(variantId -> variantId.contains("BALANCED")));
+    }
+
+    @Test
+    void shiftNetworkStartsWithBalancingCorrectionOfPreviousSteps() throws GlskLimitationException, ShiftingException {
+        Network network = Network.read(networkFileName, getClass().getResourceAsStream(networkFileName));
+        Map<String, Double> initialNetPositions = Map.of(ES_EIC, 2317., FR_EIC, -2317., PT_EIC, 0.);
+        Map<Double, Integer> iterationsWithoutCarryOver = new HashMap<>();
+        Map<Double, Integer> iterationsWithCarryOver = new HashMap<>();
+        SweNetworkShifter sweNetworkShifter = new SweNetworkShifter(
+            businessLogger, D2CC, ES_FR, zonalScalable, new SweD2ccShiftDispatcher(ES_FR, initialNetPositions), 1., 1., initialNetPositions, processConfiguration,
+            LoadFlowParameters.load(), null, true, shiftIterations -> iterationsWithoutCarryOver.put(shiftIterations.stepValue(), shiftIterations.acIterations())
+        );
+        SweNetworkShifter carryOverShifter = new SweNetworkShifter(
+            businessLogger, D2CC, ES_FR, zonalScalable, new SweD2ccShiftDispatcher(ES_FR, initialNetPositions), 1., 1., initialNetPositions, processConfiguration,
+            LoadFlowParameters.load(), null, true, shiftIterations -> iterationsWithCarryOver.put(shiftIterations.stepValue(), shiftIterations.acIterations())
+        );
+        Mockito.when(processConfiguration.getShiftMaxIterationNumber()).thenReturn(5);
+
+        shiftStepVariant(sweNetworkShifter, network, 1200.);
+        Mockito.when(processConfiguration.isShiftBalancingCorrectionCarryOver()).thenReturn(true);
+        shiftStepVariant(carryOverShifter, network, 1000.);
+        shiftStepVariant(carryOverShifter, network, 1400.);
+        Map<String, Double> shiftedExchanges = shiftStepVariant(carryOverShifter, network, 1200.);
+
+        assertEquals(1200, shiftedExchanges.get("ES_FR"), 1.);
+        assertEquals(0., shiftedExchanges.get("ES_PT"), 1.);
+        // The correction interpolated between the two previous steps saves the iterations spent learning it
+        assertTrue(iterationsWithoutCarryOver.get(1200.) >= 2);
+        assertTrue(iterationsWithCarryOver.get(1200.) < iterationsWithoutCarryOver.get(1200.));
+    }
+
+    /**
+     * Shifts a copy of the initial variant, as done by the dichotomy engine for each step.
+     */
+    private static Map<String, Double> shiftStepVariant(SweNetworkShifter sweNetworkShifter, Network network, double stepValue) throws GlskLimitationException, ShiftingException {
+        String initialVariantId = network.getVariantManager().getWorkingVariantId();
+        String stepVariantId = "STEP " + stepValue;
+        network.getVariantManager().cloneVariant(initialVariantId, stepVariantId);
+        network.getVariantManager().setWorkingVariant(stepVariantId);
+        try {
+            sweNetworkShifter.shiftNetwork(stepValue, network);
+            return CountryBalanceComputation.computeSweBordersExchanges(network);
+        } finally {
+            network.getVariantManager().setWorkingVariant(initialVariantId);
+            network.getVariantManager().removeVariant(stepVariantId);
+        }
+    }
+
     @Test
     void shiftNetworWithGlskLimitationEs() {
         Network network = Network.read(networkFileName, getClass().getResourceAsStream(networkFileName));
@@ -6,6 +6,7 @@
  */
 package com.farao_community.farao.gridcapa_swe_commons.shift;
 
+import com.farao_community.farao.gridcapa_swe_commons.exception.SweInvalidDataException;
 import com.farao_community.farao.gridcapa_swe_commons.resource.SweEICode;
 import com.powsybl.glsk.commons.ZonalData;
 import com.powsybl.iidm.modification.scalable.Scalable;
@@ -13,10 +14,13 @@ import com.powsybl.iidm.network.Network;
 import org.junit.jupiter.api.Test;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * @author Theo Pascoli {@literal <theo.pascoli at rte-france.com>}
@@ -39,4 +43,28 @@ class ZonalScalableProviderTest {
         assertEquals("FFR1AA1 _generator", scalableFR.filterInjections(network).get(0).getId());
     }
 
+    @Test
+    void glskFileIsOpenedWithGivenStreamOpenerOnlyOnce() {
+        List<String> openedUrls = new ArrayList<>();
+        this.zonalScalable = new ZonalScalableProvider(new GlskDocumentCache(1), url -> {
+            openedUrls.add(url);
+            return getClass().getResourceAsStream("/shift/" + glskFilename);
+        });
+        String glskUrl = "http://minio/shift/" + glskFilename;
+        OffsetDateTime timestamp = OffsetDateTime.parse("2021-02-09T19:30:00Z");
+        Network network = Network.read("hvdc/TestCase16Nodes.xiidm", getClass().getResourceAsStream("/hvdc/TestCase16Nodes.xiidm"));
+        zonalScalable.get(glskUrl, network, timestamp);
+        zonalScalable.get(glskUrl, network, timestamp);
+        assertEquals(List.of(glskUrl), openedUrls);
+    }
+
+    @Test
+    void glskFileRejectedByStreamOpenerIsNotImported() {
+        this.zonalScalable = new ZonalScalableProvider(new GlskDocumentCache(1), url -> {
+            throw new SweInvalidDataException("URL is not whitelisted");
+        });
+        OffsetDateTime timestamp = OffsetDateTime.parse("2021-02-09T19:30:00Z");
+        Network network = Network.read("hvdc/TestCase16Nodes.xiidm", getClass().getResourceAsStream("/hvdc/TestCase16Nodes.xiidm"));
+        assertThrows(SweInvalidDataException.class, () -> zonalScalable.get("http://other/" + glskFilename, network, timestamp));
+    }
 }
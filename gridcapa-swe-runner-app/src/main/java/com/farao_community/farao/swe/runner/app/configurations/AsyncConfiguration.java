@@ -13,6 +13,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
 
 /**
@@ -29,4 +30,13 @@ public class AsyncConfiguration  {
         return new ForkJoinPool(Math.min(32767, Runtime.getRuntime().availableProcessors()), factory, null, false);
     }
 
+    /**
+     * Dichotomies mostly wait for remote RAOs, each one is run on its own virtual thread. Their shifts are run on the
+     * thread pool task executor.
+     */
+    @Bean(name = "dichotomyTaskExecutor")
+    public Executor dichotomyExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.swe.runner.app.configurations;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Local disk cache of the input CGMES profiles.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Configuration
+@ConfigurationProperties(prefix = "swe-runner.cgmes-cache")
+public class CgmesCacheConfiguration {
+
+    private boolean enabled = true;
+
+    private String directory = System.getProperty("java.io.tmpdir") + "/swe-cgmes-cache";
+
+    /**
+     * Size above which least recently used entries are evicted.
+     */
+    private long maxSizeMb = 1024;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    public long getMaxSizeMb() {
+        return maxSizeMb;
+    }
+
+    public void setMaxSizeMb(long maxSizeMb) {
+        this.maxSizeMb = maxSizeMb;
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.swe.runner.app.configurations;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Checkpoints of the dichotomy steps, used to resume interrupted or failed runs.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Configuration
+@ConfigurationProperties(prefix = "swe-runner.dichotomy-checkpoint")
+public class DichotomyCheckpointConfiguration {
+
+    private boolean enabled = false;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+}
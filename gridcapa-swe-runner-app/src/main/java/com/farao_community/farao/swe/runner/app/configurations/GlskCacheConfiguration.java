@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.swe.runner.app.configurations;
+
+import com.farao_community.farao.gridcapa_swe_commons.shift.GlskDocumentCache;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Cache of the parsed GLSK documents, shared by all the directions and runs.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Configuration
+@ConfigurationProperties(prefix = "swe-runner.glsk-cache")
+public class GlskCacheConfiguration {
+
+    /**
+     * Maximum number of parsed GLSK documents kept in memory, least recently used ones are evicted first.
+     */
+    private int maxEntries = 4;
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    @Bean
+    public GlskDocumentCache glskDocumentCache() {
+        return new GlskDocumentCache(maxEntries);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.swe.runner.app.configurations;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Tuning of the input CGMES files import.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Configuration
+@ConfigurationProperties(prefix = "swe-runner.network-import")
+public class NetworkImportConfiguration {
+
+    /**
+     * Maximum number of input files downloaded at the same time.
+     */
+    private int downloadParallelism = 4;
+
+    /**
+     * When enabled, the merged network is imported from the downloaded profiles kept in memory,
+     * otherwise they are first written to a temporary zip archive.
+     * <p>
+     * In both modes all the profiles are downloaded into memory at once, as the local CGMES cache serves them as byte
+     * arrays. The zip mode only releases them before the import instead of keeping them until its end.
+     */
+    private boolean inMemoryImport = true;
+
+    /**
+     * When enabled, all dichotomy directions work on their own variant of a single network instance
+     * instead of on four distinct copies of the network. Directions are then run one after the other.
+     */
+    private boolean sharedNetwork = false;
+
+    /**
+     * Maximum number of import steps (network copies, CRAC creations, uploads) run at the same time.
+     */
+    private int taskParallelism = 4;
+
+    public int getDownloadParallelism() {
+        return downloadParallelism;
+    }
+
+    public void setDownloadParallelism(int downloadParallelism) {
+        this.downloadParallelism = downloadParallelism;
+    }
+
+    public boolean isInMemoryImport() {
+        return inMemoryImport;
+    }
+
+    public void setInMemoryImport(boolean inMemoryImport) {
+        this.inMemoryImport = inMemoryImport;
+    }
+
+    public boolean isSharedNetwork() {
+        return sharedNetwork;
+    }
+
+    public void setSharedNetwork(boolean sharedNetwork) {
+        this.sharedNetwork = sharedNetwork;
+    }
+
+    public int getTaskParallelism() {
+        return taskParallelism;
+    }
+
+    public void setTaskParallelism(int taskParallelism) {
+        this.taskParallelism = taskParallelism;
+    }
+}
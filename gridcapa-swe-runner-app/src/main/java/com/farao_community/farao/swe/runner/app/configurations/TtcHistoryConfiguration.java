@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.swe.runner.app.configurations;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * History of the TTC computed for previous timestamps, used to narrow the starting interval of the dichotomies.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Configuration
+@ConfigurationProperties(prefix = "swe-runner.ttc-history")
+public class TtcHistoryConfiguration {
+
+    private boolean enabled = false;
+
+    private String file = System.getProperty("java.io.tmpdir") + "/swe-ttc-history.json";
+
+    /**
+     * Results of timestamps at most this number of hours away from the computed one are used.
+     */
+    private int neighbourhoodHours = 2;
+
+    /**
+     * Margin, in MW, added on both sides of the neighbouring results to build the starting interval.
+     */
+    private double margin = 300;
+
+    /**
+     * Number of timestamps kept for each process type and direction, oldest ones are removed first.
+     */
+    private int maxEntries = 24 * 31;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getFile() {
+        return file;
+    }
+
+    public void setFile(String file) {
+        this.file = file;
+    }
+
+    public int getNeighbourhoodHours() {
+        return neighbourhoodHours;
+    }
+
+    public void setNeighbourhoodHours(int neighbourhoodHours) {
+        this.neighbourhoodHours = neighbourhoodHours;
+    }
+
+    public double getMargin() {
+        return margin;
+    }
+
+    public void setMargin(double margin) {
+        this.margin = margin;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+}
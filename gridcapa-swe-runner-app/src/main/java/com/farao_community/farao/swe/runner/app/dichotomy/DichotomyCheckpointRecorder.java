@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.swe.runner.app.dichotomy;
+
+import com.farao_community.farao.dichotomy.api.NetworkShifter;
+import com.farao_community.farao.dichotomy.api.NetworkValidator;
+import com.farao_community.farao.dichotomy.api.exceptions.GlskLimitationException;
+import com.farao_community.farao.dichotomy.api.exceptions.RaoFailureException;
+import com.farao_community.farao.dichotomy.api.exceptions.RaoInterruptionException;
+import com.farao_community.farao.dichotomy.api.exceptions.ShiftingException;
+import com.farao_community.farao.dichotomy.api.exceptions.ValidationException;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import com.farao_community.farao.swe.runner.app.domain.DichotomyCheckpoint;
+import com.farao_community.farao.swe.runner.app.domain.SweData;
+import com.farao_community.farao.swe.runner.app.domain.SweDichotomyValidationData;
+import com.farao_community.farao.swe.runner.app.services.DichotomyCheckpointService;
+import com.powsybl.iidm.network.Network;
+
+/**
+ * Network shifter and validator saving each validated step of the dichotomy in its checkpoint.
+ * The shifted value is kept from the shift call, as the validation call does not give it.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class DichotomyCheckpointRecorder implements NetworkShifter, NetworkValidator<SweDichotomyValidationData> {
+
+    private final NetworkShifter networkShifter;
+    private final NetworkValidator<SweDichotomyValidationData> networkValidator;
+    private final DichotomyCheckpointService dichotomyCheckpointService;
+    private final DichotomyCheckpoint checkpoint;
+    private final SweData sweData;
+    private double currentStepValue;
+
+    public DichotomyCheckpointRecorder(NetworkShifter networkShifter,
+                                       NetworkValidator<SweDichotomyValidationData> networkValidator,
+                                       DichotomyCheckpointService dichotomyCheckpointService,
+                                       DichotomyCheckpoint checkpoint,
+                                       SweData sweData) {
+        this.networkShifter = networkShifter;
+        this.networkValidator = networkValidator;
+        this.dichotomyCheckpointService = dichotomyCheckpointService;
+        this.checkpoint = checkpoint;
+        this.sweData = sweData;
+    }
+
+    @Override
+    public void shiftNetwork(double stepValue, Network network) throws GlskLimitationException, ShiftingException {
+        currentStepValue = stepValue;
+        networkShifter.shiftNetwork(stepValue, network);
+    }
+
+    @Override
+    public DichotomyStepResult<SweDichotomyValidationData> validateNetwork(Network network, DichotomyStepResult<SweDichotomyValidationData> lastDichotomyStepResult) throws ValidationException, RaoFailureException, RaoInterruptionException {
+        final DichotomyStepResult<SweDichotomyValidationData> stepResult = networkValidator.validateNetwork(network, lastDichotomyStepResult);
+        dichotomyCheckpointService.saveStep(checkpoint, sweData, currentStepValue, stepResult);
+        return stepResult;
+    }
+}
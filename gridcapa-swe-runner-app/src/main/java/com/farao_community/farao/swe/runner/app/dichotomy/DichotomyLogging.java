@@ -69,6 +69,10 @@ public class DichotomyLogging {
             "Start dichotomy : minimum dichotomy index: {}, maximum dichotomy index: {}, dichotomy precision: {}",
             parameters.minValue(), parameters.maxValue(), parameters.precision()
         );
+        if (parameters.warmStartInterval() != null) {
+            businessLogger.info("Dichotomy starts from interval [{}, {}] expected from the TTC of neighbouring timestamps",
+                parameters.warmStartInterval().lowerValue(), parameters.warmStartInterval().upperValue());
+        }
     }
 
     public void logEndOneDichotomy() {
@@ -158,7 +162,7 @@ public class DichotomyLogging {
         return DATE_TIME_FORMATTER.format(localOffsetDateTime);
     }
 
-    private static boolean isBetweenFranceAndSpain(final DichotomyDirection direction) {
+    static boolean isBetweenFranceAndSpain(final DichotomyDirection direction) {
         return direction.equals(DichotomyDirection.FR_ES) || direction.equals(DichotomyDirection.ES_FR);
     }
 
@@ -8,19 +8,24 @@ package com.farao_community.farao.swe.runner.app.dichotomy;
 
 import com.farao_community.farao.gridcapa_swe_commons.dichotomy.DichotomyDirection;
 import com.farao_community.farao.swe.runner.api.resource.SweResponse;
+import com.farao_community.farao.swe.runner.app.domain.GeneratorActivePowerLimits;
 import com.farao_community.farao.swe.runner.app.domain.SweData;
 import com.farao_community.farao.swe.runner.app.domain.SweDichotomyResult;
 import com.farao_community.farao.swe.runner.app.domain.SweTaskParameters;
 import com.farao_community.farao.swe.runner.app.parallelization.DichotomyParallelizationWorker;
 import com.farao_community.farao.swe.runner.app.parallelization.ExecutionResult;
 import com.farao_community.farao.swe.runner.app.services.InterruptionService;
+import com.farao_community.farao.swe.runner.app.services.NetworkService;
 import com.farao_community.farao.swe.runner.app.services.OutputService;
+import com.farao_community.farao.swe.runner.app.services.TtcHistoryStore;
+import com.powsybl.iidm.network.Network;
 import org.apache.commons.math3.util.Pair;
 import org.slf4j.Logger;
 import org.springframework.stereotype.Service;
 
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
@@ -35,14 +40,16 @@ public class DichotomyParallelization {
     private final OutputService outputService;
     private final DichotomyParallelizationWorker worker;
     private final InterruptionService interruptionService;
+    private final TtcHistoryStore ttcHistoryStore;
     private final Logger businessLogger;
 
-    public DichotomyParallelization(DichotomyLogging dichotomyLogging, OutputService outputService, DichotomyParallelizationWorker worker, InterruptionService interruptionService, Logger businessLogger) {
+    public DichotomyParallelization(DichotomyLogging dichotomyLogging, OutputService outputService, DichotomyParallelizationWorker worker, InterruptionService interruptionService, TtcHistoryStore ttcHistoryStore, Logger businessLogger) {
 
         this.dichotomyLogging = dichotomyLogging;
         this.outputService = outputService;
         this.worker = worker;
         this.interruptionService = interruptionService;
+        this.ttcHistoryStore = ttcHistoryStore;
         this.businessLogger = businessLogger;
     }
 
@@ -51,6 +58,7 @@ public class DichotomyParallelization {
                                        final OffsetDateTime startTime) {
         final ExecutionResult<SweDichotomyResult> executionResult = runAndGetSweDichotomyResults(sweData, sweTaskParameters, startTime);
         dichotomyLogging.logEndAllDichotomies();
+        executionResult.getResult().forEach(sweDichotomyResult -> ttcHistoryStore.record(sweData, sweDichotomyResult));
         final boolean interrupted = executionResult.getResult().stream().anyMatch(SweDichotomyResult::isInterrupted);
         final String ttcDocUrl = interrupted ? "" : outputService.buildAndExportTtcDocument(sweData, executionResult);
         interruptionService.removeRunToBeInterrupted(sweData.getId());
@@ -62,20 +70,17 @@ public class DichotomyParallelization {
     private ExecutionResult<SweDichotomyResult> runAndGetSweDichotomyResults(final SweData sweData,
                                                                              final SweTaskParameters sweTaskParameters,
                                                                              final OffsetDateTime startTime) {
+        final List<DichotomyDirection> directions = Arrays.stream(DichotomyDirection.values())
+            .filter(sweTaskParameters::isRunDirection)
+            .toList();
+        if (sweData.isNetworkShared()) {
+            return new ExecutionResult<>(runOneAfterAnother(sweData, sweTaskParameters, directions, startTime));
+        }
         List<SweDichotomyResult> results = new ArrayList<>();
         List<Pair<DichotomyDirection, Future<SweDichotomyResult>>> futures = new ArrayList<>();
         try {
-            if (sweTaskParameters.isRunDirectionEsFr()) {
-                futures.add(Pair.create(DichotomyDirection.ES_FR, worker.runDichotomyForOneDirection(sweData, sweTaskParameters, DichotomyDirection.ES_FR, startTime)));
-            }
-            if (sweTaskParameters.isRunDirectionFrEs()) {
-                futures.add(Pair.create(DichotomyDirection.FR_ES, worker.runDichotomyForOneDirection(sweData, sweTaskParameters, DichotomyDirection.FR_ES, startTime)));
-            }
-            if (sweTaskParameters.isRunDirectionEsPt()) {
-                futures.add(Pair.create(DichotomyDirection.ES_PT, worker.runDichotomyForOneDirection(sweData, sweTaskParameters, DichotomyDirection.ES_PT, startTime)));
-            }
-            if (sweTaskParameters.isRunDirectionPtEs()) {
-                futures.add(Pair.create(DichotomyDirection.PT_ES, worker.runDichotomyForOneDirection(sweData, sweTaskParameters, DichotomyDirection.PT_ES, startTime)));
+            for (DichotomyDirection direction : directions) {
+                futures.add(Pair.create(direction, worker.runDichotomyForOneDirection(sweData, sweTaskParameters, direction, startTime)));
             }
 
             for (Pair<DichotomyDirection, Future<SweDichotomyResult>> future : futures) {
@@ -88,6 +93,39 @@ public class DichotomyParallelization {
         return new ExecutionResult<>(results);
     }
 
+    /**
+     * Directions sharing the same network are run one after the other: shifts modify Pmin and Pmax of generators,
+     * which are not part of the variants, and connect generators and transformers of the network. Each direction
+     * starts from the generator limits of the imported network, which are restored once all directions are done.
+     */
+    private List<SweDichotomyResult> runOneAfterAnother(final SweData sweData,
+                                                        final SweTaskParameters sweTaskParameters,
+                                                        final List<DichotomyDirection> directions,
+                                                        final OffsetDateTime startTime) {
+        List<SweDichotomyResult> results = new ArrayList<>();
+        if (directions.isEmpty()) {
+            return results;
+        }
+        final Network sharedNetwork = NetworkService.getNetworkByDirection(sweData, directions.getFirst());
+        final GeneratorActivePowerLimits initialGeneratorLimits = GeneratorActivePowerLimits.of(sharedNetwork);
+        try {
+            for (DichotomyDirection direction : directions) {
+                initialGeneratorLimits.restore(sharedNetwork);
+                final Future<SweDichotomyResult> future = worker.runDichotomyForOneDirection(sweData, sweTaskParameters, direction, startTime);
+                try {
+                    results.add(waitAndGet(Pair.create(direction, future)));
+                } catch (InterruptedException e) {
+                    future.cancel(true);
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        } finally {
+            initialGeneratorLimits.restore(sharedNetwork);
+        }
+        return results;
+    }
+
     private SweDichotomyResult waitAndGet(Pair<DichotomyDirection, Future<SweDichotomyResult>> dichotomy) throws InterruptedException {
         try {
             return dichotomy.getValue().get();
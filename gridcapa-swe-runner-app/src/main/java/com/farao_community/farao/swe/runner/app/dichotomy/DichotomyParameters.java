@@ -10,5 +10,8 @@ public record DichotomyParameters(double minValue,
                                   double maxValue,
                                   double precision,
                                   boolean runAngleCheck,
-                                  boolean runGlskChecksBeforeLoadFlow) {
+                                  boolean runGlskChecksBeforeLoadFlow,
+                                  int parallelSteps,
+                                  WarmStartInterval warmStartInterval,
+                                  boolean marginGuided) {
 }
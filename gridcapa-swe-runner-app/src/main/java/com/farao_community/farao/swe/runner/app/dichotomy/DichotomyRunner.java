@@ -7,23 +7,41 @@
 package com.farao_community.farao.swe.runner.app.dichotomy;
 
 import com.farao_community.farao.dichotomy.api.DichotomyEngine;
+import com.farao_community.farao.dichotomy.api.NetworkShifter;
 import com.farao_community.farao.dichotomy.api.NetworkValidator;
 import com.farao_community.farao.dichotomy.api.index.HalfRangeDivisionIndexStrategy;
 import com.farao_community.farao.dichotomy.api.index.Index;
+import com.farao_community.farao.dichotomy.api.index.IndexStrategy;
 import com.farao_community.farao.dichotomy.api.results.DichotomyResult;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
 import com.farao_community.farao.gridcapa_swe_commons.dichotomy.DichotomyDirection;
+import com.farao_community.farao.gridcapa_swe_commons.shift.SweNetworkShifter;
 import com.farao_community.farao.rao_runner.starter.RaoRunnerClient;
+import com.farao_community.farao.swe.runner.app.configurations.DichotomyPipeliningConfiguration;
+import com.farao_community.farao.swe.runner.app.domain.DichotomyCheckpoint;
 import com.farao_community.farao.swe.runner.app.domain.SweData;
 import com.farao_community.farao.swe.runner.app.domain.SweDichotomyValidationData;
 import com.farao_community.farao.swe.runner.app.domain.SweTaskParameters;
+import com.farao_community.farao.swe.runner.app.services.DichotomyCheckpointService;
 import com.farao_community.farao.swe.runner.app.services.FileExporter;
 import com.farao_community.farao.swe.runner.app.services.FileImporter;
 import com.farao_community.farao.swe.runner.app.services.InterruptionService;
+import com.farao_community.farao.swe.runner.app.services.NetworkService;
+import com.farao_community.farao.swe.runner.app.services.TtcHistoryStore;
+import com.farao_community.farao.swe.runner.app.utils.MdcPropagatingExecutor;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.loadflow.LoadFlowParameters;
+import com.powsybl.openrao.data.crac.api.Crac;
 import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
 import static com.farao_community.farao.swe.runner.app.services.NetworkService.getNetworkByDirection;
 import static com.farao_community.farao.swe.runner.app.utils.OpenLoadFlowParametersUtil.getLoadFlowParameters;
 
@@ -40,6 +58,11 @@ public class DichotomyRunner {
     private final NetworkShifterProvider networkShifterProvider;
     private final RaoRunnerClient raoRunnerClient;
     private final InterruptionService interruptionService;
+    private final NetworkService networkService;
+    private final TtcHistoryStore ttcHistoryStore;
+    private final DichotomyCheckpointService dichotomyCheckpointService;
+    private final boolean pipelinedShifts;
+    private final Executor shiftExecutor;
 
     private final Logger businessLogger;
 
@@ -49,6 +72,11 @@ public class DichotomyRunner {
                            final NetworkShifterProvider networkShifterProvider,
                            final RaoRunnerClient raoRunnerClient,
                            final InterruptionService interruptionService,
+                           final NetworkService networkService,
+                           final TtcHistoryStore ttcHistoryStore,
+                           final DichotomyCheckpointService dichotomyCheckpointService,
+                           final DichotomyPipeliningConfiguration dichotomyPipeliningConfiguration,
+                           @Qualifier("threadPoolTaskExecutor") final Executor shiftExecutor,
                            final Logger businessLogger) {
         this.dichotomyLogging = dichotomyLogging;
         this.fileExporter = fileExporter;
@@ -56,6 +84,11 @@ public class DichotomyRunner {
         this.networkShifterProvider = networkShifterProvider;
         this.raoRunnerClient = raoRunnerClient;
         this.interruptionService = interruptionService;
+        this.networkService = networkService;
+        this.ttcHistoryStore = ttcHistoryStore;
+        this.dichotomyCheckpointService = dichotomyCheckpointService;
+        this.pipelinedShifts = dichotomyPipeliningConfiguration.isEnabled();
+        this.shiftExecutor = new MdcPropagatingExecutor(shiftExecutor);
         this.businessLogger = businessLogger;
     }
 
@@ -63,30 +96,161 @@ public class DichotomyRunner {
                                                            final SweTaskParameters sweTaskParameters,
                                                            final DichotomyDirection direction) {
 
-        final DichotomyParameters dichotomyParameters = getDichotomyParameters(sweTaskParameters, direction);
+        final DichotomyParameters dichotomyParameters = getDichotomyParameters(sweData, sweTaskParameters, direction);
         dichotomyLogging.logStartDichotomy(dichotomyParameters);
-        final DichotomyEngine<SweDichotomyValidationData> engine =
-            buildDichotomyEngine(sweData, direction, dichotomyParameters, getLoadFlowParameters(sweTaskParameters));
+        // Lanes of the direction are run on a pool bounded by the number of steps evaluated at the same time, none is
+        // needed when the engine evaluates its steps alone
+        final int laneThreadCount = getLaneThreadCount(dichotomyParameters);
+        final ExecutorService laneExecutorService = laneThreadCount > 0 ? Executors.newFixedThreadPool(laneThreadCount) : null;
+        try {
+            final DichotomyEngine<SweDichotomyValidationData> engine =
+                buildDichotomyEngine(sweData, direction, dichotomyParameters, getLoadFlowParameters(sweTaskParameters),
+                    dichotomyCheckpointService.open(sweData, sweTaskParameters, direction),
+                    laneExecutorService != null ? new MdcPropagatingExecutor(laneExecutorService) : null);
+
+            final Network networkForDirection = getNetworkByDirection(sweData, direction);
+            try {
+                return engine.run(networkForDirection);
+            } finally {
+                SweNetworkShifter.removeBalancedVariants(networkForDirection, direction);
+            }
+        } finally {
+            // Steps still running once the dichotomy is over are not needed anymore
+            if (laneExecutorService != null) {
+                laneExecutorService.shutdownNow();
+            }
+        }
+    }
 
-        final Network networkForDirection = getNetworkByDirection(sweData, direction);
+    /**
+     * Speculative steps evaluate all the points of a round but the one of the engine, pipelined shifts prepare the
+     * two candidates of the next step.
+     */
+    private int getLaneThreadCount(final DichotomyParameters parameters) {
+        if (parameters.parallelSteps() > 1) {
+            return parameters.parallelSteps() - 1;
+        }
+        return isPipelined(parameters) ? 2 : 0;
+    }
 
-        return engine.run(networkForDirection);
+    /**
+     * Shifts are pipelined only with the half range division, the candidates of the next step being unknown otherwise.
+     */
+    private boolean isPipelined(final DichotomyParameters parameters) {
+        return pipelinedShifts && parameters.parallelSteps() <= 1 && !parameters.marginGuided() && parameters.warmStartInterval() == null;
     }
 
+    /**
+     * @param laneExecutor executor of the steps evaluated ahead of the engine, null when there are none
+     */
     DichotomyEngine<SweDichotomyValidationData> buildDichotomyEngine(final SweData sweData,
                                                                      final DichotomyDirection direction,
                                                                      final DichotomyParameters parameters,
-                                                                     final LoadFlowParameters loadFlowParameters) {
+                                                                     final LoadFlowParameters loadFlowParameters,
+                                                                     final DichotomyCheckpoint checkpoint,
+                                                                     final Executor laneExecutor) {
+        final Index<SweDichotomyValidationData> index = new Index<>(parameters.minValue(), parameters.maxValue(), parameters.precision());
+        if (!checkpoint.getSteps().isEmpty()) {
+            dichotomyCheckpointService.restoreSteps(checkpoint, getNetworkByDirection(sweData, direction), index);
+        }
+        // Dichotomies are run on virtual threads, their shifts are run on the platform threads of the shift executor
+        NetworkShifter networkShifter = new ExecutorNetworkShifter(
+            networkShifterProvider.get(sweData, direction, loadFlowParameters, parameters.runGlskChecksBeforeLoadFlow()), shiftExecutor);
+        NetworkValidator<SweDichotomyValidationData> networkValidator = getNetworkValidator(sweData, direction, parameters.runAngleCheck(), loadFlowParameters);
+        logIgnoredSettings(direction, parameters);
+        final IndexStrategy<SweDichotomyValidationData> indexStrategy;
+        if (parameters.parallelSteps() > 1) {
+            final SpeculativeIndexStrategy<SweDichotomyValidationData> speculativeIndexStrategy = new SpeculativeIndexStrategy<>(parameters.minValue(), parameters.maxValue(), parameters.precision(), parameters.parallelSteps());
+            final SpeculativeStepEvaluator speculativeStepEvaluator = new SpeculativeStepEvaluator(networkShifter, networkValidator, speculativeIndexStrategy,
+                network -> getLaneFactory(sweData, direction, network, parameters, loadFlowParameters), laneExecutor);
+            indexStrategy = speculativeIndexStrategy;
+            networkShifter = speculativeStepEvaluator;
+            networkValidator = speculativeStepEvaluator;
+        } else if (parameters.marginGuided()) {
+            indexStrategy = new MarginGuidedIndexStrategy<>(parameters.minValue(), parameters.maxValue(), parameters.precision(), getWorstMarginFunction(sweData, direction));
+        } else if (parameters.warmStartInterval() != null) {
+            indexStrategy = new WarmStartIndexStrategy<>(parameters.minValue(), parameters.maxValue(), parameters.warmStartInterval());
+        } else {
+            indexStrategy = HALF_INDEX_STRATEGY_CONFIGURATION;
+            if (isPipelined(parameters)) {
+                final PipelinedStepEvaluator pipelinedStepEvaluator = new PipelinedStepEvaluator(networkShifter, networkValidator, index, parameters.minValue(), parameters.precision(),
+                    network -> getLaneFactory(sweData, direction, network, parameters, loadFlowParameters), laneExecutor);
+                networkShifter = pipelinedStepEvaluator;
+                networkValidator = pipelinedStepEvaluator;
+            }
+        }
+        if (checkpoint.isEnabled()) {
+            final DichotomyCheckpointRecorder dichotomyCheckpointRecorder = new DichotomyCheckpointRecorder(networkShifter, networkValidator, dichotomyCheckpointService, checkpoint, sweData);
+            networkShifter = dichotomyCheckpointRecorder;
+            networkValidator = dichotomyCheckpointRecorder;
+        }
         return DichotomyEngine.<SweDichotomyValidationData>builder()
-            .withIndex(new Index<>(parameters.minValue(), parameters.maxValue(), parameters.precision()))
-            .withIndexStrategy(HALF_INDEX_STRATEGY_CONFIGURATION)
+            .withIndex(index)
+            .withIndexStrategy(indexStrategy)
             .withInterruptionStrategy(interruptionService)
-            .withNetworkShifter(networkShifterProvider.get(sweData, direction, loadFlowParameters, parameters.runGlskChecksBeforeLoadFlow()))
-            .withNetworkValidator(getNetworkValidator(sweData, direction, parameters.runAngleCheck(), loadFlowParameters))
+            .withNetworkShifter(networkShifter)
+            .withNetworkValidator(networkValidator)
             .withRunId(sweData.getId())
             .build();
     }
 
+    /**
+     * Parallel steps, margin guided dichotomy, warm start and pipelined shifts each drive the choice of the next
+     * steps, only the first of them which is set is applied. Margin guided dichotomy with parallel steps is rejected
+     * with the task parameters, the other settings of the runner are reported when they are ignored.
+     */
+    private void logIgnoredSettings(final DichotomyDirection direction, final DichotomyParameters parameters) {
+        final String reason;
+        if (parameters.parallelSteps() > 1) {
+            reason = "several dichotomy steps are evaluated at the same time";
+        } else if (parameters.marginGuided()) {
+            reason = "the dichotomy is margin guided";
+        } else if (parameters.warmStartInterval() != null) {
+            reason = "the dichotomy starts from the TTC of neighbouring timestamps";
+        } else {
+            return;
+        }
+        final boolean warmStartIgnored = parameters.parallelSteps() > 1 || parameters.marginGuided();
+        if (warmStartIgnored && parameters.warmStartInterval() != null) {
+            businessLogger.warn("[{}] Warm start from the TTC of neighbouring timestamps is ignored as {}", direction.getDashName(), reason);
+        }
+        if (pipelinedShifts) {
+            businessLogger.warn("[{}] Pipelined shifts are ignored as {}", direction.getDashName(), reason);
+        }
+    }
+
+    /**
+     * Lanes of the speculative steps are copies of the network of the direction, each one with its own shifter,
+     * as shifters keep scaling state that cannot be shared between threads.
+     */
+    private Supplier<SpeculativeStepEvaluator.Lane> getLaneFactory(final SweData sweData,
+                                                                   final DichotomyDirection direction,
+                                                                   final Network network,
+                                                                   final DichotomyParameters parameters,
+                                                                   final LoadFlowParameters loadFlowParameters) {
+        final byte[] serializedNetwork = networkService.serializeNetwork(network);
+        return () -> {
+            final Network laneNetwork = networkService.deserializeNetwork(serializedNetwork);
+            return new SpeculativeStepEvaluator.Lane(laneNetwork,
+                networkShifterProvider.get(sweData, direction, laneNetwork, loadFlowParameters, parameters.runGlskChecksBeforeLoadFlow()));
+        };
+    }
+
+    /**
+     * With the max min margin objective of the SWE RAO, the functional cost after the last instant is the opposite
+     * of the worst margin.
+     */
+    private static ToDoubleFunction<DichotomyStepResult<SweDichotomyValidationData>> getWorstMarginFunction(final SweData sweData,
+                                                                                                           final DichotomyDirection direction) {
+        return stepResult -> {
+            if (stepResult.getRaoResult() == null) {
+                return Double.NaN;
+            }
+            final Crac crac = (DichotomyLogging.isBetweenFranceAndSpain(direction) ? sweData.getCracFrEs() : sweData.getCracEsPt()).getCrac();
+            return -stepResult.getRaoResult().getFunctionalCost(crac.getLastInstant());
+        };
+    }
+
     private NetworkValidator<SweDichotomyValidationData> getNetworkValidator(final SweData sweData,
                                                                              final DichotomyDirection direction,
                                                                              final boolean runAngleCheck,
@@ -96,24 +260,60 @@ public class DichotomyRunner {
         );
     }
 
-    private DichotomyParameters getDichotomyParameters(final SweTaskParameters sweTaskParameters, final DichotomyDirection direction) {
+    private DichotomyParameters getDichotomyParameters(final SweData sweData, final SweTaskParameters sweTaskParameters, final DichotomyDirection direction) {
         final boolean angleCheck = sweTaskParameters.isRunAngleCheck();
         final boolean glskCheck = sweTaskParameters.isRunGlskChecksBeforeLoadFlow();
 
         return switch (direction) {
             case ES_FR -> new DichotomyParameters(sweTaskParameters.getMinTtcEsFr(), sweTaskParameters.getMaxTtcEsFr(),
                                                   sweTaskParameters.getDichotomyPrecisionEsFr(),
-                                                  angleCheck, glskCheck);
+                                                  angleCheck, glskCheck, getParallelSteps(sweData, direction, sweTaskParameters.getDichotomyParallelStepsEsFr()),
+                                                  getWarmStartInterval(sweData, direction, sweTaskParameters.getMinTtcEsFr(), sweTaskParameters.getMaxTtcEsFr(), sweTaskParameters.getDichotomyPrecisionEsFr()),
+                                                  sweTaskParameters.isDichotomyMarginGuided());
             case FR_ES -> new DichotomyParameters(sweTaskParameters.getMinTtcFrEs(), sweTaskParameters.getMaxTtcFrEs(),
                                                   sweTaskParameters.getDichotomyPrecisionFrEs(),
-                                                  angleCheck, glskCheck);
+                                                  angleCheck, glskCheck, getParallelSteps(sweData, direction, sweTaskParameters.getDichotomyParallelStepsFrEs()),
+                                                  getWarmStartInterval(sweData, direction, sweTaskParameters.getMinTtcFrEs(), sweTaskParameters.getMaxTtcFrEs(), sweTaskParameters.getDichotomyPrecisionFrEs()),
+                                                  sweTaskParameters.isDichotomyMarginGuided());
             case ES_PT -> new DichotomyParameters(sweTaskParameters.getMinTtcEsPt(), sweTaskParameters.getMaxTtcEsPt(),
                                                   sweTaskParameters.getDichotomyPrecisionEsPt(),
-                                                  angleCheck, glskCheck);
+                                                  angleCheck, glskCheck, getParallelSteps(sweData, direction, sweTaskParameters.getDichotomyParallelStepsEsPt()),
+                                                  getWarmStartInterval(sweData, direction, sweTaskParameters.getMinTtcEsPt(), sweTaskParameters.getMaxTtcEsPt(), sweTaskParameters.getDichotomyPrecisionEsPt()),
+                                                  sweTaskParameters.isDichotomyMarginGuided());
             case PT_ES -> new DichotomyParameters(sweTaskParameters.getMinTtcPtEs(), sweTaskParameters.getMaxTtcPtEs(),
                                                   sweTaskParameters.getDichotomyPrecisionPtEs(),
-                                                  angleCheck, glskCheck);
+                                                  angleCheck, glskCheck, getParallelSteps(sweData, direction, sweTaskParameters.getDichotomyParallelStepsPtEs()),
+                                                  getWarmStartInterval(sweData, direction, sweTaskParameters.getMinTtcPtEs(), sweTaskParameters.getMaxTtcPtEs(), sweTaskParameters.getDichotomyPrecisionPtEs()),
+                                                  sweTaskParameters.isDichotomyMarginGuided());
         };
 
     }
+
+    /**
+     * Each speculative step holds its own copy of the network of the direction, which would defeat the sharing of the
+     * network between directions, so steps are then evaluated one by one.
+     */
+    private int getParallelSteps(final SweData sweData, final DichotomyDirection direction, final int parallelSteps) {
+        if (parallelSteps > 1 && sweData.isNetworkShared()) {
+            businessLogger.warn("[{}] Dichotomy parallel steps ({}) are ignored as directions share the same network", direction.getDashName(), parallelSteps);
+            return 1;
+        }
+        return parallelSteps;
+    }
+
+    /**
+     * Starting interval derived from the TTC of the neighbouring timestamps, restricted to the index range.
+     * No interval is given when it would not be narrower than the index range.
+     */
+    private WarmStartInterval getWarmStartInterval(final SweData sweData,
+                                                   final DichotomyDirection direction,
+                                                   final double minValue,
+                                                   final double maxValue,
+                                                   final double precision) {
+        return ttcHistoryStore.getNeighbourhoodInterval(sweData.getProcessType(), direction, sweData.getTimestamp())
+            .map(interval -> new WarmStartInterval(Math.max(minValue, interval.lowerValue()), Math.min(maxValue, interval.upperValue())))
+            .filter(interval -> interval.upperValue() - interval.lowerValue() > precision)
+            .filter(interval -> interval.lowerValue() > minValue || interval.upperValue() < maxValue)
+            .orElse(null);
+    }
 }
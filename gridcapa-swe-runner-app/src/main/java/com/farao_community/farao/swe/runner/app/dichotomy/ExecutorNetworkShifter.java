@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.swe.runner.app.dichotomy;
+
+import com.farao_community.farao.dichotomy.api.NetworkShifter;
+import com.farao_community.farao.dichotomy.api.exceptions.GlskLimitationException;
+import com.farao_community.farao.dichotomy.api.exceptions.ShiftingException;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Network shifter running the shifts of another one on the given executor and waiting for them. Dichotomies are run
+ * on virtual threads as they mostly wait for remote RAOs, while their CPU-bound shifts are run on platform threads.
+ * The working variant of the calling thread is the one shifted, even when variants are accessed per thread.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class ExecutorNetworkShifter implements NetworkShifter {
+
+    private final NetworkShifter networkShifter;
+    private final Executor executor;
+
+    public ExecutorNetworkShifter(NetworkShifter networkShifter, Executor executor) {
+        this.networkShifter = networkShifter;
+        this.executor = executor;
+    }
+
+    @Override
+    public void shiftNetwork(double stepValue, Network network) throws GlskLimitationException, ShiftingException {
+        final VariantManager variantManager = network.getVariantManager();
+        final String workingVariantId = variantManager.getWorkingVariantId();
+        final CompletableFuture<String> shift = CompletableFuture.supplyAsync(() -> {
+            variantManager.setWorkingVariant(workingVariantId);
+            try {
+                networkShifter.shiftNetwork(stepValue, network);
+            } catch (GlskLimitationException | ShiftingException e) {
+                throw new CompletionException(e);
+            }
+            return variantManager.getWorkingVariantId();
+        }, executor);
+        try {
+            variantManager.setWorkingVariant(shift.get());
+        } catch (InterruptedException e) {
+            // The shift cannot be stopped, it is waited for so that the network is not modified once the dichotomy is over
+            awaitQuietly(shift);
+            Thread.currentThread().interrupt();
+            throw new ShiftingException("Interrupted while shifting the network");
+        } catch (ExecutionException e) {
+            rethrowShiftFailure(e.getCause());
+        }
+    }
+
+    private static void awaitQuietly(CompletableFuture<?> shift) {
+        try {
+            shift.join();
+        } catch (CompletionException e) {
+            // The dichotomy is interrupted anyway
+        }
+    }
+
+    private static void rethrowShiftFailure(Throwable shiftFailure) throws GlskLimitationException, ShiftingException {
+        if (shiftFailure instanceof GlskLimitationException glskLimitationException) {
+            throw glskLimitationException;
+        }
+        if (shiftFailure instanceof ShiftingException shiftingException) {
+            throw shiftingException;
+        }
+        if (shiftFailure instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        throw (Error) shiftFailure;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.swe.runner.app.dichotomy;
+
+import com.farao_community.farao.dichotomy.api.index.HalfRangeDivisionIndexStrategy;
+import com.farao_community.farao.dichotomy.api.index.Index;
+import com.farao_community.farao.dichotomy.api.index.IndexStrategy;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import org.apache.commons.lang3.tuple.Pair;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Dichotomy interpolating the worst margin of the RAO results as a function of the exchange, safeguarded by half range
+ * division.
+ * <p>
+ * Like {@link HalfRangeDivisionIndexStrategy}, the maximum then the minimum values are tested first. The next values
+ * are then the zero of the secant through the margins of the last two steps, moved by a fraction of the precision
+ * towards the side of the last step, so that the secure and unsecure steps around the TTC are found in a row when the
+ * margin is close to linear. The range is halved instead when the secant gives no value inside the range, when a
+ * margin is not available, or when the range was not halved by the last two steps, which bounds the number of steps
+ * to about twice the one of a half range division.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class MarginGuidedIndexStrategy<T> implements IndexStrategy<T> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MarginGuidedIndexStrategy.class);
+    private static final double PRECISION_OFFSET_RATIO = 0.4;
+
+    private final double minValue;
+    private final double maxValue;
+    private final double precision;
+    private final ToDoubleFunction<DichotomyStepResult<T>> marginFunction;
+    private final HalfRangeDivisionIndexStrategy<T> halfRangeDivisionIndexStrategy = new HalfRangeDivisionIndexStrategy<>(false);
+    private final Deque<StepMargin> lastStepMargins = new ArrayDeque<>();
+    private final Deque<Double> rangeWidths = new ArrayDeque<>();
+    private Double highestValidValue;
+    private Double lowestInvalidValue;
+
+    private record StepMargin(double value, double margin) {
+    }
+
+    /**
+     * @param marginFunction worst margin of the RAO result of a step, NaN when it is not available
+     */
+    public MarginGuidedIndexStrategy(double minValue, double maxValue, double precision, ToDoubleFunction<DichotomyStepResult<T>> marginFunction) {
+        this.minValue = minValue;
+        this.maxValue = maxValue;
+        this.precision = precision;
+        this.marginFunction = marginFunction;
+    }
+
+    @Override
+    public double nextValue(Index<T> index) {
+        final Pair<Double, DichotomyStepResult<T>> highestValidStep = index.highestValidStep();
+        final Pair<Double, DichotomyStepResult<T>> lowestInvalidStep = index.lowestInvalidStep();
+        recordNewSteps(highestValidStep, lowestInvalidStep);
+        if (lowestInvalidStep == null) {
+            return maxValue;
+        }
+        if (highestValidStep == null) {
+            return minValue;
+        }
+        final double lowerBound = highestValidStep.getLeft();
+        final double upperBound = lowestInvalidStep.getLeft();
+        final double middleValue = (lowerBound + upperBound) / 2;
+        rangeWidths.addLast(upperBound - lowerBound);
+        if (rangeWidths.size() > 3) {
+            rangeWidths.removeFirst();
+        }
+        if (rangeWidths.size() == 3 && rangeWidths.getLast() > rangeWidths.getFirst() / 2) {
+            LOGGER.info("Range was not halved by the last two steps, testing middle value {}", middleValue);
+            rangeWidths.clear();
+            return middleValue;
+        }
+        final StepMargin lastStep = lastStepMargins.getLast();
+        final StepMargin previousStep = lastStepMargins.getFirst();
+        final double secantZero = lastStep.value() - lastStep.margin() * (lastStep.value() - previousStep.value()) / (lastStep.margin() - previousStep.margin());
+        if (!(secantZero > lowerBound && secantZero < upperBound) || upperBound - lowerBound < precision) {
+            LOGGER.info("Margins give no value inside [{}, {}], testing middle value {}", lowerBound, upperBound, middleValue);
+            rangeWidths.clear();
+            return middleValue;
+        }
+        final double offset = lastStep.margin() >= 0 ? PRECISION_OFFSET_RATIO * precision : -PRECISION_OFFSET_RATIO * precision;
+        final double nextValue = Math.clamp(secantZero + offset, lowerBound + precision / 2, upperBound - precision / 2);
+        LOGGER.info("Worst margin is expected to be zero at {}, testing {}", secantZero, nextValue);
+        return nextValue;
+    }
+
+    @Override
+    public boolean precisionReached(Index<T> index) {
+        return halfRangeDivisionIndexStrategy.precisionReached(index);
+    }
+
+    /**
+     * Keeps the margins of the steps added to the index since the last call, which are the new bounds of the range.
+     */
+    private void recordNewSteps(Pair<Double, DichotomyStepResult<T>> highestValidStep, Pair<Double, DichotomyStepResult<T>> lowestInvalidStep) {
+        if (highestValidStep != null && !highestValidStep.getLeft().equals(highestValidValue)) {
+            highestValidValue = highestValidStep.getLeft();
+            recordStep(highestValidStep);
+        }
+        if (lowestInvalidStep != null && !lowestInvalidStep.getLeft().equals(lowestInvalidValue)) {
+            lowestInvalidValue = lowestInvalidStep.getLeft();
+            recordStep(lowestInvalidStep);
+        }
+    }
+
+    private void recordStep(Pair<Double, DichotomyStepResult<T>> step) {
+        lastStepMargins.addLast(new StepMargin(step.getLeft(), getMargin(step.getRight())));
+        if (lastStepMargins.size() > 2) {
+            lastStepMargins.removeFirst();
+        }
+    }
+
+    private double getMargin(DichotomyStepResult<T> stepResult) {
+        try {
+            return marginFunction.applyAsDouble(stepResult);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Worst margin of dichotomy step is not available", e);
+            return Double.NaN;
+        }
+    }
+}
@@ -12,6 +12,8 @@ import com.farao_community.farao.gridcapa_swe_commons.configuration.ProcessConfi
 import com.farao_community.farao.gridcapa_swe_commons.dichotomy.DichotomyDirection;
 import com.farao_community.farao.gridcapa_swe_commons.exception.SweBaseCaseUnsecureException;
 import com.farao_community.farao.gridcapa_swe_commons.resource.ProcessType;
+import com.farao_community.farao.gridcapa_swe_commons.shift.GlskDocumentCache;
+import com.farao_community.farao.gridcapa_swe_commons.shift.ShiftIterations;
 import com.farao_community.farao.gridcapa_swe_commons.shift.SweD2ccShiftDispatcher;
 import com.farao_community.farao.gridcapa_swe_commons.shift.SweIdccShiftDispatcher;
 import com.farao_community.farao.gridcapa_swe_commons.shift.SweNetworkShifter;
@@ -22,8 +24,11 @@ import com.farao_community.farao.swe.runner.app.domain.SweData;
 import com.farao_community.farao.swe.runner.app.services.FileExporter;
 import com.farao_community.farao.swe.runner.app.services.NetworkService;
 import com.farao_community.farao.swe.runner.app.services.SweNetworkExporter;
+import com.farao_community.farao.swe.runner.app.utils.UrlValidationService;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.loadflow.LoadFlowParameters;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.springframework.stereotype.Service;
 
@@ -36,33 +41,54 @@ import static com.farao_community.farao.gridcapa_swe_commons.shift.CountryBalanc
  */
 @Service
 public class NetworkShifterProvider {
+    static final String SHIFT_ITERATIONS_METER = "swe.shift.iterations";
 
     private final DichotomyConfiguration dichotomyConfiguration;
     private final Logger businessLogger;
     private final ProcessConfiguration processConfiguration;
     private final ExportNetworkConfiguration exportNetworkConfiguration;
     private final FileExporter fileExporter;
+    private final GlskDocumentCache glskDocumentCache;
+    private final UrlValidationService urlValidationService;
+    private final MeterRegistry meterRegistry;
 
     public NetworkShifterProvider(final DichotomyConfiguration dichotomyConfiguration,
                                   final Logger businessLogger,
                                   final ProcessConfiguration processConfiguration,
                                   final ExportNetworkConfiguration exportNetworkConfiguration,
-                                  final FileExporter fileExporter) {
+                                  final FileExporter fileExporter,
+                                  final GlskDocumentCache glskDocumentCache,
+                                  final UrlValidationService urlValidationService,
+                                  final MeterRegistry meterRegistry) {
         this.dichotomyConfiguration = dichotomyConfiguration;
         this.businessLogger = businessLogger;
         this.processConfiguration = processConfiguration;
         this.exportNetworkConfiguration = exportNetworkConfiguration;
         this.fileExporter = fileExporter;
+        this.glskDocumentCache = glskDocumentCache;
+        this.urlValidationService = urlValidationService;
+        this.meterRegistry = meterRegistry;
     }
 
     public NetworkShifter get(final SweData sweData,
                               final DichotomyDirection direction,
                               final LoadFlowParameters loadFlowParameters,
                               final boolean runGlskChecksBeforeLoadFlow) {
-        final ZonalScalableProvider zonalScalableProvider = new ZonalScalableProvider();
-        final Network network = NetworkService.getNetworkByDirection(sweData, direction);
+        return get(sweData, direction, NetworkService.getNetworkByDirection(sweData, direction), loadFlowParameters, runGlskChecksBeforeLoadFlow);
+    }
+
+    /**
+     * Builds a shifter working on the given network, which can be a copy of the network of the direction.
+     */
+    public NetworkShifter get(final SweData sweData,
+                              final DichotomyDirection direction,
+                              final Network network,
+                              final LoadFlowParameters loadFlowParameters,
+                              final boolean runGlskChecksBeforeLoadFlow) {
+        final ZonalScalableProvider zonalScalableProvider = new ZonalScalableProvider(glskDocumentCache, urlValidationService::openUrlStream);
         try {
-            final Map<String, Double> initialNetPositions = computeSweCountriesBalances(network, loadFlowParameters);
+            // Base case loadflow is run on the merged network at import, it is only run here on data built without it
+            final Map<String, Double> initialNetPositions = sweData.getInitialNetPositions(() -> computeSweCountriesBalances(network, loadFlowParameters));
 
             businessLogger.info("Base case loadflow is secure");
 
@@ -83,7 +109,8 @@ public class NetworkShifterProvider {
                                          processConfiguration,
                                          loadFlowParameters,
                                          sweNetworkExporter,
-                                         runGlskChecksBeforeLoadFlow);
+                                         runGlskChecksBeforeLoadFlow,
+                                         shiftIterations -> recordShiftIterations(direction, shiftIterations));
 
         } catch (final SweBaseCaseUnsecureException baseCaseUnsecureException) {
             businessLogger.error("Base case loadflow is unsecure, the calculation is stopped and the first unsecure network cannot be exported because it doesn't exist at this stage of the calculation.");
@@ -91,6 +118,22 @@ public class NetworkShifterProvider {
         }
     }
 
+    /**
+     * Records the balancing iterations of each shifted step, by direction and load flow type.
+     */
+    void recordShiftIterations(final DichotomyDirection direction, final ShiftIterations shiftIterations) {
+        getShiftIterationsSummary(direction, "dc").record(shiftIterations.dcIterations());
+        getShiftIterationsSummary(direction, "ac").record(shiftIterations.acIterations());
+    }
+
+    private DistributionSummary getShiftIterationsSummary(final DichotomyDirection direction, final String loadFlowType) {
+        return DistributionSummary.builder(SHIFT_ITERATIONS_METER)
+            .description("Balancing iterations run to shift the network to a dichotomy step")
+            .tag("direction", direction.getDashName())
+            .tag("loadflow", loadFlowType)
+            .register(meterRegistry);
+    }
+
     ShiftDispatcher getShiftDispatcher(final ProcessType processType,
                                        final DichotomyDirection direction,
                                        final Map<String, Double> initialNetPositionsByCountry) {
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.swe.runner.app.dichotomy;
+
+import com.farao_community.farao.dichotomy.api.NetworkShifter;
+import com.farao_community.farao.dichotomy.api.NetworkValidator;
+import com.farao_community.farao.dichotomy.api.exceptions.GlskLimitationException;
+import com.farao_community.farao.dichotomy.api.exceptions.RaoFailureException;
+import com.farao_community.farao.dichotomy.api.exceptions.RaoInterruptionException;
+import com.farao_community.farao.dichotomy.api.exceptions.ShiftingException;
+import com.farao_community.farao.dichotomy.api.exceptions.ValidationException;
+import com.farao_community.farao.dichotomy.api.index.Index;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import com.farao_community.farao.swe.runner.app.domain.SweDichotomyValidationData;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
+import org.apache.commons.lang3.tuple.Pair;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Network shifter and validator of a dichotomy using a half range division, shifting the next step while the RAO of
+ * the current step is running.
+ * <p>
+ * Once the current step is sent to validation, the next value is one of two known values: the middle of the upper
+ * half of the range if the step is secure, the middle of the lower half otherwise. Both are shifted during the RAO,
+ * each one on its own copy of the network, and the engine then validates the copy of the value it asks for. The other
+ * one is discarded. Values which do not match the pre-shifted ones are shifted on the engine's network as usual.
+ * <p>
+ * Engine calls are all made from the engine thread, pre-shifts are run on the given executor.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class PipelinedStepEvaluator implements NetworkShifter, NetworkValidator<SweDichotomyValidationData> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PipelinedStepEvaluator.class);
+
+    private final NetworkShifter networkShifter;
+    private final NetworkValidator<SweDichotomyValidationData> networkValidator;
+    private final Index<SweDichotomyValidationData> index;
+    private final double minValue;
+    private final double precision;
+    private final Function<Network, Supplier<SpeculativeStepEvaluator.Lane>> laneFactoryProvider;
+    private final Executor executor;
+    private final Queue<SpeculativeStepEvaluator.Lane> availableLanes = new ConcurrentLinkedQueue<>();
+    private final Map<Double, PreShift> preShifts = new HashMap<>();
+    private Supplier<SpeculativeStepEvaluator.Lane> laneFactory;
+    private double currentStepValue;
+    private PreShiftOutcome currentPreShiftOutcome;
+
+    /**
+     * @param laneFactoryProvider gives, from the network of the engine in its initial state, the factory of the lanes
+     */
+    public PipelinedStepEvaluator(NetworkShifter networkShifter,
+                                  NetworkValidator<SweDichotomyValidationData> networkValidator,
+                                  Index<SweDichotomyValidationData> index,
+                                  double minValue,
+                                  double precision,
+                                  Function<Network, Supplier<SpeculativeStepEvaluator.Lane>> laneFactoryProvider,
+                                  Executor executor) {
+        this.networkShifter = networkShifter;
+        this.networkValidator = networkValidator;
+        this.index = index;
+        this.minValue = minValue;
+        this.precision = precision;
+        this.laneFactoryProvider = laneFactoryProvider;
+        this.executor = executor;
+    }
+
+    @Override
+    public void shiftNetwork(double stepValue, Network network) throws GlskLimitationException, ShiftingException {
+        currentStepValue = stepValue;
+        final PreShift preShift = preShifts.remove(stepValue);
+        discardPreShifts();
+        final PreShiftOutcome outcome = preShift != null ? preShift.await() : null;
+        if (outcome != null) {
+            if (outcome.shiftFailure() != null) {
+                releaseLane(outcome);
+                rethrowShiftFailure(outcome.shiftFailure());
+            }
+            if (outcome.shifted()) {
+                LOGGER.info("Using pre-shifted network of dichotomy step {}", stepValue);
+                currentPreShiftOutcome = outcome;
+                return;
+            }
+            releaseLane(outcome);
+        }
+        if (laneFactory == null) {
+            // Network is still in its initial state here, as the engine has not shifted it yet
+            laneFactory = laneFactoryProvider.apply(network);
+        }
+        networkShifter.shiftNetwork(stepValue, network);
+    }
+
+    @Override
+    public DichotomyStepResult<SweDichotomyValidationData> validateNetwork(Network network, DichotomyStepResult<SweDichotomyValidationData> lastDichotomyStepResult) throws ValidationException, RaoFailureException, RaoInterruptionException {
+        final PreShiftOutcome validatedOutcome = currentPreShiftOutcome;
+        currentPreShiftOutcome = null;
+        startPreShifts();
+        try {
+            return networkValidator.validateNetwork(validatedOutcome != null ? validatedOutcome.lane().network() : network, lastDichotomyStepResult);
+        } finally {
+            if (validatedOutcome != null) {
+                releaseLane(validatedOutcome);
+            }
+        }
+    }
+
+    /**
+     * Values the half range division gives after the current step, depending on its verdict.
+     */
+    List<Double> getNextValueCandidates() {
+        final List<Double> candidates = new ArrayList<>();
+        final Pair<Double, DichotomyStepResult<SweDichotomyValidationData>> highestValidStep = index.highestValidStep();
+        final Pair<Double, DichotomyStepResult<SweDichotomyValidationData>> lowestInvalidStep = index.lowestInvalidStep();
+        // Next value if the current step is secure
+        if (lowestInvalidStep != null && lowestInvalidStep.getLeft() - currentStepValue > precision) {
+            candidates.add((currentStepValue + lowestInvalidStep.getLeft()) / 2);
+        }
+        // Next value if the current step is unsecure
+        if (highestValidStep == null) {
+            if (currentStepValue > minValue) {
+                candidates.add(minValue);
+            }
+        } else if (currentStepValue - highestValidStep.getLeft() > precision) {
+            candidates.add((highestValidStep.getLeft() + currentStepValue) / 2);
+        }
+        return candidates;
+    }
+
+    private void startPreShifts() {
+        if (laneFactory == null) {
+            return;
+        }
+        for (double value : getNextValueCandidates()) {
+            final AtomicBoolean cancelled = new AtomicBoolean(false);
+            final CompletableFuture<PreShiftOutcome> outcome = CompletableFuture.supplyAsync(() -> preShift(value, cancelled), executor);
+            preShifts.put(value, new PreShift(outcome, cancelled));
+            LOGGER.info("Dichotomy step {} submitted for shift during the RAO of step {}", value, currentStepValue);
+        }
+    }
+
+    private PreShiftOutcome preShift(double stepValue, AtomicBoolean cancelled) {
+        final SpeculativeStepEvaluator.Lane lane = acquireLane();
+        final VariantManager variantManager = lane.network().getVariantManager();
+        final String initialVariantId = variantManager.getWorkingVariantId();
+        final String stepVariantId = String.format("%s-ScaledBy-%s", initialVariantId, stepValue);
+        variantManager.cloneVariant(initialVariantId, stepVariantId, true);
+        variantManager.setWorkingVariant(stepVariantId);
+        if (cancelled.get()) {
+            return new PreShiftOutcome(lane, initialVariantId, stepVariantId, false, null);
+        }
+        try {
+            lane.networkShifter().shiftNetwork(stepValue, lane.network());
+            return new PreShiftOutcome(lane, initialVariantId, stepVariantId, true, null);
+        } catch (GlskLimitationException | ShiftingException e) {
+            return new PreShiftOutcome(lane, initialVariantId, stepVariantId, false, e);
+        } catch (RuntimeException e) {
+            // The step is then shifted again by the engine, which reports the failure if it happens again
+            LOGGER.warn("Dichotomy step {} could not be shifted in advance", stepValue, e);
+            return new PreShiftOutcome(lane, initialVariantId, stepVariantId, false, null);
+        }
+    }
+
+    private SpeculativeStepEvaluator.Lane acquireLane() {
+        final SpeculativeStepEvaluator.Lane lane = availableLanes.poll();
+        return lane != null ? lane : laneFactory.get();
+    }
+
+    private void releaseLane(PreShiftOutcome outcome) {
+        final VariantManager variantManager = outcome.lane().network().getVariantManager();
+        variantManager.setWorkingVariant(outcome.initialVariantId());
+        variantManager.removeVariant(outcome.stepVariantId());
+        availableLanes.add(outcome.lane());
+    }
+
+    /**
+     * Abandons the pre-shifts of the values the engine did not ask for. Their lanes are released once shifted.
+     */
+    private void discardPreShifts() {
+        preShifts.values().forEach(preShift -> {
+            preShift.cancelled().set(true);
+            preShift.outcome().thenAccept(this::releaseLane);
+        });
+        preShifts.clear();
+    }
+
+    private static void rethrowShiftFailure(Exception shiftFailure) throws GlskLimitationException, ShiftingException {
+        if (shiftFailure instanceof GlskLimitationException glskLimitationException) {
+            throw glskLimitationException;
+        }
+        throw (ShiftingException) shiftFailure;
+    }
+
+    private record PreShift(CompletableFuture<PreShiftOutcome> outcome, AtomicBoolean cancelled) {
+        /**
+         * Outcome of the pre-shift, or null if no lane could be prepared for it.
+         */
+        PreShiftOutcome await() {
+            try {
+                return outcome.join();
+            } catch (CompletionException e) {
+                LOGGER.warn("Dichotomy step could not be shifted in advance", e.getCause());
+                return null;
+            }
+        }
+    }
+
+    private record PreShiftOutcome(SpeculativeStepEvaluator.Lane lane, String initialVariantId, String stepVariantId, boolean shifted, Exception shiftFailure) {
+    }
+}
@@ -11,7 +11,6 @@ import com.farao_community.farao.dichotomy.api.exceptions.RaoFailureException;
 import com.farao_community.farao.dichotomy.api.exceptions.RaoInterruptionException;
 import com.farao_community.farao.dichotomy.api.exceptions.ValidationException;
 import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
-import com.farao_community.farao.dichotomy.api.utils.ContingenciesLoggerUtil;
 import com.farao_community.farao.gridcapa_swe_commons.dichotomy.DichotomyDirection;
 import com.farao_community.farao.gridcapa_swe_commons.exception.SweInvalidDataException;
 import com.farao_community.farao.gridcapa_swe_commons.loadflow.LoadFlowUtil;
@@ -38,6 +37,8 @@ import com.powsybl.openrao.monitoring.results.RaoResultWithAngleMonitoring;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * @author Theo Pascoli {@literal <theo.pascoli at rte-france.com>}
  */
@@ -53,7 +54,7 @@ public class RaoValidator implements NetworkValidator<SweDichotomyValidationData
     private final DichotomyDirection direction;
     private final boolean runAngleCheck;
     private final LoadFlowParameters loadFlowParameters;
-    private int variantCounter = 0;
+    private final AtomicInteger variantCounter = new AtomicInteger();
     private static final String REGION = "SWE";
     private static final String MINIO_SEPARATOR = "/";
 
@@ -89,19 +90,13 @@ public class RaoValidator implements NetworkValidator<SweDichotomyValidationData
                 throw new RaoInterruptionException("RAO computation stopped due to soft interruption request");
             }
 
-            ContingenciesLoggerUtil.logContingencies(raoResponse.getRaoResultFileUrl(), businessLogger);
-
-            final RaoResult raoResult = fileImporter.importRaoResult(raoResponse.getRaoResultFileUrl(), fileImporter.importCracFromJson(raoResponse.getCracFileUrl(), network));
+            final Crac responseCrac = getResponseCrac(raoResponse, network);
+            final RaoResult raoResult = fileImporter.importRaoResult(raoResponse.getRaoResultFileUrl(), responseCrac);
+            logFailedContingencies(responseCrac, raoResult);
             if (this.runAngleCheck && isPortugalInDirection() && raoResult.isSecure(PhysicalParameter.FLOW)) {
                 final Crac crac = sweData.getCracEsPt().getCrac();
                 final MonitoringInput input = MonitoringInput.buildWithAngle(network, crac, raoResult, fileImporter.importCimGlskDocument(sweData.getGlskUrl()).getZonalScalable(network, sweData.getTimestamp().toInstant())).build();
-                final RaoResultWithAngleMonitoring raoResultWithAngleMonitoring =
-                    (RaoResultWithAngleMonitoring) Monitoring.runAngleAndUpdateRaoResult(
-                        LoadFlow.find().getName(),
-                        loadFlowParameters,
-                        LoadFlowUtil.getMdcCompliantComputationManager(),
-                        4,
-                        input);
+                final RaoResultWithAngleMonitoring raoResultWithAngleMonitoring = runAngleMonitoring(input);
                 if (ComputationStatus.FAILURE == raoResultWithAngleMonitoring.getComputationStatus() || null == raoResultWithAngleMonitoring.getComputationStatus()) {
                     businessLogger.warn("Angle monitoring result is failure");
                     return DichotomyStepResult.fromNetworkValidationResult(raoResultWithAngleMonitoring, new SweDichotomyValidationData(raoResponse,
@@ -132,6 +127,43 @@ public class RaoValidator implements NetworkValidator<SweDichotomyValidationData
         }
     }
 
+    /**
+     * Logs the contingencies whose computation failed, read from the imported RAO result so that the RAO result
+     * file is downloaded and parsed only once per step.
+     */
+    private void logFailedContingencies(final Crac crac, final RaoResult raoResult) {
+        crac.getContingencies().forEach(contingency -> crac.getStates(contingency).stream()
+            .filter(state -> ComputationStatus.FAILURE == raoResult.getComputationStatus(state))
+            .forEach(state -> businessLogger.warn("Contingency '{}' computation failed at instant '{}'", contingency.getId(), state.getInstant().getId())));
+    }
+
+    private RaoResultWithAngleMonitoring runAngleMonitoring(final MonitoringInput input) {
+        return (RaoResultWithAngleMonitoring) Monitoring.runAngleAndUpdateRaoResult(
+            LoadFlow.find().getName(),
+            loadFlowParameters,
+            LoadFlowUtil.getMdcCompliantComputationManager(),
+            4,
+            input);
+    }
+
+    /**
+     * Crac of the RAO response. The RAO runner usually returns the JSON CRAC we sent, which was exported from the
+     * Crac of the direction, so this Crac is used instead of importing the JSON CRAC again at each step.
+     */
+    private Crac getResponseCrac(final RaoSuccessResponse raoResponse, final Network network) {
+        final String cracFileUrl = raoResponse.getCracFileUrl();
+        final String matchingCracPath = getMatchingCracPath(direction, sweData);
+        if (cracFileUrl != null && matchingCracPath != null && withoutQuery(cracFileUrl).equals(withoutQuery(matchingCracPath))) {
+            return getMatchingCrac(direction, sweData);
+        }
+        LOGGER.info("[{}] : RAO response CRAC {} differs from the CRAC sent, importing it", direction, cracFileUrl);
+        return fileImporter.importCracFromJson(cracFileUrl, network);
+    }
+
+    private static String withoutQuery(String url) {
+        return url.split("\\?")[0];
+    }
+
     private RaoRequest buildRaoRequest(String networkPresignedUrl, String scaledNetworkDirPath) {
         String resultsDestination = REGION + MINIO_SEPARATOR + sweData.getProcessType() + MINIO_SEPARATOR + scaledNetworkDirPath;
         String raoParametersUrl = getMatchingRaoParametersUrl(direction);
@@ -149,7 +181,7 @@ public class RaoValidator implements NetworkValidator<SweDichotomyValidationData
     private String generateScaledNetworkDirPath(Network network) {
         String basePath = fileExporter.makeDestinationDichotomyPath(sweData.getTimestamp(), FileExporter.FileKind.ARTIFACTS, direction);
         String variantName = network.getVariantManager().getWorkingVariantId();
-        return String.format("%s/%s-%s/", basePath, ++variantCounter, variantName);
+        return String.format("%s/%s-%s/", basePath, variantCounter.incrementAndGet(), variantName);
     }
 
     private String getMatchingCracPath(DichotomyDirection direction, SweData sweData) {
@@ -161,6 +193,15 @@ public class RaoValidator implements NetworkValidator<SweDichotomyValidationData
         throw new SweInvalidDataException("Unknown direction");
     }
 
+    private Crac getMatchingCrac(DichotomyDirection direction, SweData sweData) {
+        if (direction.equals(DichotomyDirection.ES_FR) || direction.equals(DichotomyDirection.FR_ES)) {
+            return sweData.getCracFrEs().getCrac();
+        } else if (direction.equals(DichotomyDirection.ES_PT) || direction.equals(DichotomyDirection.PT_ES)) {
+            return sweData.getCracEsPt().getCrac();
+        }
+        throw new SweInvalidDataException("Unknown direction");
+    }
+
     private String getMatchingRaoParametersUrl(DichotomyDirection direction) {
         if (direction.equals(DichotomyDirection.ES_FR) || direction.equals(DichotomyDirection.FR_ES)) {
             return sweData.getRaoParametersEsFrUrl();
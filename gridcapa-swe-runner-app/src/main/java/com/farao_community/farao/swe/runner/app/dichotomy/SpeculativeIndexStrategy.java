@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.swe.runner.app.dichotomy;
+
+import com.farao_community.farao.dichotomy.api.index.HalfRangeDivisionIndexStrategy;
+import com.farao_community.farao.dichotomy.api.index.Index;
+import com.farao_community.farao.dichotomy.api.index.IndexStrategy;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * K-ary version of the half range division: each round splits the unresolved range with up to {@code parallelSteps}
+ * points, which can all be evaluated at the same time by a {@link SpeculativeStepEvaluator}.
+ * <p>
+ * Points of a round are given to the engine one at a time. Once a verdict is known, the points of the round which are
+ * no longer inside the unresolved range are dropped, so that the interval is narrowed from all the verdicts of the round.
+ * As for {@link HalfRangeDivisionIndexStrategy}, maximum then minimum values are tested first.
+ * With one parallel step, the tested values are the ones of the half range division.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class SpeculativeIndexStrategy<T> implements IndexStrategy<T> {
+
+    private final double minValue;
+    private final double maxValue;
+    private final double precision;
+    private final int parallelSteps;
+    private final HalfRangeDivisionIndexStrategy<T> halfRangeDivisionIndexStrategy = new HalfRangeDivisionIndexStrategy<>(false);
+    private final Deque<Double> pendingValues = new ArrayDeque<>();
+    private Runnable precisionReachedListener = () -> { };
+
+    public SpeculativeIndexStrategy(double minValue, double maxValue, double precision, int parallelSteps) {
+        this.minValue = minValue;
+        this.maxValue = maxValue;
+        this.precision = precision;
+        this.parallelSteps = Math.max(1, parallelSteps);
+    }
+
+    @Override
+    public double nextValue(Index<T> index) {
+        pendingValues.removeIf(value -> !isUnresolved(value, index));
+        if (pendingValues.isEmpty()) {
+            pendingValues.addAll(buildRound(index));
+        }
+        return pendingValues.poll();
+    }
+
+    @Override
+    public boolean precisionReached(Index<T> index) {
+        final boolean precisionReached = halfRangeDivisionIndexStrategy.precisionReached(index);
+        if (precisionReached) {
+            pendingValues.clear();
+            precisionReachedListener.run();
+        }
+        return precisionReached;
+    }
+
+    void setPrecisionReachedListener(Runnable precisionReachedListener) {
+        this.precisionReachedListener = precisionReachedListener;
+    }
+
+    /**
+     * Values of the current round that have not been given to the engine yet, in the order they will be given.
+     */
+    public List<Double> getPendingValues() {
+        return List.copyOf(pendingValues);
+    }
+
+    public int getParallelSteps() {
+        return parallelSteps;
+    }
+
+    private List<Double> buildRound(Index<T> index) {
+        final Pair<Double, DichotomyStepResult<T>> highestValidStep = index.highestValidStep();
+        final Pair<Double, DichotomyStepResult<T>> lowestInvalidStep = index.lowestInvalidStep();
+        final List<Double> round = new ArrayList<>();
+        if (lowestInvalidStep == null) {
+            round.add(maxValue);
+        }
+        if (highestValidStep == null && round.size() < parallelSteps) {
+            round.add(minValue);
+        }
+        final double lowerBound = highestValidStep != null ? highestValidStep.getLeft() : minValue;
+        final double upperBound = lowestInvalidStep != null ? lowestInvalidStep.getLeft() : maxValue;
+        // No need for more points than the ones splitting the unresolved range in intervals of the expected precision
+        final int usefulInnerPoints = Math.max(1, (int) Math.ceil((upperBound - lowerBound) / precision) - 1);
+        final int innerPoints = round.isEmpty() ? Math.min(parallelSteps, usefulInnerPoints) : Math.min(parallelSteps - round.size(), usefulInnerPoints);
+        for (int i = 1; i <= innerPoints; i++) {
+            round.add(lowerBound + i * (upperBound - lowerBound) / (innerPoints + 1));
+        }
+        return round;
+    }
+
+    private static <T> boolean isUnresolved(double value, Index<T> index) {
+        final Pair<Double, DichotomyStepResult<T>> highestValidStep = index.highestValidStep();
+        final Pair<Double, DichotomyStepResult<T>> lowestInvalidStep = index.lowestInvalidStep();
+        return (highestValidStep == null || value > highestValidStep.getLeft())
+            && (lowestInvalidStep == null || value < lowestInvalidStep.getLeft());
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.swe.runner.app.dichotomy;
+
+import com.farao_community.farao.dichotomy.api.NetworkShifter;
+import com.farao_community.farao.dichotomy.api.NetworkValidator;
+import com.farao_community.farao.dichotomy.api.exceptions.GlskLimitationException;
+import com.farao_community.farao.dichotomy.api.exceptions.RaoFailureException;
+import com.farao_community.farao.dichotomy.api.exceptions.RaoInterruptionException;
+import com.farao_community.farao.dichotomy.api.exceptions.ShiftingException;
+import com.farao_community.farao.dichotomy.api.exceptions.ValidationException;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import com.farao_community.farao.gridcapa_swe_commons.exception.SweInternalException;
+import com.farao_community.farao.swe.runner.app.domain.SweDichotomyValidationData;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Network shifter and validator of a dichotomy using a {@link SpeculativeIndexStrategy}.
+ * <p>
+ * When the engine shifts the network for the first value of a round, the other values of the round are shifted and
+ * validated at the same time, each one on its own copy of the network, so that their verdicts are already known or
+ * in progress when the engine asks for them. Copies are used instead of variants of the engine's network because
+ * shifting also modifies data which are not variant dependent, such as generators limits.
+ * Speculative steps whose value is dropped by the strategy are abandoned before their RAO when possible.
+ * <p>
+ * Engine calls are all made from the engine thread, speculative steps are run on the given executor.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class SpeculativeStepEvaluator implements NetworkShifter, NetworkValidator<SweDichotomyValidationData> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SpeculativeStepEvaluator.class);
+
+    /**
+     * Private copy of the network with its own shifter, used by one speculative step at a time.
+     */
+    public record Lane(Network network, NetworkShifter networkShifter) {
+    }
+
+    private final NetworkShifter networkShifter;
+    private final NetworkValidator<SweDichotomyValidationData> networkValidator;
+    private final SpeculativeIndexStrategy<SweDichotomyValidationData> indexStrategy;
+    private final Function<Network, Supplier<Lane>> laneFactoryProvider;
+    private final Executor executor;
+    private final Semaphore runningSteps;
+    private final Queue<Lane> availableLanes = new ConcurrentLinkedQueue<>();
+    private final Map<Double, SpeculativeStep> speculativeSteps = new HashMap<>();
+    private Supplier<Lane> laneFactory;
+    private double currentStepValue;
+
+    /**
+     * @param laneFactoryProvider gives, from the network of the engine in its initial state, the factory of the lanes
+     */
+    public SpeculativeStepEvaluator(NetworkShifter networkShifter,
+                                    NetworkValidator<SweDichotomyValidationData> networkValidator,
+                                    SpeculativeIndexStrategy<SweDichotomyValidationData> indexStrategy,
+                                    Function<Network, Supplier<Lane>> laneFactoryProvider,
+                                    Executor executor) {
+        this.networkShifter = networkShifter;
+        this.networkValidator = networkValidator;
+        this.indexStrategy = indexStrategy;
+        this.laneFactoryProvider = laneFactoryProvider;
+        this.executor = executor;
+        this.runningSteps = new Semaphore(Math.max(1, indexStrategy.getParallelSteps() - 1));
+        // Once the dichotomy is over, speculative steps waiting for their turn must not send useless RAO requests
+        indexStrategy.setPrecisionReachedListener(this::cancelSpeculativeSteps);
+    }
+
+    @Override
+    public void shiftNetwork(double stepValue, Network network) throws GlskLimitationException, ShiftingException {
+        currentStepValue = stepValue;
+        final SpeculativeStep speculativeStep = speculativeSteps.get(stepValue);
+        if (speculativeStep == null) {
+            startSpeculativeSteps(network);
+            networkShifter.shiftNetwork(stepValue, network);
+            return;
+        }
+        final SpeculativeStepOutcome outcome = speculativeStep.await();
+        if (outcome.shiftFailure() != null) {
+            speculativeSteps.remove(stepValue);
+            rethrowShiftFailure(outcome.shiftFailure());
+        }
+    }
+
+    @Override
+    public DichotomyStepResult<SweDichotomyValidationData> validateNetwork(Network network, DichotomyStepResult<SweDichotomyValidationData> lastDichotomyStepResult) throws ValidationException, RaoFailureException, RaoInterruptionException {
+        final SpeculativeStep speculativeStep = speculativeSteps.remove(currentStepValue);
+        if (speculativeStep == null) {
+            return networkValidator.validateNetwork(network, lastDichotomyStepResult);
+        }
+        LOGGER.info("Using result of speculative dichotomy step {}", currentStepValue);
+        final SpeculativeStepOutcome outcome = speculativeStep.await();
+        if (outcome.validationFailure() != null) {
+            rethrowValidationFailure(outcome.validationFailure());
+        }
+        return outcome.result();
+    }
+
+    private void startSpeculativeSteps(Network network) {
+        // Steps of previous rounds which are not pending anymore will never be used
+        speculativeSteps.entrySet().removeIf(entry -> {
+            if (!indexStrategy.getPendingValues().contains(entry.getKey())) {
+                entry.getValue().cancelled().set(true);
+                return true;
+            }
+            return false;
+        });
+        for (double value : indexStrategy.getPendingValues()) {
+            if (!speculativeSteps.containsKey(value)) {
+                if (laneFactory == null) {
+                    // Network is still in its initial state here, as the engine has not shifted it yet
+                    laneFactory = laneFactoryProvider.apply(network);
+                }
+                final AtomicBoolean cancelled = new AtomicBoolean(false);
+                final CompletableFuture<SpeculativeStepOutcome> outcome = CompletableFuture.supplyAsync(() -> runSpeculativeStep(value, cancelled), executor);
+                speculativeSteps.put(value, new SpeculativeStep(outcome, cancelled));
+                LOGGER.info("Speculative dichotomy step {} submitted", value);
+            }
+        }
+    }
+
+    private SpeculativeStepOutcome runSpeculativeStep(double stepValue, AtomicBoolean cancelled) {
+        try {
+            runningSteps.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return SpeculativeStepOutcome.cancelled();
+        }
+        try {
+            if (cancelled.get()) {
+                return SpeculativeStepOutcome.cancelled();
+            }
+            final Lane lane = acquireLane();
+            try {
+                return runOnLane(lane, stepValue, cancelled);
+            } finally {
+                availableLanes.add(lane);
+            }
+        } finally {
+            runningSteps.release();
+        }
+    }
+
+    private Lane acquireLane() {
+        final Lane lane = availableLanes.poll();
+        return lane != null ? lane : laneFactory.get();
+    }
+
+    private SpeculativeStepOutcome runOnLane(Lane lane, double stepValue, AtomicBoolean cancelled) {
+        final VariantManager variantManager = lane.network().getVariantManager();
+        final String initialVariantId = variantManager.getWorkingVariantId();
+        final String stepVariantId = String.format("%s-ScaledBy-%s", initialVariantId, stepValue);
+        variantManager.cloneVariant(initialVariantId, stepVariantId, true);
+        variantManager.setWorkingVariant(stepVariantId);
+        try {
+            try {
+                lane.networkShifter().shiftNetwork(stepValue, lane.network());
+            } catch (GlskLimitationException | ShiftingException e) {
+                return SpeculativeStepOutcome.ofShiftFailure(e);
+            }
+            if (cancelled.get()) {
+                return SpeculativeStepOutcome.cancelled();
+            }
+            try {
+                return SpeculativeStepOutcome.ofResult(networkValidator.validateNetwork(lane.network(), null));
+            } catch (ValidationException | RaoFailureException | RaoInterruptionException e) {
+                return SpeculativeStepOutcome.ofValidationFailure(e);
+            }
+        } catch (RuntimeException e) {
+            return SpeculativeStepOutcome.ofValidationFailure(new ValidationException("Speculative dichotomy step failed", e));
+        } finally {
+            variantManager.setWorkingVariant(initialVariantId);
+            variantManager.removeVariant(stepVariantId);
+        }
+    }
+
+    private static void rethrowShiftFailure(Exception shiftFailure) throws GlskLimitationException, ShiftingException {
+        if (shiftFailure instanceof GlskLimitationException glskLimitationException) {
+            throw glskLimitationException;
+        }
+        throw (ShiftingException) shiftFailure;
+    }
+
+    private static void rethrowValidationFailure(Exception validationFailure) throws ValidationException, RaoFailureException, RaoInterruptionException {
+        if (validationFailure instanceof RaoFailureException raoFailureException) {
+            throw raoFailureException;
+        } else if (validationFailure instanceof RaoInterruptionException raoInterruptionException) {
+            throw raoInterruptionException;
+        }
+        throw (ValidationException) validationFailure;
+    }
+
+    /**
+     * Abandons all the speculative steps which have not started their RAO yet.
+     */
+    void cancelSpeculativeSteps() {
+        speculativeSteps.values().forEach(speculativeStep -> speculativeStep.cancelled().set(true));
+        speculativeSteps.clear();
+    }
+
+    private record SpeculativeStep(CompletableFuture<SpeculativeStepOutcome> outcome, AtomicBoolean cancelled) {
+        SpeculativeStepOutcome await() {
+            try {
+                return outcome.join();
+            } catch (CompletionException e) {
+                throw new SweInternalException("Speculative dichotomy step failed", e.getCause());
+            }
+        }
+    }
+
+    private record SpeculativeStepOutcome(DichotomyStepResult<SweDichotomyValidationData> result, Exception shiftFailure, Exception validationFailure) {
+        static SpeculativeStepOutcome ofResult(DichotomyStepResult<SweDichotomyValidationData> result) {
+            return new SpeculativeStepOutcome(result, null, null);
+        }
+
+        static SpeculativeStepOutcome ofShiftFailure(Exception shiftFailure) {
+            return new SpeculativeStepOutcome(null, shiftFailure, null);
+        }
+
+        static SpeculativeStepOutcome ofValidationFailure(Exception validationFailure) {
+            return new SpeculativeStepOutcome(null, null, validationFailure);
+        }
+
+        static SpeculativeStepOutcome cancelled() {
+            return ofValidationFailure(new ValidationException("Speculative dichotomy step cancelled", new CancellationException()));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.swe.runner.app.dichotomy;
+
+import com.farao_community.farao.dichotomy.api.index.HalfRangeDivisionIndexStrategy;
+import com.farao_community.farao.dichotomy.api.index.Index;
+import com.farao_community.farao.dichotomy.api.index.IndexStrategy;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import org.apache.commons.lang3.tuple.Pair;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Half range division starting from an expected interval instead of the whole index range.
+ * <p>
+ * The upper then lower values of the expected interval are tested first. If the upper value is secure, or the lower
+ * one unsecure, the TTC is outside the expected interval and the tested value is moved further, by a step doubled each
+ * time, until the index bounds are reached. Once a secure and an unsecure value are known, the range is halved as
+ * in {@link HalfRangeDivisionIndexStrategy}.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class WarmStartIndexStrategy<T> implements IndexStrategy<T> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(WarmStartIndexStrategy.class);
+
+    private final double minValue;
+    private final double maxValue;
+    private final WarmStartInterval warmStartInterval;
+    private final HalfRangeDivisionIndexStrategy<T> halfRangeDivisionIndexStrategy = new HalfRangeDivisionIndexStrategy<>(false);
+    private double wideningStep;
+
+    public WarmStartIndexStrategy(double minValue, double maxValue, WarmStartInterval warmStartInterval) {
+        this.minValue = minValue;
+        this.maxValue = maxValue;
+        this.warmStartInterval = warmStartInterval;
+        this.wideningStep = warmStartInterval.upperValue() - warmStartInterval.lowerValue();
+    }
+
+    @Override
+    public double nextValue(Index<T> index) {
+        final Pair<Double, DichotomyStepResult<T>> highestValidStep = index.highestValidStep();
+        final Pair<Double, DichotomyStepResult<T>> lowestInvalidStep = index.lowestInvalidStep();
+        if (lowestInvalidStep == null) {
+            if (highestValidStep == null) {
+                return warmStartInterval.upperValue();
+            }
+            return widen(Math.min(maxValue, highestValidStep.getLeft() + wideningStep));
+        }
+        if (highestValidStep == null) {
+            if (lowestInvalidStep.getLeft() > warmStartInterval.lowerValue()) {
+                return warmStartInterval.lowerValue();
+            }
+            return widen(Math.max(minValue, lowestInvalidStep.getLeft() - wideningStep));
+        }
+        return (highestValidStep.getLeft() + lowestInvalidStep.getLeft()) / 2;
+    }
+
+    @Override
+    public boolean precisionReached(Index<T> index) {
+        return halfRangeDivisionIndexStrategy.precisionReached(index);
+    }
+
+    private double widen(double value) {
+        LOGGER.info("TTC is outside of the expected interval [{}, {}], testing {}", warmStartInterval.lowerValue(), warmStartInterval.upperValue(), value);
+        wideningStep *= 2;
+        return value;
+    }
+}
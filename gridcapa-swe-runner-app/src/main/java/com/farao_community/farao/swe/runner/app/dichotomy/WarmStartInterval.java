@@ -0,0 +1,15 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.swe.runner.app.dichotomy;
+
+/**
+ * Interval in which the TTC of a direction is expected, probed first by a {@link WarmStartIndexStrategy}.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public record WarmStartInterval(double lowerValue, double upperValue) {
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.swe.runner.app.domain;
+
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import com.farao_community.farao.rao_runner.api.resource.RaoSuccessResponse;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Validated steps of the dichotomy of one direction, saved after each RAO so that a rerun of the same inputs does not
+ * compute them again.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class DichotomyCheckpoint {
+
+    private final String path;
+    private final List<Step> steps;
+
+    public record Step(double stepValue,
+                       boolean valid,
+                       SweDichotomyValidationData.AngleMonitoringStatus angleMonitoringStatus,
+                       String raoResponseId,
+                       String networkWithPraFileUrl,
+                       String cracFileUrl,
+                       String raoResultFileUrl,
+                       Instant computationStartInstant,
+                       Instant computationEndInstant) {
+
+        public static Step of(double stepValue, DichotomyStepResult<SweDichotomyValidationData> stepResult) {
+            final RaoSuccessResponse raoResponse = stepResult.getValidationData().getRaoResponse();
+            return new Step(stepValue, stepResult.isValid(), stepResult.getValidationData().getAngleMonitoringStatus(),
+                raoResponse.getId(), raoResponse.getNetworkWithPraFileUrl(), raoResponse.getCracFileUrl(), raoResponse.getRaoResultFileUrl(),
+                raoResponse.getComputationStartInstant(), raoResponse.getComputationEndInstant());
+        }
+
+        public SweDichotomyValidationData toValidationData() {
+            final RaoSuccessResponse raoResponse = new RaoSuccessResponse.Builder()
+                .withId(raoResponseId)
+                .withNetworkWithPraFileUrl(networkWithPraFileUrl)
+                .withCracFileUrl(cracFileUrl)
+                .withRaoResultFileUrl(raoResultFileUrl)
+                .withComputationStartInstant(computationStartInstant)
+                .withComputationEndInstant(computationEndInstant)
+                .build();
+            return new SweDichotomyValidationData(raoResponse, angleMonitoringStatus);
+        }
+    }
+
+    public DichotomyCheckpoint(String path, List<Step> steps) {
+        this.path = path;
+        this.steps = new ArrayList<>(steps);
+    }
+
+    public static DichotomyCheckpoint disabled() {
+        return new DichotomyCheckpoint(null, List.of());
+    }
+
+    public boolean isEnabled() {
+        return path != null;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public List<Step> getSteps() {
+        return List.copyOf(steps);
+    }
+
+    public void addStep(Step step) {
+        steps.removeIf(savedStep -> savedStep.stepValue() == step.stepValue());
+        steps.add(step);
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.swe.runner.app.domain;
+
+import com.powsybl.iidm.network.Generator;
+import com.powsybl.iidm.network.Network;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Pmin and Pmax of all the generators of a network. Unlike target values, they are not part of the network variants,
+ * so they are saved and restored explicitly when several directions are run on the same network instance.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class GeneratorActivePowerLimits {
+
+    private final Map<String, Limits> limitsByGenerator;
+
+    private record Limits(double minP, double maxP) {
+    }
+
+    private GeneratorActivePowerLimits(Map<String, Limits> limitsByGenerator) {
+        this.limitsByGenerator = limitsByGenerator;
+    }
+
+    public static GeneratorActivePowerLimits of(Network network) {
+        final Map<String, Limits> limitsByGenerator = new HashMap<>();
+        network.getGenerators().forEach(generator -> limitsByGenerator.put(generator.getId(), new Limits(generator.getMinP(), generator.getMaxP())));
+        return new GeneratorActivePowerLimits(limitsByGenerator);
+    }
+
+    public void restore(Network network) {
+        limitsByGenerator.forEach((id, limits) -> {
+            final Generator generator = network.getGenerator(id);
+            // Limits are set in an order which keeps Pmin lower than Pmax at any time
+            if (limits.minP() > generator.getMaxP()) {
+                generator.setMaxP(limits.maxP());
+                generator.setMinP(limits.minP());
+            } else {
+                generator.setMinP(limits.minP());
+                generator.setMaxP(limits.maxP());
+            }
+        });
+    }
+}
@@ -6,15 +6,23 @@
  */
 package com.farao_community.farao.swe.runner.app.domain;
 
+import com.farao_community.farao.gridcapa_swe_commons.dichotomy.DichotomyDirection;
 import com.farao_community.farao.gridcapa_swe_commons.hvdc.HvdcInformation;
 import com.farao_community.farao.gridcapa_swe_commons.resource.ProcessType;
 import com.farao_community.farao.swe.runner.api.resource.SweFileResource;
+import com.google.common.base.Suppliers;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.openrao.data.crac.io.cim.craccreator.CimCracCreationContext;
 
 import java.time.OffsetDateTime;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 /**
  * @author Theo Pascoli {@literal <theo.pascoli at rte-france.com>}
@@ -25,38 +33,76 @@ public class SweData {
     private final String runId;
     private final OffsetDateTime timestamp;
     private final ProcessType processType;
-    private final Network networkEsFr;
-    private final Network networkFrEs;
-    private final Network networkEsPt;
-    private final Network networkPtEs;
-    private final CimCracCreationContext cracEsPt;
-    private final CimCracCreationContext cracFrEs;
+    private final Map<DichotomyDirection, Supplier<Network>> networks;
+    private final Supplier<CimCracCreationContext> cracEsPt;
+    private final Supplier<CimCracCreationContext> cracFrEs;
     private final String glskUrl;
-    private final String jsonCracPathEsPt;
-    private final String jsonCracPathFrEs;
-    private final String raoParametersEsFrUrl;
-    private final String raoParametersEsPtUrl;
+    private final Supplier<String> jsonCracPathEsPt;
+    private final Supplier<String> jsonCracPathFrEs;
+    private final Supplier<String> raoParametersEsFrUrl;
+    private final Supplier<String> raoParametersEsPtUrl;
     private final List<HvdcInformation> hvdcInformationList;
     private final Map<CgmesFileType, SweFileResource> mapCgmesInputFiles;
+    private final Map<DichotomyDirection, String> networkVariantIds;
+    private final List<SweFileResource> inputFiles;
+    private final AtomicReference<CompletableFuture<Map<String, Double>>> initialNetPositions = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<String>> inputFilesIdentity = new AtomicReference<>();
 
     public SweData(String id, String runId, OffsetDateTime timestamp, ProcessType processType, Network networkEsFr, Network networkFrEs, Network networkEsPt, Network networkPtEs, CimCracCreationContext cracFrEs, CimCracCreationContext cracEsPt, String glskUrl, String jsonCracPathEsPt, String jsonCracPathFrEs, String raoParametersEsFrUrl, String raoParametersEsPtUrl, List<HvdcInformation> hvdcInformationList, Map<CgmesFileType, SweFileResource> mapCgmesInputFiles) {
+        this(id, runId, timestamp, processType, networkEsFr, networkFrEs, networkEsPt, networkPtEs, cracFrEs, cracEsPt, glskUrl, jsonCracPathEsPt, jsonCracPathFrEs, raoParametersEsFrUrl, raoParametersEsPtUrl, hvdcInformationList, mapCgmesInputFiles, Map.of());
+    }
+
+    /**
+     * @param networkVariantIds variant to work on for each direction, when all directions share the same network instance.
+     *                          Empty when each direction has its own network.
+     */
+    public SweData(String id, String runId, OffsetDateTime timestamp, ProcessType processType, Network networkEsFr, Network networkFrEs, Network networkEsPt, Network networkPtEs, CimCracCreationContext cracFrEs, CimCracCreationContext cracEsPt, String glskUrl, String jsonCracPathEsPt, String jsonCracPathFrEs, String raoParametersEsFrUrl, String raoParametersEsPtUrl, List<HvdcInformation> hvdcInformationList, Map<CgmesFileType, SweFileResource> mapCgmesInputFiles, Map<DichotomyDirection, String> networkVariantIds) {
+        this(id, runId, timestamp, processType,
+            networksByDirection(networkEsFr, networkFrEs, networkEsPt, networkPtEs),
+            () -> cracFrEs, () -> cracEsPt, glskUrl, () -> jsonCracPathEsPt, () -> jsonCracPathFrEs, () -> raoParametersEsFrUrl, () -> raoParametersEsPtUrl,
+            hvdcInformationList, mapCgmesInputFiles, networkVariantIds, List.of());
+    }
+
+    /**
+     * Lazy version: networks, CRACs and uploaded file URLs are only computed on first access, at most once,
+     * so that data of directions which are not run is never loaded.
+     *
+     * @param networks network supplier for each direction
+     * @param networkVariantIds variant to work on for each direction, when all directions share the same network instance.
+     *                          Empty when each direction has its own network.
+     * @param inputFiles all the input files of the request: CGMES files, boundaries, CRAC and GLSK
+     */
+    public SweData(String id, String runId, OffsetDateTime timestamp, ProcessType processType, Map<DichotomyDirection, Supplier<Network>> networks, Supplier<CimCracCreationContext> cracFrEs, Supplier<CimCracCreationContext> cracEsPt, String glskUrl, Supplier<String> jsonCracPathEsPt, Supplier<String> jsonCracPathFrEs, Supplier<String> raoParametersEsFrUrl, Supplier<String> raoParametersEsPtUrl, List<HvdcInformation> hvdcInformationList, Map<CgmesFileType, SweFileResource> mapCgmesInputFiles, Map<DichotomyDirection, String> networkVariantIds, List<SweFileResource> inputFiles) {
         this.id = id;
         this.runId = runId;
         this.timestamp = timestamp;
         this.processType = processType;
-        this.networkEsFr = networkEsFr;
-        this.networkFrEs = networkFrEs;
-        this.networkEsPt = networkEsPt;
-        this.networkPtEs = networkPtEs;
-        this.cracEsPt = cracEsPt;
-        this.cracFrEs = cracFrEs;
+        this.networks = new EnumMap<>(DichotomyDirection.class);
+        networks.forEach((direction, network) -> this.networks.put(direction, memoize(network)));
+        this.cracEsPt = memoize(cracEsPt);
+        this.cracFrEs = memoize(cracFrEs);
         this.glskUrl = glskUrl;
-        this.jsonCracPathEsPt = jsonCracPathEsPt;
-        this.jsonCracPathFrEs = jsonCracPathFrEs;
-        this.raoParametersEsFrUrl = raoParametersEsFrUrl;
-        this.raoParametersEsPtUrl = raoParametersEsPtUrl;
+        this.jsonCracPathEsPt = memoize(jsonCracPathEsPt);
+        this.jsonCracPathFrEs = memoize(jsonCracPathFrEs);
+        this.raoParametersEsFrUrl = memoize(raoParametersEsFrUrl);
+        this.raoParametersEsPtUrl = memoize(raoParametersEsPtUrl);
         this.hvdcInformationList = hvdcInformationList;
         this.mapCgmesInputFiles = mapCgmesInputFiles;
+        this.networkVariantIds = networkVariantIds;
+        this.inputFiles = inputFiles;
+    }
+
+    private static Map<DichotomyDirection, Supplier<Network>> networksByDirection(Network networkEsFr, Network networkFrEs, Network networkEsPt, Network networkPtEs) {
+        Map<DichotomyDirection, Supplier<Network>> networks = new EnumMap<>(DichotomyDirection.class);
+        networks.put(DichotomyDirection.ES_FR, () -> networkEsFr);
+        networks.put(DichotomyDirection.FR_ES, () -> networkFrEs);
+        networks.put(DichotomyDirection.ES_PT, () -> networkEsPt);
+        networks.put(DichotomyDirection.PT_ES, () -> networkPtEs);
+        return networks;
+    }
+
+    private static <T> Supplier<T> memoize(Supplier<T> supplier) {
+        return Suppliers.memoize(supplier::get);
     }
 
     public String getId() {
@@ -76,27 +122,27 @@ public class SweData {
     }
 
     public Network getNetworkEsFr() {
-        return networkEsFr;
+        return networks.get(DichotomyDirection.ES_FR).get();
     }
 
     public Network getNetworkFrEs() {
-        return networkFrEs;
+        return networks.get(DichotomyDirection.FR_ES).get();
     }
 
     public Network getNetworkEsPt() {
-        return networkEsPt;
+        return networks.get(DichotomyDirection.ES_PT).get();
     }
 
     public Network getNetworkPtEs() {
-        return networkPtEs;
+        return networks.get(DichotomyDirection.PT_ES).get();
     }
 
     public CimCracCreationContext getCracEsPt() {
-        return cracEsPt;
+        return cracEsPt.get();
     }
 
     public CimCracCreationContext getCracFrEs() {
-        return cracFrEs;
+        return cracFrEs.get();
     }
 
     public String getGlskUrl() {
@@ -104,19 +150,19 @@ public class SweData {
     }
 
     public String getJsonCracPathEsPt() {
-        return jsonCracPathEsPt;
+        return jsonCracPathEsPt.get();
     }
 
     public String getJsonCracPathFrEs() {
-        return jsonCracPathFrEs;
+        return jsonCracPathFrEs.get();
     }
 
     public String getRaoParametersEsFrUrl() {
-        return raoParametersEsFrUrl;
+        return raoParametersEsFrUrl.get();
     }
 
     public String getRaoParametersEsPtUrl() {
-        return raoParametersEsPtUrl;
+        return raoParametersEsPtUrl.get();
     }
 
     public List<HvdcInformation> getHvdcInformationList() {
@@ -127,4 +173,70 @@ public class SweData {
         return mapCgmesInputFiles;
     }
 
+    /**
+     * All the input files of the request, empty when the data is not built from a request.
+     */
+    public List<SweFileResource> getInputFiles() {
+        return inputFiles;
+    }
+
+    public Optional<String> getNetworkVariantId(DichotomyDirection direction) {
+        return Optional.ofNullable(networkVariantIds.get(direction));
+    }
+
+    /**
+     * True when all directions work on their own variant of the same network instance.
+     */
+    public boolean isNetworkShared() {
+        return !networkVariantIds.isEmpty();
+    }
+
+    /**
+     * Computes the initial net positions of the SWE countries, unless they have already been computed.
+     * A failure, such as an unsecure base case, is kept and rethrown to every caller of {@link #getInitialNetPositions}.
+     */
+    public void computeInitialNetPositions(Supplier<Map<String, Double>> computation) {
+        computeOnce(initialNetPositions, () -> Map.copyOf(computation.get()));
+    }
+
+    /**
+     * Returns the initial net positions of the SWE countries. If they have not been computed yet, they are computed by
+     * the first caller only, the other ones wait for its result.
+     */
+    public Map<String, Double> getInitialNetPositions(Supplier<Map<String, Double>> computation) {
+        computeInitialNetPositions(computation);
+        return join(initialNetPositions);
+    }
+
+    /**
+     * Returns the identity of the content of the input files, computed by the first caller only, the other ones wait
+     * for its result. A failure is kept and rethrown to every caller, as the content of the files does not change.
+     */
+    public String getInputFilesIdentity(Supplier<String> computation) {
+        computeOnce(inputFilesIdentity, computation);
+        return join(inputFilesIdentity);
+    }
+
+    private static <T> void computeOnce(AtomicReference<CompletableFuture<T>> result, Supplier<T> computation) {
+        final CompletableFuture<T> newResult = new CompletableFuture<>();
+        if (result.compareAndSet(null, newResult)) {
+            try {
+                newResult.complete(computation.get());
+            } catch (RuntimeException e) {
+                newResult.completeExceptionally(e);
+            }
+        }
+    }
+
+    private static <T> T join(AtomicReference<CompletableFuture<T>> result) {
+        try {
+            return result.get().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
 }
@@ -7,6 +7,7 @@
 package com.farao_community.farao.swe.runner.app.domain;
 
 import com.farao_community.farao.gridcapa.task_manager.api.TaskParameterDto;
+import com.farao_community.farao.gridcapa_swe_commons.dichotomy.DichotomyDirection;
 import com.farao_community.farao.gridcapa_swe_commons.exception.SweInvalidDataException;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -37,6 +38,16 @@ public class SweTaskParameters {
     private static final String DICHOTOMY_PRECISION_FR_ES = "DICHOTOMY_PRECISION_FR-ES";
     private static final String DICHOTOMY_PRECISION_ES_PT = "DICHOTOMY_PRECISION_ES-PT";
     private static final String DICHOTOMY_PRECISION_PT_ES = "DICHOTOMY_PRECISION_PT-ES";
+    /**
+     * Number of dichotomy steps evaluated at the same time for a direction. Each step beyond the engine's one is run on
+     * its own copy of the network, so up to that number minus one more networks of the direction are held in memory.
+     * Ignored when directions share the same network.
+     */
+    private static final String DICHOTOMY_PARALLEL_STEPS_ES_FR = "DICHOTOMY_PARALLEL_STEPS_ES-FR";
+    private static final String DICHOTOMY_PARALLEL_STEPS_FR_ES = "DICHOTOMY_PARALLEL_STEPS_FR-ES";
+    private static final String DICHOTOMY_PARALLEL_STEPS_ES_PT = "DICHOTOMY_PARALLEL_STEPS_ES-PT";
+    private static final String DICHOTOMY_PARALLEL_STEPS_PT_ES = "DICHOTOMY_PARALLEL_STEPS_PT-ES";
+    private static final String DICHOTOMY_MARGIN_GUIDED = "DICHOTOMY_MARGIN_GUIDED";
     private static final String RUN_ANGLE_CHECK = "RUN_ANGLE_CHECK";
     private static final String RUN_VOLTAGE_CHECK = "RUN_VOLTAGE_CHECK";
     private static final String MAX_CRA = "MAX_CRA";
@@ -61,6 +72,11 @@ public class SweTaskParameters {
     private int dichotomyPrecisionFrEs;
     private int dichotomyPrecisionEsPt;
     private int dichotomyPrecisionPtEs;
+    private int dichotomyParallelStepsEsFr = 1;
+    private int dichotomyParallelStepsFrEs = 1;
+    private int dichotomyParallelStepsEsPt = 1;
+    private int dichotomyParallelStepsPtEs = 1;
+    private boolean dichotomyMarginGuided;
     private boolean runAngleCheck;
     private boolean runVoltageCheck;
     private int maxCra;
@@ -89,6 +105,11 @@ public class SweTaskParameters {
                 case DICHOTOMY_PRECISION_FR_ES -> dichotomyPrecisionFrEs = validateIsPositiveIntegerAndGet(parameter, errors);
                 case DICHOTOMY_PRECISION_ES_PT -> dichotomyPrecisionEsPt = validateIsPositiveIntegerAndGet(parameter, errors);
                 case DICHOTOMY_PRECISION_PT_ES -> dichotomyPrecisionPtEs = validateIsPositiveIntegerAndGet(parameter, errors);
+                case DICHOTOMY_PARALLEL_STEPS_ES_FR -> dichotomyParallelStepsEsFr = validateIsPositiveIntegerAndGet(parameter, errors);
+                case DICHOTOMY_PARALLEL_STEPS_FR_ES -> dichotomyParallelStepsFrEs = validateIsPositiveIntegerAndGet(parameter, errors);
+                case DICHOTOMY_PARALLEL_STEPS_ES_PT -> dichotomyParallelStepsEsPt = validateIsPositiveIntegerAndGet(parameter, errors);
+                case DICHOTOMY_PARALLEL_STEPS_PT_ES -> dichotomyParallelStepsPtEs = validateIsPositiveIntegerAndGet(parameter, errors);
+                case DICHOTOMY_MARGIN_GUIDED -> dichotomyMarginGuided = validateIsBooleanAndGet(parameter, errors);
                 case RUN_ANGLE_CHECK -> runAngleCheck = validateIsBooleanAndGet(parameter, errors);
                 case RUN_VOLTAGE_CHECK -> runVoltageCheck = validateIsBooleanAndGet(parameter, errors);
                 case MAX_CRA -> maxCra = validateIsPositiveIntegerAndGet(parameter, errors);
@@ -144,15 +165,19 @@ public class SweTaskParameters {
     private void crossValidateParameters(final List<String> errors) {
         if (runDirectionEsFr) {
             validateStartingPointAndMinPoint("ES-FR", maxTtcEsFr, minTtcEsFr, errors);
+            validateParallelSteps("ES-FR", dichotomyParallelStepsEsFr, errors);
         }
         if (runDirectionFrEs) {
             validateStartingPointAndMinPoint("FR-ES", maxTtcFrEs, minTtcFrEs, errors);
+            validateParallelSteps("FR-ES", dichotomyParallelStepsFrEs, errors);
         }
         if (runDirectionEsPt) {
             validateStartingPointAndMinPoint("ES-PT", maxTtcEsPt, minTtcEsPt, errors);
+            validateParallelSteps("ES-PT", dichotomyParallelStepsEsPt, errors);
         }
         if (runDirectionPtEs) {
             validateStartingPointAndMinPoint("PT-ES", maxTtcPtEs, minTtcPtEs, errors);
+            validateParallelSteps("PT-ES", dichotomyParallelStepsPtEs, errors);
         }
     }
 
@@ -165,6 +190,16 @@ public class SweTaskParameters {
         }
     }
 
+    private void validateParallelSteps(final String direction,
+                                       final int parallelSteps,
+                                       final List<String> errors) {
+        if (parallelSteps < 1) {
+            errors.add(String.format("[%s] Number of dichotomy parallel steps (value: %d) should be at least 1", direction, parallelSteps));
+        } else if (parallelSteps > 1 && dichotomyMarginGuided) {
+            errors.add(String.format("[%s] Margin guided dichotomy cannot be run with several parallel steps (value: %d)", direction, parallelSteps));
+        }
+    }
+
     public boolean isRunDirectionEsFr() {
         return runDirectionEsFr;
     }
@@ -181,6 +216,15 @@ public class SweTaskParameters {
         return runDirectionPtEs;
     }
 
+    public boolean isRunDirection(final DichotomyDirection direction) {
+        return switch (direction) {
+            case ES_FR -> runDirectionEsFr;
+            case FR_ES -> runDirectionFrEs;
+            case ES_PT -> runDirectionEsPt;
+            case PT_ES -> runDirectionPtEs;
+        };
+    }
+
     public int getMaxTtcEsFr() {
         return maxTtcEsFr;
     }
@@ -229,6 +273,26 @@ public class SweTaskParameters {
         return dichotomyPrecisionPtEs;
     }
 
+    public int getDichotomyParallelStepsEsFr() {
+        return dichotomyParallelStepsEsFr;
+    }
+
+    public int getDichotomyParallelStepsFrEs() {
+        return dichotomyParallelStepsFrEs;
+    }
+
+    public int getDichotomyParallelStepsEsPt() {
+        return dichotomyParallelStepsEsPt;
+    }
+
+    public int getDichotomyParallelStepsPtEs() {
+        return dichotomyParallelStepsPtEs;
+    }
+
+    public boolean isDichotomyMarginGuided() {
+        return dichotomyMarginGuided;
+    }
+
     public boolean isRunAngleCheck() {
         return runAngleCheck;
     }
@@ -279,6 +343,11 @@ public class SweTaskParameters {
         appender.add(String.format(KEY_VALUE_FORMAT, DICHOTOMY_PRECISION_FR_ES, dichotomyPrecisionFrEs));
         appender.add(String.format(KEY_VALUE_FORMAT, DICHOTOMY_PRECISION_ES_PT, dichotomyPrecisionEsPt));
         appender.add(String.format(KEY_VALUE_FORMAT, DICHOTOMY_PRECISION_PT_ES, dichotomyPrecisionPtEs));
+        appender.add(String.format(KEY_VALUE_FORMAT, DICHOTOMY_PARALLEL_STEPS_ES_FR, dichotomyParallelStepsEsFr));
+        appender.add(String.format(KEY_VALUE_FORMAT, DICHOTOMY_PARALLEL_STEPS_FR_ES, dichotomyParallelStepsFrEs));
+        appender.add(String.format(KEY_VALUE_FORMAT, DICHOTOMY_PARALLEL_STEPS_ES_PT, dichotomyParallelStepsEsPt));
+        appender.add(String.format(KEY_VALUE_FORMAT, DICHOTOMY_PARALLEL_STEPS_PT_ES, dichotomyParallelStepsPtEs));
+        appender.add(String.format(KEY_VALUE_FORMAT, DICHOTOMY_MARGIN_GUIDED, dichotomyMarginGuided));
         appender.add(String.format(KEY_VALUE_FORMAT, RUN_ANGLE_CHECK, runAngleCheck));
         appender.add(String.format(KEY_VALUE_FORMAT, RUN_VOLTAGE_CHECK, runVoltageCheck));
         appender.add(String.format(KEY_VALUE_FORMAT, MAX_CRA, maxCra));
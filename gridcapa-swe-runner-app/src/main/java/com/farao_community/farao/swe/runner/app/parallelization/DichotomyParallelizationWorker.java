@@ -57,7 +57,7 @@ public class DichotomyParallelizationWorker {
         this.outputService = outputService;
     }
 
-    @Async("threadPoolTaskExecutor")
+    @Async("dichotomyTaskExecutor")
     public Future<SweDichotomyResult> runDichotomyForOneDirection(final SweData sweData,
                                                                   final SweTaskParameters sweTaskParameters,
                                                                   final DichotomyDirection direction,
@@ -294,7 +294,7 @@ public class CgmesExportService {
     private InputStream getInputStreamFromData(SweData sweData, CgmesFileType cgmesFileType) {
         SweFileResource sweFileResource = sweData.getMapCgmesInputFiles().get(cgmesFileType);
         if (sweFileResource != null) {
-            return fileImporter.importCgmesFiles(sweFileResource.getUrl());
+            return fileImporter.importCgmesFiles(sweFileResource);
         } else {
             throw new SweInvalidDataException(String.format("Can not find file associated with %s", cgmesFileType.name()));
         }
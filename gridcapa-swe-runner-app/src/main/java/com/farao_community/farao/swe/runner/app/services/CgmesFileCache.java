@@ -0,0 +1,311 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.swe.runner.app.services;
+
+import com.farao_community.farao.gridcapa_swe_commons.exception.SweInternalException;
+import com.farao_community.farao.gridcapa_swe_commons.exception.SweInvalidDataException;
+import com.farao_community.farao.swe.runner.api.resource.SweFileResource;
+import com.farao_community.farao.swe.runner.app.configurations.CgmesCacheConfiguration;
+import com.farao_community.farao.swe.runner.app.utils.UrlValidationService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Local disk cache of the input CGMES profiles, which are mostly identical from one timestamp to the next.
+ * <p>
+ * Entries are keyed by file name and ETag of the stored object, so that a profile is only downloaded again when its
+ * content changed. As presigned URLs only allow GET requests, a file whose ETag is already known is requested with
+ * a conditional GET, and the server answers with no body when the ETag still matches. Otherwise, the body is only
+ * read on a cache miss. Files served without ETag are not cached. Least recently used entries are evicted once the
+ * cache exceeds its configured size.
+ * <p>
+ * Hits, misses and files which cannot be cached are counted in the {@value #REQUESTS_METER} meter, tagged by result,
+ * and the size of the cache is given by the {@value #SIZE_METER} gauge.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Service
+public class CgmesFileCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CgmesFileCache.class);
+    private static final String ETAG_HEADER = "ETag";
+    private static final String IF_NONE_MATCH_HEADER = "If-None-Match";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    static final String REQUESTS_METER = "swe.cgmes.cache.requests";
+    static final String SIZE_METER = "swe.cgmes.cache.size";
+
+    private final UrlValidationService urlValidationService;
+    private final Path directory;
+    private final long maxSizeInBytes;
+    private final boolean enabled;
+    /**
+     * Size of each entry of the cache, in access order. All accesses are synchronized on the map itself.
+     */
+    private final Map<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long cacheSize = 0;
+    /**
+     * ETag of the cached entry of each file name, known since the last restart. Synchronized on the entries map.
+     */
+    private final Map<String, String> etagsByFilename = new HashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter uncacheable;
+
+    public CgmesFileCache(CgmesCacheConfiguration cgmesCacheConfiguration, UrlValidationService urlValidationService, MeterRegistry meterRegistry) {
+        this.urlValidationService = urlValidationService;
+        this.directory = Paths.get(cgmesCacheConfiguration.getDirectory());
+        this.maxSizeInBytes = cgmesCacheConfiguration.getMaxSizeMb() * 1024 * 1024;
+        this.enabled = cgmesCacheConfiguration.isEnabled() && loadEntries();
+        this.hits = registerRequestsCounter(meterRegistry, "hit");
+        this.misses = registerRequestsCounter(meterRegistry, "miss");
+        this.uncacheable = registerRequestsCounter(meterRegistry, "uncacheable");
+        Gauge.builder(SIZE_METER, this, CgmesFileCache::getSize)
+            .description("Size of the CGMES files local cache")
+            .baseUnit(BaseUnits.BYTES)
+            .strongReference(true)
+            .register(meterRegistry);
+    }
+
+    private static Counter registerRequestsCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(REQUESTS_METER)
+            .description("CGMES files requested to the local cache")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    private boolean loadEntries() {
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                List<Path> entryFiles = files.filter(Files::isRegularFile).toList();
+                for (Path entryFile : entryFiles) {
+                    if (entryFile.getFileName().toString().endsWith(TEMPORARY_FILE_SUFFIX)) {
+                        Files.deleteIfExists(entryFile);
+                    }
+                }
+                // Entries are registered from the least to the most recently used one, to keep the LRU order across restarts
+                entryFiles.stream()
+                    .filter(Files::exists)
+                    .sorted(Comparator.comparing(CgmesFileCache::getLastModifiedTime))
+                    .forEach(entryFile -> registerEntry(entryFile.getFileName().toString(), entryFile.toFile().length()));
+            }
+            LOGGER.info("CGMES files cache loaded from {}: {} entries, {} bytes", directory, entries.size(), cacheSize);
+            return true;
+        } catch (IOException | SecurityException e) {
+            LOGGER.warn("CGMES files cache directory {} cannot be used, input files will always be downloaded", directory, e);
+            return false;
+        }
+    }
+
+    public InputStream openStream(SweFileResource file) {
+        return new ByteArrayInputStream(getContent(file));
+    }
+
+    public byte[] getContent(SweFileResource file) {
+        final URLConnection connection = urlValidationService.openUrlConnection(file.getUrl());
+        final String knownEtag = enabled ? getKnownEtag(file.getFilename()) : null;
+        if (knownEtag != null && connection instanceof HttpURLConnection httpURLConnection) {
+            httpURLConnection.setRequestProperty(IF_NONE_MATCH_HEADER, knownEtag);
+            if (isNotModified(httpURLConnection, file)) {
+                httpURLConnection.disconnect();
+                final Optional<byte[]> cachedContent = readEntry(buildKey(file.getFilename(), knownEtag));
+                if (cachedContent.isPresent()) {
+                    return hit(file, cachedContent.get());
+                }
+                // Entry has been removed meanwhile, the file is requested again without condition
+                forgetEtag(file.getFilename());
+                return getContent(file, urlValidationService.openUrlConnection(file.getUrl()));
+            }
+        }
+        return getContent(file, connection);
+    }
+
+    public long getSize() {
+        synchronized (entries) {
+            return cacheSize;
+        }
+    }
+
+    private byte[] getContent(SweFileResource file, URLConnection connection) {
+        final String etag = enabled ? connection.getHeaderField(ETAG_HEADER) : null;
+        if (etag == null) {
+            uncacheable.increment();
+            return readContent(connection, file);
+        }
+        final String key = buildKey(file.getFilename(), etag);
+        final Optional<byte[]> cachedContent = readEntry(key);
+        if (cachedContent.isPresent()) {
+            if (connection instanceof HttpURLConnection httpURLConnection) {
+                httpURLConnection.disconnect();
+            }
+            rememberEtag(file.getFilename(), etag);
+            return hit(file, cachedContent.get());
+        }
+        misses.increment();
+        LOGGER.info("CGMES file {} not found in local cache (hits: {}, misses: {})", file.getFilename(), (long) hits.count(), (long) misses.count());
+        final byte[] content = readContent(connection, file);
+        writeEntry(key, content);
+        rememberEtag(file.getFilename(), etag);
+        return content;
+    }
+
+    private byte[] hit(SweFileResource file, byte[] cachedContent) {
+        hits.increment();
+        LOGGER.info("CGMES file {} read from local cache (hits: {}, misses: {})", file.getFilename(), (long) hits.count(), (long) misses.count());
+        return cachedContent;
+    }
+
+    private static boolean isNotModified(HttpURLConnection connection, SweFileResource file) {
+        try {
+            return connection.getResponseCode() == HttpURLConnection.HTTP_NOT_MODIFIED;
+        } catch (IOException e) {
+            throw new SweInvalidDataException(String.format("Error downloading file %s", file.getFilename()), e);
+        }
+    }
+
+    private String getKnownEtag(String filename) {
+        synchronized (entries) {
+            return etagsByFilename.get(filename);
+        }
+    }
+
+    private void rememberEtag(String filename, String etag) {
+        synchronized (entries) {
+            etagsByFilename.put(filename, etag);
+        }
+    }
+
+    private void forgetEtag(String filename) {
+        synchronized (entries) {
+            etagsByFilename.remove(filename);
+        }
+    }
+
+    private static byte[] readContent(URLConnection connection, SweFileResource file) {
+        try (InputStream inputStream = connection.getInputStream();
+             ByteArrayOutputStream outputStream = new ByteArrayOutputStream(BUFFER_SIZE)) {
+            IOUtils.copy(inputStream, outputStream, BUFFER_SIZE);
+            return outputStream.toByteArray();
+        } catch (IOException e) {
+            throw new SweInvalidDataException(String.format("Error downloading file %s", file.getFilename()), e);
+        }
+    }
+
+    private Optional<byte[]> readEntry(String key) {
+        synchronized (entries) {
+            if (entries.get(key) == null) {
+                return Optional.empty();
+            }
+        }
+        final Path entryFile = directory.resolve(key);
+        try {
+            final byte[] content = Files.readAllBytes(entryFile);
+            // Last modification time keeps track of the last access, to restore the LRU order on restart
+            Files.setLastModifiedTime(entryFile, FileTime.from(Instant.now()));
+            return Optional.of(content);
+        } catch (NoSuchFileException e) {
+            removeEntry(key);
+            return Optional.empty();
+        } catch (IOException e) {
+            LOGGER.warn("CGMES files cache entry {} cannot be read", entryFile, e);
+            return Optional.empty();
+        }
+    }
+
+    private void writeEntry(String key, byte[] content) {
+        try {
+            // Content is written to a temporary file first, so that a partially written entry can never be read
+            final Path temporaryFile = Files.createTempFile(directory, key, TEMPORARY_FILE_SUFFIX);
+            Files.write(temporaryFile, content);
+            synchronized (entries) {
+                Files.move(temporaryFile, directory.resolve(key), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                registerEntry(key, content.length);
+                evictEntries();
+            }
+        } catch (IOException e) {
+            LOGGER.warn("CGMES files cache entry {} cannot be written", key, e);
+        }
+    }
+
+    private void registerEntry(String key, long size) {
+        synchronized (entries) {
+            final Long previousSize = entries.put(key, size);
+            cacheSize += size - (previousSize != null ? previousSize : 0);
+        }
+    }
+
+    private void removeEntry(String key) {
+        synchronized (entries) {
+            final Long size = entries.remove(key);
+            cacheSize -= size != null ? size : 0;
+            etagsByFilename.entrySet().removeIf(etag -> buildKey(etag.getKey(), etag.getValue()).equals(key));
+        }
+    }
+
+    private void evictEntries() throws IOException {
+        final Iterator<Map.Entry<String, Long>> leastRecentlyUsed = entries.entrySet().iterator();
+        // The most recently used entry is always kept, even if it exceeds the cache size on its own
+        while (cacheSize > maxSizeInBytes && entries.size() > 1) {
+            final Map.Entry<String, Long> entry = leastRecentlyUsed.next();
+            Files.deleteIfExists(directory.resolve(entry.getKey()));
+            cacheSize -= entry.getValue();
+            leastRecentlyUsed.remove();
+            etagsByFilename.entrySet().removeIf(etag -> buildKey(etag.getKey(), etag.getValue()).equals(entry.getKey()));
+            LOGGER.info("CGMES files cache entry {} evicted", entry.getKey());
+        }
+    }
+
+    private static String buildKey(String filename, String etag) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest((filename + "\n" + etag).getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new SweInternalException("SHA-256 algorithm is not available", e);
+        }
+    }
+
+    private static FileTime getLastModifiedTime(Path path) {
+        try {
+            return Files.getLastModifiedTime(path);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.swe.runner.app.services;
+
+import com.farao_community.farao.dichotomy.api.index.Index;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import com.farao_community.farao.gridcapa_swe_commons.dichotomy.DichotomyDirection;
+import com.farao_community.farao.gridcapa_swe_commons.exception.SweInternalException;
+import com.farao_community.farao.minio_adapter.starter.MinioAdapter;
+import com.farao_community.farao.swe.runner.api.resource.SweFileResource;
+import com.farao_community.farao.swe.runner.app.configurations.DichotomyCheckpointConfiguration;
+import com.farao_community.farao.swe.runner.app.domain.DichotomyCheckpoint;
+import com.farao_community.farao.swe.runner.app.domain.SweData;
+import com.farao_community.farao.swe.runner.app.domain.SweDichotomyValidationData;
+import com.farao_community.farao.swe.runner.app.domain.SweTaskParameters;
+import com.farao_community.farao.swe.runner.app.utils.UrlValidationService;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.openrao.data.crac.api.Crac;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.HttpURLConnection;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Saves the validated steps of each dichotomy in MinIO artifacts, and restores them when the same inputs are run again.
+ * <p>
+ * Checkpoints are keyed by task id, direction and a hash of the content of every input file (its ETag, or a checksum
+ * when the server gives none) and of the task parameters, so that a checkpoint is only reused for the exact same
+ * computation. Input files are identified once per computation, all directions share their identity. Checkpoints are an optimisation: a checkpoint which cannot
+ * be read, written or restored is ignored and the dichotomy is run from scratch.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Service
+public class DichotomyCheckpointService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DichotomyCheckpointService.class);
+    private static final String CHECKPOINTS_DIRECTORY = "checkpoints/";
+    private static final int KEY_HASH_LENGTH = 16;
+    private static final String ETAG_HEADER = "ETag";
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final boolean enabled;
+    private final MinioAdapter minioAdapter;
+    private final FileExporter fileExporter;
+    private final FileImporter fileImporter;
+    private final UrlValidationService urlValidationService;
+
+    public DichotomyCheckpointService(DichotomyCheckpointConfiguration dichotomyCheckpointConfiguration,
+                                      MinioAdapter minioAdapter,
+                                      FileExporter fileExporter,
+                                      FileImporter fileImporter,
+                                      UrlValidationService urlValidationService) {
+        this.enabled = dichotomyCheckpointConfiguration.isEnabled();
+        this.minioAdapter = minioAdapter;
+        this.fileExporter = fileExporter;
+        this.fileImporter = fileImporter;
+        this.urlValidationService = urlValidationService;
+    }
+
+    public DichotomyCheckpoint open(SweData sweData, SweTaskParameters sweTaskParameters, DichotomyDirection direction) {
+        if (!enabled) {
+            return DichotomyCheckpoint.disabled();
+        }
+        final String key;
+        try {
+            key = getCheckpointKey(sweData, sweTaskParameters, direction);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Content of input files could not be identified, no dichotomy checkpoint is used for direction {}", direction.getDashName(), e);
+            return DichotomyCheckpoint.disabled();
+        }
+        final String path = fileExporter.makeDestinationDichotomyPath(sweData.getTimestamp(), FileExporter.FileKind.ARTIFACTS, direction)
+            + CHECKPOINTS_DIRECTORY + key + ".json";
+        return new DichotomyCheckpoint(path, loadSteps(path));
+    }
+
+    String getCheckpointKey(SweData sweData, SweTaskParameters sweTaskParameters, DichotomyDirection direction) {
+        final String inputs = sweData.getProcessType() + "\n"
+            + sweData.getTimestamp().toInstant() + "\n"
+            + sweData.getInputFilesIdentity(() -> identifyInputFiles(sweData))
+            + sweTaskParameters.toJsonString();
+        return String.format("%s-%s-%s", sweData.getId(), direction.getDashName(), sha256(inputs).substring(0, KEY_HASH_LENGTH));
+    }
+
+    private String identifyInputFiles(SweData sweData) {
+        final StringBuilder identity = new StringBuilder();
+        for (SweFileResource file : sweData.getInputFiles()) {
+            try {
+                identity.append(file.getFilename()).append('=').append(getContentIdentity(file.getUrl())).append('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return identity.toString();
+    }
+
+    /**
+     * ETag of the file when the server gives one, in which case its content is not read, SHA-256 of its content otherwise.
+     */
+    private String getContentIdentity(String url) throws IOException {
+        final URLConnection connection = urlValidationService.openUrlConnection(url);
+        try {
+            final String etag = connection.getHeaderField(ETAG_HEADER);
+            if (etag != null) {
+                return "etag:" + etag;
+            }
+            try (InputStream content = connection.getInputStream()) {
+                return "sha256:" + sha256(content);
+            }
+        } finally {
+            if (connection instanceof HttpURLConnection httpURLConnection) {
+                httpURLConnection.disconnect();
+            }
+        }
+    }
+
+    private static String sha256(String content) {
+        return HexFormat.of().formatHex(newSha256Digest().digest(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String sha256(InputStream content) throws IOException {
+        final MessageDigest digest = newSha256Digest();
+        try (DigestInputStream digestStream = new DigestInputStream(content, digest)) {
+            digestStream.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest newSha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new SweInternalException("SHA-256 is not available", e);
+        }
+    }
+
+    private List<DichotomyCheckpoint.Step> loadSteps(String path) {
+        try (InputStream checkpointStream = urlValidationService.openUrlStream(minioAdapter.generatePreSignedUrl(path))) {
+            final List<DichotomyCheckpoint.Step> steps = objectMapper.readValue(checkpointStream, new TypeReference<>() { });
+            LOGGER.info("{} dichotomy steps found in checkpoint {}", steps.size(), path);
+            return steps;
+        } catch (IOException | RuntimeException e) {
+            LOGGER.info("No dichotomy checkpoint available at {}, dichotomy starts from scratch", path);
+            return List.of();
+        }
+    }
+
+    /**
+     * Adds a step validated by a RAO to the checkpoint and saves it. Steps without RAO response are not saved,
+     * as they are cheap to compute again.
+     */
+    public void saveStep(DichotomyCheckpoint checkpoint, SweData sweData, double stepValue, DichotomyStepResult<SweDichotomyValidationData> stepResult) {
+        if (!checkpoint.isEnabled() || stepResult.getValidationData() == null || stepResult.getValidationData().getRaoResponse() == null) {
+            return;
+        }
+        checkpoint.addStep(DichotomyCheckpoint.Step.of(stepValue, stepResult));
+        try {
+            final byte[] content = objectMapper.writeValueAsBytes(checkpoint.getSteps());
+            minioAdapter.uploadArtifactForTimestamp(checkpoint.getPath(), new ByteArrayInputStream(content),
+                fileExporter.adaptTargetProcessName(sweData.getProcessType()), "", sweData.getTimestamp());
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Dichotomy checkpoint {} could not be saved", checkpoint.getPath(), e);
+        }
+    }
+
+    /**
+     * Adds the steps of the checkpoint to the index, so that the dichotomy goes on from the unresolved range.
+     * RAO results are read again from the RAO outputs. Nothing is restored if any of them cannot be read.
+     */
+    public void restoreSteps(DichotomyCheckpoint checkpoint, Network network, Index<SweDichotomyValidationData> index) {
+        final List<DichotomyCheckpoint.Step> validSteps = checkpoint.getSteps().stream()
+            .filter(DichotomyCheckpoint.Step::valid)
+            .sorted(Comparator.comparingDouble(DichotomyCheckpoint.Step::stepValue))
+            .toList();
+        final List<DichotomyCheckpoint.Step> invalidSteps = checkpoint.getSteps().stream()
+            .filter(step -> !step.valid())
+            .sorted(Comparator.comparingDouble(DichotomyCheckpoint.Step::stepValue).reversed())
+            .toList();
+        if (validSteps.isEmpty() && invalidSteps.isEmpty()) {
+            return;
+        }
+        if (!validSteps.isEmpty() && !invalidSteps.isEmpty()
+            && validSteps.getLast().stepValue() >= invalidSteps.getLast().stepValue()) {
+            LOGGER.warn("Dichotomy checkpoint {} is inconsistent, dichotomy starts from scratch", checkpoint.getPath());
+            return;
+        }
+        try {
+            // Index requires valid steps in increasing order and invalid steps in decreasing order
+            final Map<String, Crac> cracsByUrl = new HashMap<>();
+            final List<DichotomyCheckpoint.Step> orderedSteps = new ArrayList<>(validSteps);
+            orderedSteps.addAll(invalidSteps);
+            final List<DichotomyStepResult<SweDichotomyValidationData>> stepResults = new ArrayList<>();
+            for (DichotomyCheckpoint.Step step : orderedSteps) {
+                final Crac crac = cracsByUrl.computeIfAbsent(step.cracFileUrl(), url -> fileImporter.importCracFromJson(url, network));
+                stepResults.add(DichotomyStepResult.fromNetworkValidationResult(fileImporter.importRaoResult(step.raoResultFileUrl(), crac),
+                    step.toValidationData(), step.valid()));
+            }
+            for (int i = 0; i < orderedSteps.size(); i++) {
+                index.addDichotomyStepResult(orderedSteps.get(i).stepValue(), stepResults.get(i));
+            }
+            LOGGER.info("{} dichotomy steps restored from checkpoint {}", orderedSteps.size(), checkpoint.getPath());
+        } catch (RuntimeException e) {
+            LOGGER.warn("Dichotomy checkpoint {} could not be restored, dichotomy starts from scratch", checkpoint.getPath(), e);
+        }
+    }
+}
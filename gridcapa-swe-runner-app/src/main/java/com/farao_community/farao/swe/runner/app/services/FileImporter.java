@@ -7,9 +7,11 @@
 package com.farao_community.farao.swe.runner.app.services;
 
 import com.farao_community.farao.gridcapa_swe_commons.exception.SweInvalidDataException;
+import com.farao_community.farao.gridcapa_swe_commons.shift.GlskDocumentCache;
 import com.farao_community.farao.swe.runner.api.resource.SweFileResource;
 import com.farao_community.farao.swe.runner.app.domain.SweTaskParameters;
 import com.farao_community.farao.swe.runner.app.utils.UrlValidationService;
+import com.powsybl.glsk.api.GlskDocument;
 import com.powsybl.glsk.cim.CimGlskDocument;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.openrao.data.crac.api.Crac;
@@ -39,12 +41,15 @@ import java.time.OffsetDateTime;
 @Service
 public class FileImporter {
 
-    private static final Object LOCK_GLSK = new Object();
     private static final Logger LOGGER = LoggerFactory.getLogger(FileImporter.class);
     private final UrlValidationService urlValidationService;
+    private final CgmesFileCache cgmesFileCache;
+    private final GlskDocumentCache glskDocumentCache;
 
-    public FileImporter(UrlValidationService urlValidationService) {
+    public FileImporter(UrlValidationService urlValidationService, CgmesFileCache cgmesFileCache, GlskDocumentCache glskDocumentCache) {
         this.urlValidationService = urlValidationService;
+        this.cgmesFileCache = cgmesFileCache;
+        this.glskDocumentCache = glskDocumentCache;
     }
 
     public CimCracCreationContext importCracFromCimCracAndNetwork(SweFileResource cracFile, OffsetDateTime processDateTime, Network network, String cracCreationParams, SweTaskParameters sweTaskParameters) {
@@ -92,12 +97,20 @@ public class FileImporter {
         return JsonCracCreationParameters.read(getClass().getResourceAsStream(paramFilePath));
     }
 
+    /**
+     * Returns the GLSK document of the given url, parsed only once and then shared by all its users.
+     */
     public CimGlskDocument importCimGlskDocument(String glskUrl) {
+        if (glskDocumentCache.get(glskUrl, this::readCimGlskDocument) instanceof CimGlskDocument cimGlskDocument) {
+            return cimGlskDocument;
+        }
+        throw new SweInvalidDataException(String.format("Glsk from url %s is not a CIM glsk", glskUrl));
+    }
+
+    private GlskDocument readCimGlskDocument(String glskUrl) {
         try (InputStream glskResultStream = urlValidationService.openUrlStream(glskUrl)) {
-            synchronized (LOCK_GLSK) {
-                LOGGER.info("Importing Glsk file from url : {}", glskUrl);
-                return CimGlskDocument.importGlsk(glskResultStream);
-            }
+            LOGGER.info("Importing Glsk file from url : {}", glskUrl);
+            return CimGlskDocument.importGlsk(glskResultStream);
         } catch (IOException e) {
             throw new SweInvalidDataException(String.format("Cannot import glsk from url : %s", glskUrl), e);
         }
@@ -112,9 +125,9 @@ public class FileImporter {
         }
     }
 
-    public InputStream importCgmesFiles(String url) {
+    public InputStream importCgmesFiles(SweFileResource cgmesFile) {
         try {
-            return urlValidationService.openUrlStream(url);
+            return cgmesFileCache.openStream(cgmesFile);
         } catch (Exception e) {
             throw new SweInvalidDataException("Cannot import cgmes file from url", e);
         }
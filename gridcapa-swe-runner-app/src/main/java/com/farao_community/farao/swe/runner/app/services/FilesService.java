@@ -7,21 +7,32 @@
 package com.farao_community.farao.swe.runner.app.services;
 
 import com.farao_community.farao.gridcapa_swe_commons.dichotomy.DichotomyDirection;
+import com.farao_community.farao.gridcapa_swe_commons.exception.SweBaseCaseUnsecureException;
 import com.farao_community.farao.gridcapa_swe_commons.resource.ProcessType;
 import com.farao_community.farao.swe.runner.api.resource.SweFileResource;
 import com.farao_community.farao.swe.runner.api.resource.SweRequest;
+import com.farao_community.farao.swe.runner.app.configurations.NetworkImportConfiguration;
 import com.farao_community.farao.swe.runner.app.domain.CgmesFileType;
 import com.farao_community.farao.gridcapa_swe_commons.hvdc.HvdcInformation;
 import com.farao_community.farao.swe.runner.app.domain.SweData;
 import com.farao_community.farao.swe.runner.app.domain.SweTaskParameters;
+import com.farao_community.farao.swe.runner.app.utils.OpenLoadFlowParametersUtil;
+import com.farao_community.farao.swe.runner.app.utils.TaskGraph;
+import com.google.common.base.Suppliers;
 import com.powsybl.iidm.network.Network;
-import com.powsybl.openrao.data.crac.api.Crac;
 import com.powsybl.openrao.data.crac.io.cim.craccreator.CimCracCreationContext;
 import org.springframework.stereotype.Service;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * @author Theo Pascoli {@literal <theo.pascoli at rte-france.com>}
@@ -38,36 +49,100 @@ public class FilesService {
 
     private final FileImporter fileImporter;
     private final FileExporter fileExporter;
+    private final NetworkImportConfiguration networkImportConfiguration;
 
-    public FilesService(NetworkService networkImporter, FileImporter fileImporter, FileExporter fileExporter) {
+    public FilesService(NetworkService networkImporter, FileImporter fileImporter, FileExporter fileExporter, NetworkImportConfiguration networkImportConfiguration) {
         this.networkService = networkImporter;
         this.fileImporter = fileImporter;
         this.fileExporter = fileExporter;
+        this.networkImportConfiguration = networkImportConfiguration;
     }
 
+    /**
+     * Builds the data of the request. Networks, CRACs and uploaded files are only loaded for the directions
+     * enabled in the task parameters; data of disabled directions is never computed.
+     */
     public SweData importFiles(SweRequest sweRequest, SweTaskParameters sweTaskParameters) {
         OffsetDateTime targetProcessDateTime = sweRequest.getTargetProcessDateTime();
+        ProcessType processType = sweRequest.getProcessType();
         Network mergedNetwork = networkService.importMergedNetwork(sweRequest);
         List<HvdcInformation> hvdcInformationList = networkService.getHvdcInformationFromNetwork(mergedNetwork);
         networkService.addHvdcAndPstToNetwork(mergedNetwork);
-        fileExporter.saveMergedNetworkWithHvdc(mergedNetwork, targetProcessDateTime);
+        // Base case loadflow is run before the network is copied, so that the network of every direction holds its results
+        Supplier<Map<String, Double>> initialNetPositions = computeInitialNetPositions(mergedNetwork, sweTaskParameters);
+        byte[] serializedMergedNetwork = networkService.serializeNetwork(mergedNetwork);
+        Map<DichotomyDirection, Supplier<Network>> networks = new EnumMap<>(DichotomyDirection.class);
+        Map<DichotomyDirection, String> networkVariantIds;
+        if (networkService.isSharedNetworkEnabled()) {
+            Network sharedNetwork = networkService.deserializeNetwork(serializedMergedNetwork);
+            Map<DichotomyDirection, String> directionVariantIds = networkService.createDirectionVariants(sharedNetwork);
+            networkVariantIds = directionVariantIds;
+            // Working variant is specific to each thread: import tasks, run on the pool, select the variant of their direction
+            Arrays.stream(DichotomyDirection.values()).forEach(direction -> networks.put(direction, () -> {
+                sharedNetwork.getVariantManager().setWorkingVariant(directionVariantIds.get(direction));
+                return sharedNetwork;
+            }));
+        } else {
+            networkVariantIds = Map.of();
+            Arrays.stream(DichotomyDirection.values()).forEach(direction -> networks.put(direction, Suppliers.memoize(() -> networkService.deserializeNetwork(serializedMergedNetwork))));
+        }
+
+        String cracCreationParamFrEs = processType.equals(ProcessType.D2CC) ? CRAC_CIM_CRAC_CREATION_PARAMETERS_FR_ES_D2CC_JSON : CRAC_CIM_CRAC_CREATION_PARAMETERS_FR_ES_IDCC_JSON;
+        String cracCreationParamEsPt = processType.equals(ProcessType.D2CC) ? CRAC_CIM_CRAC_CREATION_PARAMETERS_PT_ES_D2CC_JSON : CRAC_CIM_CRAC_CREATION_PARAMETERS_PT_ES_IDCC_JSON;
+        // Each CRAC is created on the network of an enabled direction of its border, so that no extra network is loaded
+        Supplier<Network> networkForCracFrEs = networks.get(sweTaskParameters.isRunDirectionEsFr() ? DichotomyDirection.ES_FR : DichotomyDirection.FR_ES);
+        Supplier<Network> networkForCracEsPt = networks.get(sweTaskParameters.isRunDirectionEsPt() ? DichotomyDirection.ES_PT : DichotomyDirection.PT_ES);
+        Supplier<CimCracCreationContext> cracCreationContextFrEs = Suppliers.memoize(() -> fileImporter.importCracFromCimCracAndNetwork(sweRequest.getCrac(), targetProcessDateTime, networkForCracFrEs.get(), cracCreationParamFrEs, sweTaskParameters));
+        Supplier<CimCracCreationContext> cracCreationContextEsPt = Suppliers.memoize(() -> fileImporter.importCracFromCimCracAndNetwork(sweRequest.getCrac(), targetProcessDateTime, networkForCracEsPt.get(), cracCreationParamEsPt, sweTaskParameters));
+        Supplier<String> jsonCracPathFrEs = Suppliers.memoize(() -> fileExporter.saveCracInJsonFormat(cracCreationContextFrEs.get().getCrac(), "cracFrEs.json", targetProcessDateTime, processType));
+        Supplier<String> jsonCracPathEsPt = Suppliers.memoize(() -> fileExporter.saveCracInJsonFormat(cracCreationContextEsPt.get().getCrac(), "cracEsPt.json", targetProcessDateTime, processType));
+        Supplier<String> raoParametersEsFrUrl = Suppliers.memoize(() -> fileExporter.saveRaoParameters(targetProcessDateTime, processType, sweTaskParameters, DichotomyDirection.ES_FR));
+        Supplier<String> raoParametersEsPtUrl = Suppliers.memoize(() -> fileExporter.saveRaoParameters(targetProcessDateTime, processType, sweTaskParameters, DichotomyDirection.ES_PT));
+
+        // CRACs have to be created on networks which have not been shifted yet, so data of enabled directions is loaded right away.
+        // Independent steps are run concurrently, each network instance being only used by one task at a time.
+        try (TaskGraph importTasks = new TaskGraph("Files import", networkImportConfiguration.getTaskParallelism())) {
+            importTasks.submit("Merged network upload", () -> fileExporter.saveMergedNetworkWithHvdc(mergedNetwork, targetProcessDateTime));
+            Map<DichotomyDirection, CompletableFuture<Network>> networkTasks = new EnumMap<>(DichotomyDirection.class);
+            Arrays.stream(DichotomyDirection.values())
+                .filter(sweTaskParameters::isRunDirection)
+                .forEach(direction -> networkTasks.put(direction, importTasks.submit("Network " + direction.getDashName(), networks.get(direction))));
+            CompletableFuture<?> cracFrEsTask = CompletableFuture.completedFuture(null);
+            if (sweTaskParameters.isRunDirectionEsFr() || sweTaskParameters.isRunDirectionFrEs()) {
+                cracFrEsTask = importTasks.submit("CRAC FR-ES creation", cracCreationContextFrEs, networkTasks.get(sweTaskParameters.isRunDirectionEsFr() ? DichotomyDirection.ES_FR : DichotomyDirection.FR_ES));
+                importTasks.submit("JSON CRAC FR-ES upload", jsonCracPathFrEs, cracFrEsTask);
+                importTasks.submit("RAO parameters ES-FR upload", raoParametersEsFrUrl);
+            }
+            if (sweTaskParameters.isRunDirectionEsPt() || sweTaskParameters.isRunDirectionPtEs()) {
+                CompletableFuture<Network> networkForCracEsPtTask = networkTasks.get(sweTaskParameters.isRunDirectionEsPt() ? DichotomyDirection.ES_PT : DichotomyDirection.PT_ES);
+                // With a shared network, both CRACs are created on the same instance, one after the other
+                CompletableFuture<?> cracEsPtTask = networkService.isSharedNetworkEnabled()
+                    ? importTasks.submit("CRAC ES-PT creation", cracCreationContextEsPt, networkForCracEsPtTask, cracFrEsTask)
+                    : importTasks.submit("CRAC ES-PT creation", cracCreationContextEsPt, networkForCracEsPtTask);
+                importTasks.submit("JSON CRAC ES-PT upload", jsonCracPathEsPt, cracEsPtTask);
+                importTasks.submit("RAO parameters ES-PT upload", raoParametersEsPtUrl);
+            }
+            importTasks.awaitAll();
+        }
 
-        Network networkEsFr = networkService.loadNetworkFromMinio(targetProcessDateTime);
-        Network networkFrEs = networkService.loadNetworkFromMinio(targetProcessDateTime);
-        Network networkEsPt = networkService.loadNetworkFromMinio(targetProcessDateTime);
-        Network networkPtEs = networkService.loadNetworkFromMinio(targetProcessDateTime);
-        String cracCreationParamFrEs = sweRequest.getProcessType().equals(ProcessType.D2CC) ? CRAC_CIM_CRAC_CREATION_PARAMETERS_FR_ES_D2CC_JSON : CRAC_CIM_CRAC_CREATION_PARAMETERS_FR_ES_IDCC_JSON;
-        String cracCreationParamEsPt = sweRequest.getProcessType().equals(ProcessType.D2CC) ? CRAC_CIM_CRAC_CREATION_PARAMETERS_PT_ES_D2CC_JSON : CRAC_CIM_CRAC_CREATION_PARAMETERS_PT_ES_IDCC_JSON;
-        CimCracCreationContext cracCreationContextFrEs = fileImporter.importCracFromCimCracAndNetwork(sweRequest.getCrac(), targetProcessDateTime, networkEsFr, cracCreationParamFrEs, sweTaskParameters);
-        CimCracCreationContext cracCreationContextEsPt = fileImporter.importCracFromCimCracAndNetwork(sweRequest.getCrac(), targetProcessDateTime, networkEsPt, cracCreationParamEsPt, sweTaskParameters);
-        Crac cracFrEs = cracCreationContextFrEs.getCrac();
-        Crac cracEsPt = cracCreationContextEsPt.getCrac();
-        String jsonCracPathFrEs = fileExporter.saveCracInJsonFormat(cracFrEs, "cracFrEs.json", targetProcessDateTime, sweRequest.getProcessType());
-        String jsonCracPathEsPt = fileExporter.saveCracInJsonFormat(cracEsPt, "cracEsPt.json", targetProcessDateTime, sweRequest.getProcessType());
-        String raoParametersEsFrUrl = fileExporter.saveRaoParameters(targetProcessDateTime, sweRequest.getProcessType(), sweTaskParameters, DichotomyDirection.ES_FR);
-        String raoParametersEsPtUrl = fileExporter.saveRaoParameters(targetProcessDateTime, sweRequest.getProcessType(), sweTaskParameters, DichotomyDirection.ES_PT);
         EnumMap<CgmesFileType, SweFileResource> mapCgmesInputFiles = fillMapCgmesInputFiles(sweRequest);
-        return new SweData(sweRequest.getId(), sweRequest.getCurrentRunId(), sweRequest.getTargetProcessDateTime(), sweRequest.getProcessType(), networkEsFr, networkFrEs, networkEsPt, networkPtEs, cracCreationContextFrEs, cracCreationContextEsPt, sweRequest.getGlsk().getUrl(), jsonCracPathEsPt, jsonCracPathFrEs, raoParametersEsFrUrl, raoParametersEsPtUrl, hvdcInformationList, mapCgmesInputFiles);
+        SweData sweData = new SweData(sweRequest.getId(), sweRequest.getCurrentRunId(), targetProcessDateTime, processType, networks, cracCreationContextFrEs, cracCreationContextEsPt, sweRequest.getGlsk().getUrl(), jsonCracPathEsPt, jsonCracPathFrEs, raoParametersEsFrUrl, raoParametersEsPtUrl, hvdcInformationList, mapCgmesInputFiles, networkVariantIds, getInputFiles(sweRequest, mapCgmesInputFiles));
+        sweData.computeInitialNetPositions(initialNetPositions);
+        return sweData;
+    }
+
+    /**
+     * An unsecure base case does not stop the import: it is reported by each direction when building its network shifter.
+     */
+    private Supplier<Map<String, Double>> computeInitialNetPositions(Network mergedNetwork, SweTaskParameters sweTaskParameters) {
+        try {
+            Map<String, Double> initialNetPositions = networkService.computeInitialNetPositions(mergedNetwork, OpenLoadFlowParametersUtil.getLoadFlowParameters(sweTaskParameters));
+            return () -> initialNetPositions;
+        } catch (SweBaseCaseUnsecureException e) {
+            return () -> {
+                throw e;
+            };
+        }
     }
 
     private EnumMap<CgmesFileType, SweFileResource> fillMapCgmesInputFiles(SweRequest sweRequest) {
@@ -84,4 +159,12 @@ public class FilesService {
         mapCgmesInputFiles.put(CgmesFileType.REN_TP, sweRequest.getRenTp());
         return mapCgmesInputFiles;
     }
+
+    private static List<SweFileResource> getInputFiles(SweRequest sweRequest, Map<CgmesFileType, SweFileResource> mapCgmesInputFiles) {
+        List<SweFileResource> inputFiles = new ArrayList<>(mapCgmesInputFiles.values());
+        Stream.of(sweRequest.getBoundaryEq(), sweRequest.getBoundaryTp(), sweRequest.getCrac(), sweRequest.getGlsk())
+            .filter(Objects::nonNull)
+            .forEach(inputFiles::add);
+        return inputFiles;
+    }
 }
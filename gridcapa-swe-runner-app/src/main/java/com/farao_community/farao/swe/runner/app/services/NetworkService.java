@@ -15,13 +15,17 @@ import com.farao_community.farao.gridcapa_swe_commons.hvdc.SweHvdcPreprocessor;
 import com.farao_community.farao.gridcapa_swe_commons.hvdc.parameters.HvdcCreationParameters;
 import com.farao_community.farao.gridcapa_swe_commons.hvdc.parameters.SwePreprocessorParameters;
 import com.farao_community.farao.gridcapa_swe_commons.hvdc.parameters.json.JsonSwePreprocessorImporter;
-import com.farao_community.farao.minio_adapter.starter.MinioAdapter;
+import com.farao_community.farao.gridcapa_swe_commons.shift.CountryBalanceComputation;
 import com.farao_community.farao.swe.runner.api.resource.SweFileResource;
 import com.farao_community.farao.swe.runner.api.resource.SweRequest;
+import com.farao_community.farao.swe.runner.app.configurations.NetworkImportConfiguration;
 import com.farao_community.farao.swe.runner.app.configurations.PstConfiguration;
 import com.farao_community.farao.swe.runner.app.domain.SweData;
+import com.farao_community.farao.swe.runner.app.utils.MdcPropagatingExecutor;
 import com.google.common.base.Suppliers;
 import com.powsybl.cgmes.conversion.CgmesImport;
+import com.powsybl.commons.datasource.ReadOnlyMemDataSource;
+import com.powsybl.commons.io.TreeDataFormat;
 import com.powsybl.computation.local.LocalComputationManager;
 import com.powsybl.iidm.network.Country;
 import com.powsybl.iidm.network.Generator;
@@ -31,29 +35,37 @@ import com.powsybl.iidm.network.Load;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.TwoSides;
 import com.powsybl.iidm.network.TwoWindingsTransformer;
+import com.powsybl.iidm.network.VariantManager;
+import com.powsybl.iidm.serde.ExportOptions;
+import com.powsybl.iidm.serde.ImportOptions;
+import com.powsybl.iidm.serde.NetworkSerDe;
+import com.powsybl.loadflow.LoadFlowParameters;
 import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
-import java.io.File;
-import java.io.FileInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.net.URI;
-import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.time.OffsetDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -66,44 +78,54 @@ import java.util.zip.ZipOutputStream;
 public class NetworkService {
     private static final Logger LOGGER = LoggerFactory.getLogger(NetworkService.class);
 
-    private final MinioAdapter minioAdapter;
-
-    private final DateTimeFormatter networkFormatter = DateTimeFormatter.ofPattern("yyyyMMdd_HHmm_'network.xiidm'");
     private final Logger businessLogger;
     private final PstConfiguration pstConfiguration;
+    private final NetworkImportConfiguration networkImportConfiguration;
+    private final CgmesFileCache cgmesFileCache;
 
+    private static final int DOWNLOAD_BUFFER_SIZE = 64 * 1024;
     static final Map<Country, String> TSO_BY_COUNTRY = Map.of(Country.FR, "RTEFRANCE", Country.ES, "REE", Country.PT, "REN");
 
-    public NetworkService(MinioAdapter minioAdapter, Logger businessLogger, PstConfiguration pstConfiguration) {
-        this.minioAdapter = minioAdapter;
+    public NetworkService(Logger businessLogger, PstConfiguration pstConfiguration, NetworkImportConfiguration networkImportConfiguration, CgmesFileCache cgmesFileCache) {
         this.businessLogger = businessLogger;
         this.pstConfiguration = pstConfiguration;
+        this.networkImportConfiguration = networkImportConfiguration;
+        this.cgmesFileCache = cgmesFileCache;
     }
 
-    public Network loadNetworkFromMinio(OffsetDateTime targetDateTime) {
-        String fileName = networkFormatter.format(targetDateTime);
-        try (InputStream xiidm = minioAdapter.getFile("XIIDM/" + fileName)) {
-            return Network.read(fileName, xiidm);
+    /**
+     * Serializes the network once in binary IIDM format, so that independent copies can then be rebuilt from memory.
+     */
+    public byte[] serializeNetwork(Network network) {
+        try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+            NetworkSerDe.write(network, new ExportOptions().setFormat(TreeDataFormat.BIN), outputStream);
+            return outputStream.toByteArray();
         } catch (IOException e) {
-            throw new SweInternalException("Could not load network from XIIDM file", e);
+            throw new SweInternalException("Could not serialize network", e);
         }
     }
 
+    public Network deserializeNetwork(byte[] serializedNetwork) {
+        return NetworkSerDe.read(new ByteArrayInputStream(serializedNetwork), new ImportOptions().setFormat(TreeDataFormat.BIN), null);
+    }
+
     public Network importMergedNetwork(SweRequest sweRequest) {
         try {
             businessLogger.info("Start import of input CGMES files");
-            String zipPath = buildZipFile(sweRequest);
-            Network mergedNetwork = importFromZip(zipPath);
-            Files.deleteIfExists(Path.of(zipPath));
-            return mergedNetwork;
+            List<SweFileResource> files = getFiles(sweRequest);
+            return networkImportConfiguration.isInMemoryImport()
+                ? importFromMemory(downloadFiles(files))
+                : importFromTemporaryZip(files);
         } catch (Exception e) {
             throw new SweInternalException("Exception occurred during input CGM import", e);
         }
     }
 
-    private String buildZipFile(SweRequest sweRequest) {
-        List<SweFileResource> listFiles = getFiles(sweRequest);
-        return buildZipFromListOfFiles(listFiles);
+    /**
+     * Runs the base case loadflow on the network and returns the net positions of the SWE countries.
+     */
+    public Map<String, Double> computeInitialNetPositions(Network network, LoadFlowParameters loadFlowParameters) {
+        return CountryBalanceComputation.computeSweCountriesBalances(network, loadFlowParameters);
     }
 
     public void addHvdcAndPstToNetwork(Network network) {
@@ -129,16 +151,43 @@ public class NetworkService {
     }
 
     Network importFromZip(String zipPath) {
+        return Network.read(Paths.get(zipPath), LocalComputationManager.getDefault(), Suppliers.memoize(ImportConfig::load).get(), getImportParameters());
+    }
+
+    /**
+     * Imports the CGMES profiles directly from their downloaded content, without writing anything on disk.
+     */
+    Network importFromMemory(Map<String, byte[]> filesContent) {
+        ReadOnlyMemDataSource dataSource = new ReadOnlyMemDataSource();
+        filesContent.forEach(dataSource::putData);
+        return Network.read(dataSource, getImportParameters());
+    }
+
+    /**
+     * Downloads the CGMES profiles into a temporary zip archive, then imports it. Profiles are still all held in memory
+     * while the archive is written, but they are released before the import, which uses most of the memory.
+     */
+    private Network importFromTemporaryZip(List<SweFileResource> files) throws IOException {
+        Path tmp = Files.createTempDirectory("pref_");
+        try {
+            String zipPath = buildZipFromFilesContent(tmp, downloadFiles(files));
+            return importFromZip(zipPath);
+        } finally {
+            deleteTemporaryDirectory(tmp);
+        }
+    }
+
+    private static Properties getImportParameters() {
         Properties importParams = new Properties();
         importParams.put(CgmesImport.SOURCE_FOR_IIDM_ID, CgmesImport.SOURCE_FOR_IIDM_ID_RDFID);
-        return Network.read(Paths.get(zipPath), LocalComputationManager.getDefault(), Suppliers.memoize(ImportConfig::load).get(), importParams);
+        return importParams;
     }
 
-    private void deleteFile(File srcFile) {
+    private void deleteTemporaryDirectory(Path directory) {
         try {
-            Files.delete(srcFile.toPath());
+            FileUtils.deleteDirectory(directory.toFile());
         } catch (IOException e) {
-            LOGGER.warn("Temporary file could not be deleted, check for full storage error");
+            LOGGER.warn("Temporary directory {} could not be deleted, check for full storage error", directory);
         }
     }
 
@@ -167,42 +216,88 @@ public class NetworkService {
         });
     }
 
-    private String buildZipFromListOfFiles(List<SweFileResource> listFiles) {
-        try {
-            Path tmp = Files.createTempDirectory("pref_");
-            byte[] buffer = new byte[1024];
-            String zipPath = tmp.toAbsolutePath() + "/network.zip";
-            FileOutputStream fos = new FileOutputStream(zipPath);
-            ZipOutputStream zos = new ZipOutputStream(fos);
-
-            for (SweFileResource file : listFiles) {
-                InputStream inputStream = new URI(file.getUrl()).toURL().openStream();
-                File srcFile = new File(tmp.toAbsolutePath() + File.separator + file.getFilename());
-                FileUtils.copyInputStreamToFile(inputStream, srcFile);
-                FileInputStream fis = new FileInputStream(srcFile);
-                zos.putNextEntry(new ZipEntry(srcFile.getName()));
-                int length;
-                while ((length = fis.read(buffer)) > 0) {
-                    zos.write(buffer, 0, length);
-                }
+    private String buildZipFromFilesContent(Path directory, Map<String, byte[]> filesContent) {
+        String zipPath = directory.toAbsolutePath() + "/network.zip";
+        try (ZipOutputStream zos = new ZipOutputStream(new BufferedOutputStream(new FileOutputStream(zipPath), DOWNLOAD_BUFFER_SIZE))) {
+            for (Map.Entry<String, byte[]> fileContent : filesContent.entrySet()) {
+                zos.putNextEntry(new ZipEntry(fileContent.getKey()));
+                zos.write(fileContent.getValue());
                 zos.closeEntry();
-                fis.close();
-                deleteFile(srcFile);
             }
-            zos.close();
             return zipPath;
-        } catch (IOException | URISyntaxException | IllegalArgumentException e) {
+        } catch (IOException e) {
             throw new SweInvalidDataException("Error creating network zip file", e);
         }
     }
 
+    /**
+     * Downloads all the given files concurrently, with at most {@code download-parallelism} transfers at a time.
+     * Returned map is ordered as the input list and maps each file name to its content: all the profiles are held
+     * in memory at once, whatever the import mode.
+     */
+    Map<String, byte[]> downloadFiles(List<SweFileResource> listFiles) {
+        final long start = System.currentTimeMillis();
+        final int parallelism = Math.max(1, Math.min(networkImportConfiguration.getDownloadParallelism(), listFiles.size()));
+        try (ExecutorService executorService = Executors.newFixedThreadPool(parallelism)) {
+            final Executor executor = new MdcPropagatingExecutor(executorService);
+            final Map<String, CompletableFuture<byte[]>> downloads = new LinkedHashMap<>();
+            listFiles.forEach(file -> downloads.put(file.getFilename(), CompletableFuture.supplyAsync(() -> downloadFile(file), executor)));
+            final Map<String, byte[]> filesContent = new LinkedHashMap<>();
+            for (Map.Entry<String, CompletableFuture<byte[]>> download : downloads.entrySet()) {
+                filesContent.put(download.getKey(), download.getValue().get());
+            }
+            LOGGER.info("{} input files downloaded in {} ms", listFiles.size(), System.currentTimeMillis() - start);
+            return filesContent;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SweInternalException("Interrupted while downloading network files", e);
+        } catch (ExecutionException e) {
+            throw new SweInvalidDataException("Error creating network zip file", e.getCause());
+        }
+    }
+
+    private byte[] downloadFile(SweFileResource file) {
+        final long start = System.currentTimeMillis();
+        final byte[] content = cgmesFileCache.getContent(file);
+        LOGGER.info("File {} retrieved ({} bytes) in {} ms", file.getFilename(), content.length, System.currentTimeMillis() - start);
+        return content;
+    }
+
+    public boolean isSharedNetworkEnabled() {
+        return networkImportConfiguration.isSharedNetwork();
+    }
+
+    /**
+     * Enables multi-thread variant access on the network and creates one variant per dichotomy direction,
+     * cloned from the current working variant, so that all directions can be run on the same instance.
+     */
+    public Map<DichotomyDirection, String> createDirectionVariants(Network network) {
+        VariantManager variantManager = network.getVariantManager();
+        variantManager.allowVariantMultiThreadAccess(true);
+        String initialVariantId = variantManager.getWorkingVariantId();
+        Map<DichotomyDirection, String> variantIds = new EnumMap<>(DichotomyDirection.class);
+        for (DichotomyDirection direction : DichotomyDirection.values()) {
+            String variantId = direction.getDashName();
+            variantManager.cloneVariant(initialVariantId, variantId, true);
+            variantIds.put(direction, variantId);
+        }
+        return variantIds;
+    }
+
+    /**
+     * Returns the network to use for the given direction. When the network is shared between directions,
+     * the variant of the direction becomes the working variant of the calling thread.
+     */
     public static Network getNetworkByDirection(SweData sweData, DichotomyDirection direction) {
-        return switch (direction) {
+        final Optional<String> variantId = sweData.getNetworkVariantId(direction);
+        final Network network = switch (direction) {
             case ES_FR -> sweData.getNetworkEsFr();
             case ES_PT -> sweData.getNetworkEsPt();
             case FR_ES -> sweData.getNetworkFrEs();
             case PT_ES -> sweData.getNetworkPtEs();
         };
+        variantId.ifPresent(id -> network.getVariantManager().setWorkingVariant(id));
+        return network;
     }
 
     List<HvdcInformation> getHvdcInformationFromNetwork(Network network) {
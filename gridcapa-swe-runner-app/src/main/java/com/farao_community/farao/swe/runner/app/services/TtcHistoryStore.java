@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.swe.runner.app.services;
+
+import com.farao_community.farao.dichotomy.api.results.DichotomyResult;
+import com.farao_community.farao.gridcapa_swe_commons.dichotomy.DichotomyDirection;
+import com.farao_community.farao.gridcapa_swe_commons.resource.ProcessType;
+import com.farao_community.farao.swe.runner.app.configurations.TtcHistoryConfiguration;
+import com.farao_community.farao.swe.runner.app.dichotomy.WarmStartInterval;
+import com.farao_community.farao.swe.runner.app.domain.SweData;
+import com.farao_community.farao.swe.runner.app.domain.SweDichotomyResult;
+import com.farao_community.farao.swe.runner.app.domain.SweDichotomyValidationData;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Local file store of the TTC found by the dichotomies of previous timestamps, for each process type and direction.
+ * <p>
+ * Consecutive timestamps usually have close TTC, so the results of the neighbouring timestamps give a narrow interval
+ * in which the TTC of a new timestamp is expected. Only dichotomies which found a secure step are recorded.
+ * The whole history is written again on each record, as it is bounded to a few thousands entries.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Service
+public class TtcHistoryStore {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TtcHistoryStore.class);
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final boolean enabled;
+    private final Path file;
+    private final Duration neighbourhood;
+    private final double margin;
+    private final int maxEntries;
+    /**
+     * Entries of each process type and direction, by timestamp. All accesses are synchronized on the map itself.
+     */
+    private final Map<String, NavigableMap<Instant, TtcHistoryEntry>> history = new HashMap<>();
+
+    public record TtcHistoryEntry(OffsetDateTime timestamp, double lastSecureTtc, Double firstUnsecureTtc) {
+    }
+
+    public TtcHistoryStore(TtcHistoryConfiguration ttcHistoryConfiguration) {
+        this.enabled = ttcHistoryConfiguration.isEnabled();
+        this.file = Paths.get(ttcHistoryConfiguration.getFile());
+        this.neighbourhood = Duration.ofHours(ttcHistoryConfiguration.getNeighbourhoodHours());
+        this.margin = ttcHistoryConfiguration.getMargin();
+        this.maxEntries = ttcHistoryConfiguration.getMaxEntries();
+        if (enabled) {
+            loadHistory();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void record(SweData sweData, SweDichotomyResult sweDichotomyResult) {
+        if (!enabled || sweDichotomyResult.isRunFailed() || sweDichotomyResult.isInterrupted() || sweDichotomyResult.isRaoFailed()) {
+            return;
+        }
+        final DichotomyResult<SweDichotomyValidationData> dichotomyResult = sweDichotomyResult.getDichotomyResult();
+        if (dichotomyResult == null || !dichotomyResult.hasValidStep()) {
+            return;
+        }
+        final double lowestInvalidStepValue = dichotomyResult.getLowestInvalidStepValue();
+        final TtcHistoryEntry entry = new TtcHistoryEntry(sweData.getTimestamp(), dichotomyResult.getHighestValidStepValue(),
+            Double.isNaN(lowestInvalidStepValue) ? null : lowestInvalidStepValue);
+        synchronized (history) {
+            final NavigableMap<Instant, TtcHistoryEntry> entries = history.computeIfAbsent(getKey(sweData.getProcessType(), sweDichotomyResult.getDichotomyDirection()), key -> new TreeMap<>());
+            entries.put(entry.timestamp().toInstant(), entry);
+            while (entries.size() > maxEntries) {
+                entries.pollFirstEntry();
+            }
+            saveHistory();
+        }
+    }
+
+    /**
+     * Interval covering the TTC of the timestamps around the given one, widened by the configured margin.
+     */
+    public Optional<WarmStartInterval> getNeighbourhoodInterval(ProcessType processType, DichotomyDirection direction, OffsetDateTime timestamp) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        final Collection<TtcHistoryEntry> neighbours;
+        synchronized (history) {
+            final NavigableMap<Instant, TtcHistoryEntry> entries = history.get(getKey(processType, direction));
+            if (entries == null) {
+                return Optional.empty();
+            }
+            final Instant instant = timestamp.toInstant();
+            neighbours = new ArrayList<>(entries.subMap(instant.minus(neighbourhood), true, instant.plus(neighbourhood), true).values());
+        }
+        if (neighbours.isEmpty()) {
+            return Optional.empty();
+        }
+        final double lowerValue = neighbours.stream().mapToDouble(TtcHistoryEntry::lastSecureTtc).min().orElseThrow();
+        final double upperValue = neighbours.stream()
+            .mapToDouble(entry -> entry.firstUnsecureTtc() != null ? entry.firstUnsecureTtc() : entry.lastSecureTtc())
+            .max().orElseThrow();
+        return Optional.of(new WarmStartInterval(lowerValue - margin, upperValue + margin));
+    }
+
+    private static String getKey(ProcessType processType, DichotomyDirection direction) {
+        return processType.name() + "-" + direction.name();
+    }
+
+    private void loadHistory() {
+        if (!Files.exists(file)) {
+            return;
+        }
+        try {
+            final Map<String, List<TtcHistoryEntry>> storedHistory = objectMapper.readValue(file.toFile(), new TypeReference<>() { });
+            storedHistory.forEach((key, entries) -> {
+                final NavigableMap<Instant, TtcHistoryEntry> entriesByTimestamp = new TreeMap<>();
+                entries.forEach(entry -> entriesByTimestamp.put(entry.timestamp().toInstant(), entry));
+                history.put(key, entriesByTimestamp);
+            });
+            LOGGER.info("TTC history loaded from {}", file);
+        } catch (IOException e) {
+            LOGGER.warn("TTC history could not be read from {}, starting with an empty history", file, e);
+        }
+    }
+
+    private void saveHistory() {
+        final Map<String, List<TtcHistoryEntry>> storedHistory = new TreeMap<>();
+        history.forEach((key, entries) -> storedHistory.put(key, List.copyOf(entries.values())));
+        final Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            objectMapper.writeValue(temporaryFile.toFile(), storedHistory);
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // History is only an optimisation of the dichotomy, the run must not fail because of it
+            LOGGER.warn("TTC history could not be written to {}", file, e);
+        }
+    }
+}
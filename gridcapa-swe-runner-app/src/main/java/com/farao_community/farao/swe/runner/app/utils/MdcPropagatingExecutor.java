@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.swe.runner.app.utils;
+
+import org.slf4j.MDC;
+
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * Executor decorator running each task with the MDC of the thread that submitted it,
+ * so that business logs emitted from worker threads keep the task id.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class MdcPropagatingExecutor implements Executor {
+
+    private final Executor delegate;
+
+    public MdcPropagatingExecutor(Executor delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        final Map<String, String> mdc = MDC.getCopyOfContextMap();
+        delegate.execute(() -> {
+            final Map<String, String> originalMdc = MDC.getCopyOfContextMap();
+            try {
+                // Set executor thread's MDC to the one of the submitting thread or clear it to avoid reusing MDC from a previous task
+                if (mdc != null) {
+                    MDC.setContextMap(mdc);
+                } else {
+                    MDC.clear();
+                }
+                command.run();
+            } finally {
+                // Restore executor thread's MDC to its previous value or clear it to ensure new tasks won't reuse an old context
+                if (originalMdc != null) {
+                    MDC.setContextMap(originalMdc);
+                } else {
+                    MDC.clear();
+                }
+            }
+        });
+    }
+}
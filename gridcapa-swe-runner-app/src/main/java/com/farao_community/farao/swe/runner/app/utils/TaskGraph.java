@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.swe.runner.app.utils;
+
+import com.farao_community.farao.gridcapa_swe_commons.exception.SweInternalException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Small graph of tasks run on a bounded pool: each task starts as soon as the tasks it depends on are done.
+ * Tasks are run with the MDC of the thread that built the graph, and the duration of each task is logged.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class TaskGraph implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TaskGraph.class);
+
+    private final String name;
+    private final ExecutorService executorService;
+    private final Executor executor;
+    private final Map<String, CompletableFuture<?>> tasks = new LinkedHashMap<>();
+
+    public TaskGraph(String name, int parallelism) {
+        this.name = name;
+        this.executorService = Executors.newFixedThreadPool(Math.max(1, parallelism));
+        this.executor = new MdcPropagatingExecutor(executorService);
+    }
+
+    public <T> CompletableFuture<T> submit(String taskName, Supplier<T> task, CompletableFuture<?>... dependencies) {
+        CompletableFuture<T> future = CompletableFuture.allOf(dependencies)
+            .thenApplyAsync(ignored -> {
+                long start = System.currentTimeMillis();
+                T result = task.get();
+                LOGGER.info("[{}] : task '{}' done in {} ms", name, taskName, System.currentTimeMillis() - start);
+                return result;
+            }, executor);
+        tasks.put(taskName, future);
+        return future;
+    }
+
+    public CompletableFuture<Void> submit(String taskName, Runnable task, CompletableFuture<?>... dependencies) {
+        return submit(taskName, () -> {
+            task.run();
+            return null;
+        }, dependencies);
+    }
+
+    /**
+     * Waits for all the tasks of the graph, then rethrows the failure of the first submitted task that failed, if any.
+     */
+    public void awaitAll() {
+        long start = System.currentTimeMillis();
+        try {
+            CompletableFuture.allOf(tasks.values().toArray(new CompletableFuture[0])).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SweInternalException(String.format("Interrupted while running %s", name), e);
+        } catch (ExecutionException e) {
+            // Every task is done at this point, the first submitted failure is rethrown to keep a deterministic behaviour
+            tasks.values().stream()
+                .filter(CompletableFuture::isCompletedExceptionally)
+                .findFirst()
+                .ifPresent(TaskGraph::rethrowFailure);
+        }
+        LOGGER.info("[{}] : {} tasks done in {} ms", name, tasks.size(), System.currentTimeMillis() - start);
+    }
+
+    private static void rethrowFailure(CompletableFuture<?> failedTask) {
+        try {
+            failedTask.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            while (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new SweInternalException("Task failed", cause);
+        }
+    }
+
+    @Override
+    public void close() {
+        executorService.close();
+    }
+}
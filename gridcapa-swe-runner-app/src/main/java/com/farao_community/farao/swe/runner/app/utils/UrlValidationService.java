@@ -16,6 +16,7 @@ import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.net.URLConnection;
 import java.util.StringJoiner;
 
 /**
@@ -30,6 +31,17 @@ public class UrlValidationService {
     }
 
     public InputStream openUrlStream(String urlString) {
+        try {
+            return openUrlConnection(urlString).getInputStream();
+        } catch (IOException e) {
+            throw new SweInvalidDataException(String.format("Cannot download FileResource file from URL '%s'", urlString), e);
+        }
+    }
+
+    /**
+     * Opens a connection to a whitelisted URL, giving access to the response headers before reading its content.
+     */
+    public URLConnection openUrlConnection(String urlString) {
         if (urlConfiguration.getWhitelist().stream().noneMatch(urlString::startsWith)) {
             StringJoiner sj = new StringJoiner(", ", "Whitelist: ", ".");
             urlConfiguration.getWhitelist().forEach(sj::add);
@@ -37,7 +49,7 @@ public class UrlValidationService {
         }
         try {
             URL url = new URI(urlString).toURL();
-            return url.openStream();
+            return url.openConnection();
         } catch (IOException | URISyntaxException | IllegalArgumentException e) {
             throw new SweInvalidDataException(String.format("Cannot download FileResource file from URL '%s'", urlString), e);
         }
@@ -466,4 +466,27 @@ class DichotomyParallelizationTest {
         SweResponse sweResponse = dichotomyParallelization.launchDichotomy(sweData, defaultParameters, startingTime);
         assertTrue(sweResponse.isAllRaoFailed());
     }
+
+    @Test
+    void sharedNetworkDirectionsRunOneAfterAnotherFromInitialGeneratorLimits() {
+        when(sweData.isNetworkShared()).thenReturn(true);
+        when(sweData.getNetworkEsFr()).thenReturn(network);
+        when(outputService.buildAndExportTtcDocument(any(SweData.class), any(ExecutionResult.class))).thenReturn("ttcDocUrl");
+        SweDichotomyResult result = new SweDichotomyResult(DichotomyDirection.ES_FR, sweDichotomyResult, Optional.empty(), null, null, null, null);
+        List<DichotomyDirection> runDirections = new ArrayList<>();
+        when(worker.runDichotomyForOneDirection(eq(sweData), eq(defaultParameters), any(DichotomyDirection.class), eq(startingTime))).thenAnswer(invocation -> {
+            // Previous direction has been awaited and its generator limits have been reset
+            assertEquals(50., network.getGenerator("G1").getMinP());
+            assertEquals(150., network.getGenerator("G1").getMaxP());
+            network.getGenerator("G1").setMinP(-9999.).setMaxP(9999.);
+            runDirections.add(invocation.getArgument(2));
+            return CompletableFuture.completedFuture(result);
+        });
+
+        dichotomyParallelization.launchDichotomy(sweData, defaultParameters, startingTime);
+
+        assertEquals(List.of(DichotomyDirection.ES_FR, DichotomyDirection.FR_ES, DichotomyDirection.ES_PT, DichotomyDirection.PT_ES), runDirections);
+        assertEquals(50., network.getGenerator("G1").getMinP());
+        assertEquals(150., network.getGenerator("G1").getMaxP());
+    }
 }
@@ -11,22 +11,27 @@ import com.farao_community.farao.dichotomy.api.NetworkShifter;
 import com.farao_community.farao.dichotomy.api.results.DichotomyResult;
 import com.farao_community.farao.gridcapa_swe_commons.dichotomy.DichotomyDirection;
 import com.farao_community.farao.rao_runner.api.resource.AbstractRaoResponse;
+import com.farao_community.farao.swe.runner.app.domain.DichotomyCheckpoint;
 import com.farao_community.farao.swe.runner.app.domain.SweData;
 import com.farao_community.farao.swe.runner.app.domain.SweTaskParameters;
 import com.farao_community.farao.swe.runner.app.services.FileExporter;
 import com.farao_community.farao.swe.runner.app.services.NetworkService;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
 import com.powsybl.loadflow.LoadFlowParameters;
 import com.powsybl.openloadflow.OpenLoadFlowParameters;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.Executor;
 
 import static com.farao_community.farao.gridcapa_swe_commons.dichotomy.DichotomyDirection.ES_FR;
 import static com.farao_community.farao.gridcapa_swe_commons.dichotomy.DichotomyDirection.ES_PT;
@@ -36,13 +41,16 @@ import static com.farao_community.farao.gridcapa_swe_commons.resource.ProcessTyp
 import static com.farao_community.farao.swe.runner.app.SweTaskParametersTestUtil.getSweTaskParameters;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -60,6 +68,9 @@ class DichotomyRunnerTest {
     @MockitoBean
     private FileExporter fileExporter;
 
+    @MockitoBean
+    private Logger businessLogger;
+
     @Mock
     private NetworkShifter networkShifter;
 
@@ -72,6 +83,7 @@ class DichotomyRunnerTest {
     private LoadFlowParameters loadFlowParameters;
 
     Network network = mock(Network.class);
+    VariantManager variantManager = mock(VariantManager.class);
     DichotomyResult<AbstractRaoResponse> mockDichotomyResult = mock(DichotomyResult.class);
     DichotomyEngine<AbstractRaoResponse> mockEngine = mock(DichotomyEngine.class);
     DichotomyRunner spyDichotomyRunner;
@@ -80,9 +92,77 @@ class DichotomyRunnerTest {
     void setUp() {
         when(mockEngine.run(any(Network.class)))
             .thenReturn(mockDichotomyResult);
+        when(network.getVariantManager()).thenReturn(variantManager);
+        when(variantManager.getVariantIds()).thenReturn(List.of("InitialState", "ES-FR BALANCED 3000.0", "FR-ES BALANCED 1000.0"));
         spyDichotomyRunner = spy(dichotomyRunner);
     }
 
+    @Test
+    void balancedVariantsOfTheDirectionAreRemovedOnceDichotomyIsOver() {
+        when(NetworkService.getNetworkByDirection(sweData, ES_FR))
+            .thenReturn(network);
+        doReturn(mockEngine)
+            .when(spyDichotomyRunner)
+            .buildDichotomyEngine(anySweData(), anyDirection(), any(DichotomyParameters.class), any(LoadFlowParameters.class), any(DichotomyCheckpoint.class), any());
+
+        spyDichotomyRunner.run(sweData, getSweTaskParameters(), ES_FR);
+
+        verify(variantManager).removeVariant("ES-FR BALANCED 3000.0");
+        verify(variantManager, never()).removeVariant("FR-ES BALANCED 1000.0");
+        verify(variantManager, never()).removeVariant("InitialState");
+    }
+
+    @Test
+    void noLaneExecutorIsGivenWhenStepsAreEvaluatedOneByOne() {
+        when(NetworkService.getNetworkByDirection(sweData, ES_FR))
+            .thenReturn(network);
+        final ArgumentCaptor<Executor> laneExecutorCaptor = ArgumentCaptor.forClass(Executor.class);
+        doReturn(mockEngine)
+            .when(spyDichotomyRunner)
+            .buildDichotomyEngine(anySweData(), anyDirection(), any(DichotomyParameters.class), any(LoadFlowParameters.class), any(DichotomyCheckpoint.class), laneExecutorCaptor.capture());
+
+        spyDichotomyRunner.run(sweData, getSweTaskParameters(), ES_FR);
+
+        assertNull(laneExecutorCaptor.getValue());
+    }
+
+    @Test
+    void parallelStepsAreEvaluatedOnLaneExecutor() {
+        when(NetworkService.getNetworkByDirection(sweData, ES_FR))
+            .thenReturn(network);
+        final SweTaskParameters sweTaskParameters = spy(getSweTaskParameters());
+        when(sweTaskParameters.getDichotomyParallelStepsEsFr()).thenReturn(3);
+        final ArgumentCaptor<DichotomyParameters> dichotomyParametersCaptor = ArgumentCaptor.forClass(DichotomyParameters.class);
+        final ArgumentCaptor<Executor> laneExecutorCaptor = ArgumentCaptor.forClass(Executor.class);
+        doReturn(mockEngine)
+            .when(spyDichotomyRunner)
+            .buildDichotomyEngine(anySweData(), anyDirection(), dichotomyParametersCaptor.capture(), any(LoadFlowParameters.class), any(DichotomyCheckpoint.class), laneExecutorCaptor.capture());
+
+        spyDichotomyRunner.run(sweData, sweTaskParameters, ES_FR);
+
+        assertEquals(3, dichotomyParametersCaptor.getValue().parallelSteps());
+        assertNotNull(laneExecutorCaptor.getValue());
+    }
+
+    @Test
+    void parallelStepsAreIgnoredWhenNetworkIsShared() {
+        when(NetworkService.getNetworkByDirection(sweData, ES_FR))
+            .thenReturn(network);
+        when(sweData.isNetworkShared()).thenReturn(true);
+        final SweTaskParameters sweTaskParameters = spy(getSweTaskParameters());
+        when(sweTaskParameters.getDichotomyParallelStepsEsFr()).thenReturn(3);
+        final ArgumentCaptor<DichotomyParameters> dichotomyParametersCaptor = ArgumentCaptor.forClass(DichotomyParameters.class);
+        final ArgumentCaptor<Executor> laneExecutorCaptor = ArgumentCaptor.forClass(Executor.class);
+        doReturn(mockEngine)
+            .when(spyDichotomyRunner)
+            .buildDichotomyEngine(anySweData(), anyDirection(), dichotomyParametersCaptor.capture(), any(LoadFlowParameters.class), any(DichotomyCheckpoint.class), laneExecutorCaptor.capture());
+
+        spyDichotomyRunner.run(sweData, sweTaskParameters, ES_FR);
+
+        assertEquals(1, dichotomyParametersCaptor.getValue().parallelSteps());
+        assertNull(laneExecutorCaptor.getValue());
+    }
+
     @Test
     void testBuildDichotomyEngine() {
         when(networkShifterProvider.get(anySweData(), anyDirection(), any(LoadFlowParameters.class), anyBoolean()))
@@ -91,7 +171,18 @@ class DichotomyRunnerTest {
         when(fileExporter.saveRaoParameters(eq(OffsetDateTime.now()), eq(D2CC), any(SweTaskParameters.class), eq(ES_FR)))
             .thenReturn("raoParameters.json");
 
-        assertNotNull(dichotomyRunner.buildDichotomyEngine(sweData, ES_FR, dichotomyParameters, loadFlowParameters));
+        assertNotNull(dichotomyRunner.buildDichotomyEngine(sweData, ES_FR, dichotomyParameters, loadFlowParameters, DichotomyCheckpoint.disabled(), Runnable::run));
+    }
+
+    @Test
+    void warmStartIgnoredByMarginGuidedDichotomyIsReported() {
+        when(networkShifterProvider.get(anySweData(), anyDirection(), any(LoadFlowParameters.class), anyBoolean()))
+            .thenReturn(networkShifter);
+        final DichotomyParameters parameters = new DichotomyParameters(0, 1000, 50, false, false, 1, new WarmStartInterval(200, 600), true);
+
+        assertNotNull(dichotomyRunner.buildDichotomyEngine(sweData, ES_FR, parameters, loadFlowParameters, DichotomyCheckpoint.disabled(), null));
+
+        verify(businessLogger).warn("[{}] Warm start from the TTC of neighbouring timestamps is ignored as {}", "ES-FR", "the dichotomy is margin guided");
     }
 
     @Test
@@ -104,7 +195,7 @@ class DichotomyRunnerTest {
 
         doReturn(mockEngine)
             .when(spyDichotomyRunner)
-            .buildDichotomyEngine(anySweData(), anyDirection(), dichotomyParametersCaptor.capture(), loadFlowParametersCaptor.capture());
+            .buildDichotomyEngine(anySweData(), anyDirection(), dichotomyParametersCaptor.capture(), loadFlowParametersCaptor.capture(), any(DichotomyCheckpoint.class), any());
 
         assertEquals(mockDichotomyResult, spyDichotomyRunner.run(sweData, getSweTaskParameters(), ES_FR));
 
@@ -130,7 +221,7 @@ class DichotomyRunnerTest {
 
         doReturn(mockEngine)
             .when(spyDichotomyRunner)
-            .buildDichotomyEngine(anySweData(), anyDirection(), dichotomyParametersCaptor.capture(), loadFlowParametersCaptor.capture());
+            .buildDichotomyEngine(anySweData(), anyDirection(), dichotomyParametersCaptor.capture(), loadFlowParametersCaptor.capture(), any(DichotomyCheckpoint.class), any());
 
         assertEquals(mockDichotomyResult, spyDichotomyRunner.run(sweData, getSweTaskParameters(), FR_ES));
 
@@ -156,7 +247,7 @@ class DichotomyRunnerTest {
 
         doReturn(mockEngine)
             .when(spyDichotomyRunner)
-            .buildDichotomyEngine(anySweData(), anyDirection(), dichotomyParametersCaptor.capture(), loadFlowParametersCaptor.capture());
+            .buildDichotomyEngine(anySweData(), anyDirection(), dichotomyParametersCaptor.capture(), loadFlowParametersCaptor.capture(), any(DichotomyCheckpoint.class), any());
 
         assertEquals(mockDichotomyResult, spyDichotomyRunner.run(sweData, getSweTaskParameters(), ES_PT));
 
@@ -181,7 +272,7 @@ class DichotomyRunnerTest {
 
         doReturn(mockEngine)
             .when(spyDichotomyRunner)
-            .buildDichotomyEngine(anySweData(), anyDirection(), dichotomyParametersCaptor.capture(), loadFlowParametersCaptor.capture());
+            .buildDichotomyEngine(anySweData(), anyDirection(), dichotomyParametersCaptor.capture(), loadFlowParametersCaptor.capture(), any(DichotomyCheckpoint.class), any());
 
         assertEquals(mockDichotomyResult, spyDichotomyRunner.run(sweData, getSweTaskParameters(), PT_ES));
 
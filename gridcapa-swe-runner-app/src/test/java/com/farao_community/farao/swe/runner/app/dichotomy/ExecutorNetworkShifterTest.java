@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.swe.runner.app.dichotomy;
+
+import com.farao_community.farao.dichotomy.api.NetworkShifter;
+import com.farao_community.farao.dichotomy.api.exceptions.GlskLimitationException;
+import com.farao_community.farao.dichotomy.api.exceptions.ShiftingException;
+import com.powsybl.iidm.network.Network;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class ExecutorNetworkShifterTest {
+
+    private final NetworkShifter networkShifter = mock(NetworkShifter.class);
+    private final ExecutorService shiftExecutorService = Executors.newSingleThreadExecutor();
+    private final ExecutorNetworkShifter executorNetworkShifter = new ExecutorNetworkShifter(networkShifter, shiftExecutorService);
+
+    @AfterEach
+    void tearDown() {
+        shiftExecutorService.shutdownNow();
+    }
+
+    @Test
+    void shiftIsRunOnExecutorThreadWithWorkingVariantOfCaller() throws Exception {
+        Network network = readNetwork();
+        network.getVariantManager().allowVariantMultiThreadAccess(true);
+        network.getVariantManager().cloneVariant(network.getVariantManager().getWorkingVariantId(), "ES-FR");
+        AtomicReference<Thread> shiftThread = new AtomicReference<>();
+        AtomicReference<String> shiftedVariantId = new AtomicReference<>();
+        doAnswer(invocation -> {
+            shiftThread.set(Thread.currentThread());
+            shiftedVariantId.set(network.getVariantManager().getWorkingVariantId());
+            return null;
+        }).when(networkShifter).shiftNetwork(anyDouble(), any(Network.class));
+
+        Thread dichotomyThread = Thread.ofVirtual().start(() -> {
+            network.getVariantManager().setWorkingVariant("ES-FR");
+            try {
+                executorNetworkShifter.shiftNetwork(1000, network);
+            } catch (GlskLimitationException | ShiftingException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        dichotomyThread.join();
+
+        assertFalse(shiftThread.get().isVirtual());
+        assertEquals("ES-FR", shiftedVariantId.get());
+    }
+
+    @Test
+    void shiftFailureIsRethrown() throws Exception {
+        Network network = readNetwork();
+        doThrow(new GlskLimitationException("GLSK limit reached")).when(networkShifter).shiftNetwork(anyDouble(), any(Network.class));
+
+        GlskLimitationException exception = assertThrows(GlskLimitationException.class, () -> executorNetworkShifter.shiftNetwork(1000, network));
+        assertEquals("GLSK limit reached", exception.getMessage());
+    }
+
+    @Test
+    void interruptedWaitLetsShiftEndBeforeFailing() throws Exception {
+        Network network = readNetwork();
+        AtomicBoolean shiftEnded = new AtomicBoolean(false);
+        doAnswer(invocation -> {
+            Thread.sleep(200);
+            shiftEnded.set(true);
+            return null;
+        }).when(networkShifter).shiftNetwork(anyDouble(), any(Network.class));
+
+        Thread.currentThread().interrupt();
+        assertThrows(ShiftingException.class, () -> executorNetworkShifter.shiftNetwork(1000, network));
+
+        assertTrue(Thread.interrupted());
+        assertTrue(shiftEnded.get());
+    }
+
+    private Network readNetwork() {
+        return Network.read("hvdc/TestCase16Nodes.xiidm", getClass().getResourceAsStream("/hvdc/TestCase16Nodes.xiidm"));
+    }
+}
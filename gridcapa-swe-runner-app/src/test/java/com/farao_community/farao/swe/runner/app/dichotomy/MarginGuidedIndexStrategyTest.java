@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.swe.runner.app.dichotomy;
+
+import com.farao_community.farao.dichotomy.api.index.HalfRangeDivisionIndexStrategy;
+import com.farao_community.farao.dichotomy.api.index.Index;
+import com.farao_community.farao.dichotomy.api.index.IndexStrategy;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import com.farao_community.farao.swe.runner.app.domain.SweDichotomyValidationData;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class MarginGuidedIndexStrategyTest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MarginGuidedIndexStrategyTest.class);
+    private static final double MIN_VALUE = 0;
+    private static final double MAX_VALUE = 6000;
+    private static final double PRECISION = 50;
+
+    /**
+     * Step histories of dichotomies, one file per history, giving the functional cost after the last instant of the RAO
+     * result of each step. The worst margin is its opposite, it is linearly interpolated between the steps.
+     */
+    private static final String STEP_HISTORIES_DIRECTORY = "/dichotomy/step-histories";
+
+    private final Map<DichotomyStepResult<SweDichotomyValidationData>, Double> margins = new IdentityHashMap<>();
+    private final Index<SweDichotomyValidationData> index = mock(Index.class);
+
+    @Test
+    void zeroOfMarginSecantIsTestedAfterRangeBounds() {
+        MarginGuidedIndexStrategy<SweDichotomyValidationData> strategy = new MarginGuidedIndexStrategy<>(MIN_VALUE, MAX_VALUE, PRECISION, margins::get);
+
+        assertEquals(6000, strategy.nextValue(index));
+        when(index.lowestInvalidStep()).thenReturn(Pair.of(6000., stepResult(-1600)));
+        assertEquals(0, strategy.nextValue(index));
+        when(index.highestValidStep()).thenReturn(Pair.of(0., stepResult(800)));
+        // Margin is zero at 2000, the next value is moved towards the unsecure side as the last step is secure
+        assertEquals(2020, strategy.nextValue(index));
+        when(index.lowestInvalidStep()).thenReturn(Pair.of(2020., stepResult(-8)));
+        // Margin is still zero at 2000, the next value is now moved towards the secure side
+        assertEquals(1980, strategy.nextValue(index), 1e-9);
+    }
+
+    @Test
+    void rangeIsHalvedWhenMarginsAreNotAvailable() {
+        MarginGuidedIndexStrategy<SweDichotomyValidationData> strategy = new MarginGuidedIndexStrategy<>(MIN_VALUE, MAX_VALUE, PRECISION, stepResult -> Double.NaN);
+
+        when(index.lowestInvalidStep()).thenReturn(Pair.of(6000., stepResult(0)));
+        when(index.highestValidStep()).thenReturn(Pair.of(0., stepResult(0)));
+
+        assertEquals(3000, strategy.nextValue(index));
+    }
+
+    @Test
+    void rangeIsHalvedWhenSecantZeroIsOutOfRange() {
+        MarginGuidedIndexStrategy<SweDichotomyValidationData> strategy = new MarginGuidedIndexStrategy<>(MIN_VALUE, MAX_VALUE, PRECISION, margins::get);
+
+        when(index.lowestInvalidStep()).thenReturn(Pair.of(6000., stepResult(-100)));
+        strategy.nextValue(index);
+        when(index.highestValidStep()).thenReturn(Pair.of(0., stepResult(-50)));
+
+        assertEquals(3000, strategy.nextValue(index));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("getStepHistoryFiles")
+    void benchmarkAgainstHalfRangeDivision(String stepHistoryFile) throws IOException {
+        final double[][] history = readStepHistory(stepHistoryFile);
+        final Index<SweDichotomyValidationData> halfRangeDivisionIndex = new Index<>(MIN_VALUE, MAX_VALUE, PRECISION);
+        final int halfRangeDivisionSteps = runDichotomy(new HalfRangeDivisionIndexStrategy<>(false), halfRangeDivisionIndex, history);
+        final Index<SweDichotomyValidationData> marginGuidedIndex = new Index<>(MIN_VALUE, MAX_VALUE, PRECISION);
+        final int marginGuidedSteps = runDichotomy(new MarginGuidedIndexStrategy<>(MIN_VALUE, MAX_VALUE, PRECISION, margins::get), marginGuidedIndex, history);
+        LOGGER.info("Step history '{}': {} steps with half range division, {} steps with margin guided dichotomy",
+            stepHistoryFile, halfRangeDivisionSteps, marginGuidedSteps);
+
+        assertSameResult(halfRangeDivisionIndex, marginGuidedIndex);
+        assertTrue(marginGuidedSteps <= 2 * halfRangeDivisionSteps,
+            String.format("%d steps with margin guided dichotomy, more than twice the %d steps with half range division", marginGuidedSteps, halfRangeDivisionSteps));
+    }
+
+    static Stream<String> getStepHistoryFiles() throws IOException, URISyntaxException {
+        try (Stream<Path> files = Files.list(Path.of(MarginGuidedIndexStrategyTest.class.getResource(STEP_HISTORIES_DIRECTORY).toURI()))) {
+            return files.map(file -> file.getFileName().toString()).sorted().toList().stream();
+        }
+    }
+
+    /**
+     * Steps of the history sorted by value, as pairs of step value and worst margin.
+     */
+    private static double[][] readStepHistory(String stepHistoryFile) throws IOException {
+        try (InputStream inputStream = MarginGuidedIndexStrategyTest.class.getResourceAsStream(STEP_HISTORIES_DIRECTORY + "/" + stepHistoryFile)) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8).lines()
+                .filter(line -> !line.isBlank() && !line.startsWith("#"))
+                .map(line -> line.split(";"))
+                .map(fields -> new double[]{Double.parseDouble(fields[0].trim()), -Double.parseDouble(fields[1].trim())})
+                .sorted(Comparator.comparingDouble(step -> step[0]))
+                .toArray(double[][]::new);
+        }
+    }
+
+    private int runDichotomy(IndexStrategy<SweDichotomyValidationData> strategy, Index<SweDichotomyValidationData> dichotomyIndex, double[][] history) {
+        int steps = 0;
+        while (!strategy.precisionReached(dichotomyIndex)) {
+            final double value = strategy.nextValue(dichotomyIndex);
+            dichotomyIndex.addDichotomyStepResult(value, stepResult(interpolate(history, value)));
+            steps++;
+            assertTrue(steps < 50, "Dichotomy does not converge");
+        }
+        return steps;
+    }
+
+    private static void assertSameResult(Index<SweDichotomyValidationData> expectedIndex, Index<SweDichotomyValidationData> actualIndex) {
+        assertEquals(expectedIndex.highestValidStep() == null, actualIndex.highestValidStep() == null);
+        assertEquals(expectedIndex.lowestInvalidStep() == null, actualIndex.lowestInvalidStep() == null);
+        assertEquals(getStepValue(expectedIndex::highestValidStep), getStepValue(actualIndex::highestValidStep), 2 * PRECISION);
+    }
+
+    private static double getStepValue(Supplier<Pair<Double, DichotomyStepResult<SweDichotomyValidationData>>> step) {
+        return step.get() == null ? Double.NaN : step.get().getLeft();
+    }
+
+    private static double interpolate(double[][] history, double value) {
+        for (int i = 1; i < history.length; i++) {
+            if (value <= history[i][0]) {
+                final double ratio = (value - history[i - 1][0]) / (history[i][0] - history[i - 1][0]);
+                return history[i - 1][1] + ratio * (history[i][1] - history[i - 1][1]);
+            }
+        }
+        return history[history.length - 1][1];
+    }
+
+    private DichotomyStepResult<SweDichotomyValidationData> stepResult(double margin) {
+        DichotomyStepResult<SweDichotomyValidationData> stepResult = mock(DichotomyStepResult.class);
+        when(stepResult.isValid()).thenReturn(margin >= 0);
+        margins.put(stepResult, margin);
+        return stepResult;
+    }
+}
@@ -11,8 +11,12 @@ import com.farao_community.farao.dichotomy.shift.ShiftDispatcher;
 import com.farao_community.farao.gridcapa_swe_commons.dichotomy.DichotomyDirection;
 import com.farao_community.farao.gridcapa_swe_commons.resource.ProcessType;
 import com.farao_community.farao.gridcapa_swe_commons.resource.SweEICode;
+import com.farao_community.farao.gridcapa_swe_commons.shift.ShiftIterations;
 import com.farao_community.farao.gridcapa_swe_commons.shift.SweD2ccShiftDispatcher;
 import com.farao_community.farao.gridcapa_swe_commons.shift.SweIdccShiftDispatcher;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -51,4 +55,18 @@ class NetworkShifterProviderTest {
         assertEquals(650, shifts.get(SweEICode.ES_EIC));
     }
 
+    @Test
+    void shiftIterationsAreRecordedByDirectionAndLoadFlowType() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        NetworkShifterProvider meteredShifterProvider = new NetworkShifterProvider(null, null, null, null, null, null, null, meterRegistry);
+        meteredShifterProvider.recordShiftIterations(DichotomyDirection.PT_ES, new ShiftIterations(1000, 4, 2));
+        meteredShifterProvider.recordShiftIterations(DichotomyDirection.PT_ES, new ShiftIterations(1500, 0, 3));
+
+        DistributionSummary acIterations = meterRegistry.get(NetworkShifterProvider.SHIFT_ITERATIONS_METER).tag("direction", "PT-ES").tag("loadflow", "ac").summary();
+        DistributionSummary dcIterations = meterRegistry.get(NetworkShifterProvider.SHIFT_ITERATIONS_METER).tag("direction", "PT-ES").tag("loadflow", "dc").summary();
+        assertEquals(2, acIterations.count());
+        assertEquals(5, acIterations.totalAmount());
+        assertEquals(3, acIterations.max());
+        assertEquals(4, dcIterations.totalAmount());
+    }
 }
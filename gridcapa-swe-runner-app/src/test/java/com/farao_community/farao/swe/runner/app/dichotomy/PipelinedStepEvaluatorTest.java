@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.swe.runner.app.dichotomy;
+
+import com.farao_community.farao.dichotomy.api.NetworkShifter;
+import com.farao_community.farao.dichotomy.api.NetworkValidator;
+import com.farao_community.farao.dichotomy.api.exceptions.GlskLimitationException;
+import com.farao_community.farao.dichotomy.api.index.Index;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import com.farao_community.farao.swe.runner.app.domain.SweDichotomyValidationData;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class PipelinedStepEvaluatorTest {
+
+    private final NetworkShifter networkShifter = mock(NetworkShifter.class);
+    private final NetworkValidator<SweDichotomyValidationData> networkValidator = mock(NetworkValidator.class);
+    private final NetworkShifter laneShifter = mock(NetworkShifter.class);
+    private final Network network = mock(Network.class);
+    private final Network laneNetwork = mock(Network.class);
+    private final Index<SweDichotomyValidationData> index = new Index<>(0, 1000, 10);
+    private PipelinedStepEvaluator pipelinedStepEvaluator;
+
+    @BeforeEach
+    void setUp() {
+        VariantManager laneVariantManager = mock(VariantManager.class);
+        when(laneNetwork.getVariantManager()).thenReturn(laneVariantManager);
+        when(laneVariantManager.getWorkingVariantId()).thenReturn("InitialState");
+        pipelinedStepEvaluator = new PipelinedStepEvaluator(networkShifter, networkValidator, index, 0, 10,
+            initialNetwork -> () -> new SpeculativeStepEvaluator.Lane(laneNetwork, laneShifter), Runnable::run);
+    }
+
+    @Test
+    void candidatesAreTheMiddlesOfBothHalves() throws Exception {
+        pipelinedStepEvaluator.shiftNetwork(1000, network);
+        assertEquals(List.of(0.), pipelinedStepEvaluator.getNextValueCandidates());
+
+        index.addDichotomyStepResult(1000, stepResult(false));
+        index.addDichotomyStepResult(0, stepResult(true));
+        pipelinedStepEvaluator.shiftNetwork(500, network);
+        assertEquals(List.of(750., 250.), pipelinedStepEvaluator.getNextValueCandidates());
+    }
+
+    @Test
+    void nextStepIsShiftedDuringValidationAndValidatedOnItsLane() throws Exception {
+        DichotomyStepResult<SweDichotomyValidationData> firstStepResult = stepResult(false);
+        DichotomyStepResult<SweDichotomyValidationData> secondStepResult = stepResult(true);
+        when(networkValidator.validateNetwork(eq(network), any())).thenReturn(firstStepResult);
+        when(networkValidator.validateNetwork(eq(laneNetwork), any())).thenReturn(secondStepResult);
+
+        pipelinedStepEvaluator.shiftNetwork(1000, network);
+        assertEquals(firstStepResult, pipelinedStepEvaluator.validateNetwork(network, null));
+        verify(laneShifter).shiftNetwork(0, laneNetwork);
+        index.addDichotomyStepResult(1000, firstStepResult);
+
+        pipelinedStepEvaluator.shiftNetwork(0, network);
+        assertEquals(secondStepResult, pipelinedStepEvaluator.validateNetwork(network, firstStepResult));
+        verify(networkShifter, never()).shiftNetwork(eq(0.), any());
+        verify(laneNetwork.getVariantManager()).removeVariant("InitialState-ScaledBy-0.0");
+    }
+
+    @Test
+    void preShiftFailureIsReportedToTheEngine() throws Exception {
+        when(networkValidator.validateNetwork(any(), any())).thenReturn(stepResult(false));
+        doThrow(new GlskLimitationException("GLSK limitation")).when(laneShifter).shiftNetwork(anyDouble(), eq(laneNetwork));
+
+        pipelinedStepEvaluator.shiftNetwork(1000, network);
+        pipelinedStepEvaluator.validateNetwork(network, null);
+
+        assertThrows(GlskLimitationException.class, () -> pipelinedStepEvaluator.shiftNetwork(0, network));
+    }
+
+    @Test
+    void unexpectedValueIsShiftedOnEngineNetwork() throws Exception {
+        when(networkValidator.validateNetwork(any(), any())).thenReturn(stepResult(false));
+
+        pipelinedStepEvaluator.shiftNetwork(1000, network);
+        pipelinedStepEvaluator.validateNetwork(network, null);
+        pipelinedStepEvaluator.shiftNetwork(300, network);
+
+        verify(networkShifter).shiftNetwork(300, network);
+        verify(laneNetwork.getVariantManager()).removeVariant("InitialState-ScaledBy-0.0");
+    }
+
+    private static DichotomyStepResult<SweDichotomyValidationData> stepResult(boolean valid) {
+        DichotomyStepResult<SweDichotomyValidationData> stepResult = mock(DichotomyStepResult.class);
+        when(stepResult.isValid()).thenReturn(valid);
+        return stepResult;
+    }
+}
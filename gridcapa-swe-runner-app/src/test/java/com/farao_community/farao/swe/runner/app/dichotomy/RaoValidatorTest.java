@@ -21,6 +21,7 @@ import com.farao_community.farao.swe.runner.app.domain.SweDichotomyValidationDat
 import com.farao_community.farao.swe.runner.app.services.FileExporter;
 import com.farao_community.farao.swe.runner.app.services.FileImporter;
 import com.powsybl.glsk.cim.CimGlskDocument;
+import com.powsybl.contingency.Contingency;
 import com.powsybl.glsk.commons.ZonalData;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.VariantManager;
@@ -28,6 +29,7 @@ import com.powsybl.loadflow.LoadFlowParameters;
 import com.powsybl.openrao.commons.PhysicalParameter;
 import com.powsybl.openrao.data.crac.api.Crac;
 import com.powsybl.openrao.data.crac.api.Instant;
+import com.powsybl.openrao.data.crac.api.State;
 import com.powsybl.openrao.data.crac.io.cim.craccreator.CimCracCreationContext;
 import com.powsybl.openrao.data.raoresult.api.ComputationStatus;
 import com.powsybl.openrao.data.raoresult.api.RaoResult;
@@ -40,6 +42,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import java.time.OffsetDateTime;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -48,6 +51,9 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 /**
  * @author Marc Schwitzguébel {@literal <marc.schwitzguebel at rte-france.com>}
@@ -211,6 +217,59 @@ class RaoValidatorTest {
         }
     }
 
+    @Test
+    void directionCracIsUsedWhenRaoReturnsTheCracSent() throws RaoFailureException, ValidationException, RaoInterruptionException {
+        RaoValidator raoValidator = new RaoValidator(fileExporter, fileImporter, raoRunnerClient, sweData, DichotomyDirection.FR_ES, false, LoadFlowParameters.load(), businessLogger);
+        when(network.getVariantManager()).thenReturn(variantManager);
+        when(variantManager.getWorkingVariantId()).thenReturn("variant-id");
+        when(fileExporter.saveNetworkInArtifact(any(Network.class), anyString(), anyString(), any(OffsetDateTime.class), any(ProcessType.class))).thenReturn("an-url");
+        when(raoRunnerClient.runRao(any(RaoRequest.class))).thenReturn(raoResponse);
+        when(raoResponse.getRaoResultFileUrl()).thenReturn("http://result-file-url");
+        when(raoResponse.getCracFileUrl()).thenReturn("http://cracFrEs.json?X-Amz-Signature=2");
+        when(sweData.getJsonCracPathFrEs()).thenReturn("http://cracFrEs.json?X-Amz-Signature=1");
+        when(sweData.getCracFrEs()).thenReturn(cimCracCreationContext);
+        when(cimCracCreationContext.getCrac()).thenReturn(crac);
+        when(fileImporter.importRaoResult("http://result-file-url", crac)).thenReturn(raoResult);
+        when(sweData.getTimestamp()).thenReturn(OffsetDateTime.now());
+
+        DichotomyStepResult<SweDichotomyValidationData> result = raoValidator.validateNetwork(network, null);
+
+        assertEquals(raoResult, result.getRaoResult());
+        verify(fileImporter, never()).importCracFromJson(anyString(), any());
+    }
+
+    @Test
+    void failedContingenciesAreLoggedFromImportedRaoResult() throws RaoFailureException, ValidationException, RaoInterruptionException {
+        RaoValidator raoValidator = new RaoValidator(fileExporter, fileImporter, raoRunnerClient, sweData, DichotomyDirection.ES_FR, false, LoadFlowParameters.load(), businessLogger);
+        when(network.getVariantManager()).thenReturn(variantManager);
+        when(variantManager.getWorkingVariantId()).thenReturn("variant-id");
+        when(fileExporter.saveNetworkInArtifact(any(Network.class), anyString(), anyString(), any(OffsetDateTime.class), any(ProcessType.class))).thenReturn("an-url");
+        when(raoRunnerClient.runRao(any(RaoRequest.class))).thenReturn(raoResponse);
+        when(raoResponse.getRaoResultFileUrl()).thenReturn("http://result-file-url");
+        when(raoResponse.getCracFileUrl()).thenReturn("crac-file-url");
+        when(fileImporter.importCracFromJson(anyString(), any())).thenReturn(crac);
+        when(fileImporter.importRaoResult(anyString(), any(Crac.class))).thenReturn(raoResult);
+        when(sweData.getTimestamp()).thenReturn(OffsetDateTime.now());
+        Contingency failedContingency = Mockito.mock(Contingency.class);
+        Contingency secureContingency = Mockito.mock(Contingency.class);
+        State failedState = Mockito.mock(State.class);
+        State secureState = Mockito.mock(State.class);
+        when(failedContingency.getId()).thenReturn("failed-contingency");
+        when(crac.getContingencies()).thenReturn(Set.of(failedContingency, secureContingency));
+        when(crac.getStates(failedContingency)).thenReturn(Set.of(failedState));
+        when(crac.getStates(secureContingency)).thenReturn(Set.of(secureState));
+        when(failedState.getInstant()).thenReturn(CURATIVE_INSTANT);
+        when(CURATIVE_INSTANT.getId()).thenReturn("curative");
+        when(raoResult.getComputationStatus(failedState)).thenReturn(ComputationStatus.FAILURE);
+        when(raoResult.getComputationStatus(secureState)).thenReturn(ComputationStatus.DEFAULT);
+
+        raoValidator.validateNetwork(network, null);
+
+        verify(businessLogger, times(1)).warn(anyString(), any(), any());
+        verify(businessLogger).warn("Contingency '{}' computation failed at instant '{}'", "failed-contingency", "curative");
+        verify(fileImporter, times(1)).importRaoResult(anyString(), any(Crac.class));
+    }
+
     @Test
     void simpleTestPortugalWithAngleCheckParameterFalse() throws RaoFailureException {
         RaoValidator raoValidator = new RaoValidator(fileExporter, fileImporter, raoRunnerClient, sweData, DichotomyDirection.ES_PT, false, LoadFlowParameters.load(), businessLogger);
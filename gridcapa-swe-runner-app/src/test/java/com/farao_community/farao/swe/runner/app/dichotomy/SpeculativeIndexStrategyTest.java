@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.swe.runner.app.dichotomy;
+
+import com.farao_community.farao.dichotomy.api.index.Index;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import com.farao_community.farao.swe.runner.app.domain.SweDichotomyValidationData;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class SpeculativeIndexStrategyTest {
+
+    private final Index<SweDichotomyValidationData> index = mock(Index.class);
+
+    @Test
+    void oneParallelStepTestsSameValuesAsHalfRangeDivision() {
+        SpeculativeIndexStrategy<SweDichotomyValidationData> strategy = new SpeculativeIndexStrategy<>(0, 1000, 50, 1);
+
+        assertEquals(1000, strategy.nextValue(index));
+        setLowestInvalidStep(1000);
+        assertEquals(0, strategy.nextValue(index));
+        setHighestValidStep(0);
+        assertEquals(500, strategy.nextValue(index));
+        setHighestValidStep(500);
+        assertEquals(750, strategy.nextValue(index));
+        assertTrue(strategy.getPendingValues().isEmpty());
+    }
+
+    @Test
+    void roundIsSplitInParallelStepsAndPrunedByVerdicts() {
+        SpeculativeIndexStrategy<SweDichotomyValidationData> strategy = new SpeculativeIndexStrategy<>(0, 1000, 10, 3);
+
+        assertEquals(1000, strategy.nextValue(index));
+        assertEquals(List.of(0., 500.), strategy.getPendingValues());
+        setLowestInvalidStep(1000);
+        assertEquals(0, strategy.nextValue(index));
+        setHighestValidStep(0);
+        assertEquals(500, strategy.nextValue(index));
+        setLowestInvalidStep(500);
+
+        assertEquals(125, strategy.nextValue(index));
+        assertEquals(List.of(250., 375.), strategy.getPendingValues());
+        setHighestValidStep(125);
+        assertEquals(250, strategy.nextValue(index));
+        setLowestInvalidStep(250);
+        // 375 is above the lowest invalid step, it is dropped and a new round is built
+        assertEquals(156.25, strategy.nextValue(index));
+        assertEquals(List.of(187.5, 218.75), strategy.getPendingValues());
+    }
+
+    @Test
+    void roundIsLimitedToUsefulPointsForPrecision() {
+        SpeculativeIndexStrategy<SweDichotomyValidationData> strategy = new SpeculativeIndexStrategy<>(0, 1000, 50, 4);
+        setHighestValidStep(900);
+        setLowestInvalidStep(1000);
+
+        assertEquals(950, strategy.nextValue(index));
+        assertTrue(strategy.getPendingValues().isEmpty());
+    }
+
+    @Test
+    void pendingValuesAreClearedWhenPrecisionIsReached() {
+        SpeculativeIndexStrategy<SweDichotomyValidationData> strategy = new SpeculativeIndexStrategy<>(0, 1000, 50, 3);
+        AtomicInteger listenerCalls = new AtomicInteger();
+        strategy.setPrecisionReachedListener(listenerCalls::incrementAndGet);
+        when(index.minValue()).thenReturn(0.);
+        when(index.maxValue()).thenReturn(1000.);
+        when(index.precision()).thenReturn(50.);
+        strategy.nextValue(index);
+        setHighestValidStep(980);
+        setLowestInvalidStep(1000);
+
+        assertTrue(strategy.precisionReached(index));
+        assertTrue(strategy.getPendingValues().isEmpty());
+        assertEquals(1, listenerCalls.get());
+    }
+
+    private void setHighestValidStep(double value) {
+        when(index.highestValidStep()).thenReturn(Pair.of(value, mock(DichotomyStepResult.class)));
+    }
+
+    private void setLowestInvalidStep(double value) {
+        when(index.lowestInvalidStep()).thenReturn(Pair.of(value, mock(DichotomyStepResult.class)));
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.swe.runner.app.dichotomy;
+
+import com.farao_community.farao.dichotomy.api.NetworkShifter;
+import com.farao_community.farao.dichotomy.api.NetworkValidator;
+import com.farao_community.farao.dichotomy.api.exceptions.GlskLimitationException;
+import com.farao_community.farao.dichotomy.api.index.Index;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import com.farao_community.farao.swe.runner.app.domain.SweDichotomyValidationData;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class SpeculativeStepEvaluatorTest {
+
+    private final NetworkShifter networkShifter = mock(NetworkShifter.class);
+    private final NetworkValidator<SweDichotomyValidationData> networkValidator = mock(NetworkValidator.class);
+    private final NetworkShifter laneShifter = mock(NetworkShifter.class);
+    private final Network network = mock(Network.class);
+    private final Network laneNetwork = mock(Network.class);
+    private final VariantManager laneVariantManager = mock(VariantManager.class);
+    private final Index<SweDichotomyValidationData> index = mock(Index.class);
+    private final SpeculativeIndexStrategy<SweDichotomyValidationData> indexStrategy = new SpeculativeIndexStrategy<>(0, 1000, 10, 3);
+    private final AtomicInteger createdLanes = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        when(laneNetwork.getVariantManager()).thenReturn(laneVariantManager);
+        when(laneVariantManager.getWorkingVariantId()).thenReturn("InitialState");
+    }
+
+    @Test
+    void speculativeValueIsShiftedAndValidatedOnLane() throws Exception {
+        DichotomyStepResult<SweDichotomyValidationData> engineStepResult = stepResult(false);
+        DichotomyStepResult<SweDichotomyValidationData> minStepResult = stepResult(true);
+        DichotomyStepResult<SweDichotomyValidationData> middleStepResult = stepResult(false);
+        when(networkValidator.validateNetwork(eq(network), any())).thenReturn(engineStepResult);
+        when(networkValidator.validateNetwork(eq(laneNetwork), any())).thenReturn(minStepResult, middleStepResult);
+        SpeculativeStepEvaluator speculativeStepEvaluator = buildEvaluator(Runnable::run);
+
+        assertEquals(1000, indexStrategy.nextValue(index));
+        speculativeStepEvaluator.shiftNetwork(1000, network);
+        assertEquals(engineStepResult, speculativeStepEvaluator.validateNetwork(network, null));
+        verify(laneShifter).shiftNetwork(0, laneNetwork);
+        verify(laneShifter).shiftNetwork(500, laneNetwork);
+
+        assertEquals(0, indexStrategy.nextValue(index));
+        speculativeStepEvaluator.shiftNetwork(0, network);
+        assertEquals(minStepResult, speculativeStepEvaluator.validateNetwork(network, engineStepResult));
+        verify(networkShifter).shiftNetwork(1000, network);
+        verify(networkShifter, never()).shiftNetwork(eq(0.), any());
+        verify(networkValidator, never()).validateNetwork(eq(network), eq(engineStepResult));
+    }
+
+    @Test
+    void speculativeShiftFailureIsRethrownToTheEngine() throws Exception {
+        when(networkValidator.validateNetwork(any(), any())).thenReturn(stepResult(false));
+        doThrow(new GlskLimitationException("GLSK limitation")).when(laneShifter).shiftNetwork(eq(0.), eq(laneNetwork));
+        SpeculativeStepEvaluator speculativeStepEvaluator = buildEvaluator(Runnable::run);
+
+        indexStrategy.nextValue(index);
+        speculativeStepEvaluator.shiftNetwork(1000, network);
+        speculativeStepEvaluator.validateNetwork(network, null);
+
+        assertEquals(0, indexStrategy.nextValue(index));
+        GlskLimitationException exception = assertThrows(GlskLimitationException.class, () -> speculativeStepEvaluator.shiftNetwork(0, network));
+        assertEquals("GLSK limitation", exception.getMessage());
+    }
+
+    @Test
+    void waitingSpeculativeStepsAreCancelledWhenPrecisionIsReached() throws Exception {
+        List<Runnable> submittedSteps = new ArrayList<>();
+        SpeculativeStepEvaluator speculativeStepEvaluator = buildEvaluator(submittedSteps::add);
+
+        indexStrategy.nextValue(index);
+        speculativeStepEvaluator.shiftNetwork(1000, network);
+        when(index.minValue()).thenReturn(0.);
+        when(index.maxValue()).thenReturn(1000.);
+        when(index.precision()).thenReturn(10.);
+        setHighestValidStep(995);
+        setLowestInvalidStep(1000);
+        assertTrue(indexStrategy.precisionReached(index));
+        submittedSteps.forEach(Runnable::run);
+
+        assertEquals(2, submittedSteps.size());
+        assertEquals(0, createdLanes.get());
+        verify(laneShifter, never()).shiftNetwork(anyDouble(), any());
+        verify(networkValidator, never()).validateNetwork(eq(laneNetwork), any());
+    }
+
+    @Test
+    void laneIsReleasedAndStepVariantRemovedAfterEachSpeculativeStep() throws Exception {
+        when(networkValidator.validateNetwork(any(), any())).thenReturn(stepResult(false));
+        doThrow(new GlskLimitationException("GLSK limitation")).when(laneShifter).shiftNetwork(eq(500.), eq(laneNetwork));
+        SpeculativeStepEvaluator speculativeStepEvaluator = buildEvaluator(Runnable::run);
+
+        indexStrategy.nextValue(index);
+        speculativeStepEvaluator.shiftNetwork(1000, network);
+
+        // Steps run one after the other here, so the lane of the first one is reused by the second one
+        assertEquals(1, createdLanes.get());
+        verify(laneVariantManager).cloneVariant("InitialState", "InitialState-ScaledBy-0.0", true);
+        verify(laneVariantManager).removeVariant("InitialState-ScaledBy-0.0");
+        verify(laneVariantManager).cloneVariant("InitialState", "InitialState-ScaledBy-500.0", true);
+        verify(laneVariantManager).removeVariant("InitialState-ScaledBy-500.0");
+    }
+
+    private SpeculativeStepEvaluator buildEvaluator(Executor executor) {
+        return new SpeculativeStepEvaluator(networkShifter, networkValidator, indexStrategy,
+            initialNetwork -> () -> {
+                createdLanes.incrementAndGet();
+                return new SpeculativeStepEvaluator.Lane(laneNetwork, laneShifter);
+            }, executor);
+    }
+
+    private void setHighestValidStep(double value) {
+        when(index.highestValidStep()).thenReturn(Pair.of(value, mock(DichotomyStepResult.class)));
+    }
+
+    private void setLowestInvalidStep(double value) {
+        when(index.lowestInvalidStep()).thenReturn(Pair.of(value, mock(DichotomyStepResult.class)));
+    }
+
+    private static DichotomyStepResult<SweDichotomyValidationData> stepResult(boolean valid) {
+        DichotomyStepResult<SweDichotomyValidationData> stepResult = mock(DichotomyStepResult.class);
+        when(stepResult.isValid()).thenReturn(valid);
+        return stepResult;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.swe.runner.app.dichotomy;
+
+import com.farao_community.farao.dichotomy.api.index.Index;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import com.farao_community.farao.swe.runner.app.domain.SweDichotomyValidationData;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class WarmStartIndexStrategyTest {
+
+    private final Index<SweDichotomyValidationData> index = mock(Index.class);
+
+    @Test
+    void expectedIntervalIsTestedFirst() {
+        WarmStartIndexStrategy<SweDichotomyValidationData> strategy = new WarmStartIndexStrategy<>(0, 6000, new WarmStartInterval(2000, 2600));
+
+        assertEquals(2600, strategy.nextValue(index));
+        setLowestInvalidStep(2600);
+        assertEquals(2000, strategy.nextValue(index));
+        setHighestValidStep(2000);
+        assertEquals(2300, strategy.nextValue(index));
+    }
+
+    @Test
+    void intervalIsWidenedUpwardsUntilMaxValue() {
+        WarmStartIndexStrategy<SweDichotomyValidationData> strategy = new WarmStartIndexStrategy<>(0, 6000, new WarmStartInterval(2000, 2600));
+
+        assertEquals(2600, strategy.nextValue(index));
+        setHighestValidStep(2600);
+        assertEquals(3200, strategy.nextValue(index));
+        setHighestValidStep(3200);
+        assertEquals(4400, strategy.nextValue(index));
+        setHighestValidStep(4400);
+        assertEquals(6000, strategy.nextValue(index));
+        setLowestInvalidStep(6000);
+        assertEquals(5200, strategy.nextValue(index));
+    }
+
+    @Test
+    void intervalIsWidenedDownwardsUntilMinValue() {
+        WarmStartIndexStrategy<SweDichotomyValidationData> strategy = new WarmStartIndexStrategy<>(0, 6000, new WarmStartInterval(2000, 2600));
+
+        assertEquals(2600, strategy.nextValue(index));
+        setLowestInvalidStep(2600);
+        assertEquals(2000, strategy.nextValue(index));
+        setLowestInvalidStep(2000);
+        assertEquals(1400, strategy.nextValue(index));
+        setLowestInvalidStep(1400);
+        assertEquals(200, strategy.nextValue(index));
+        setLowestInvalidStep(200);
+        assertEquals(0, strategy.nextValue(index));
+    }
+
+    private void setHighestValidStep(double value) {
+        when(index.highestValidStep()).thenReturn(Pair.of(value, mock(DichotomyStepResult.class)));
+    }
+
+    private void setLowestInvalidStep(double value) {
+        when(index.lowestInvalidStep()).thenReturn(Pair.of(value, mock(DichotomyStepResult.class)));
+    }
+}
@@ -7,6 +7,8 @@
 package com.farao_community.farao.swe.runner.app.domain;
 
 import com.powsybl.openrao.data.crac.io.cim.craccreator.CimCracCreationContext;
+import com.farao_community.farao.gridcapa_swe_commons.dichotomy.DichotomyDirection;
+import com.farao_community.farao.gridcapa_swe_commons.exception.SweBaseCaseUnsecureException;
 import com.farao_community.farao.gridcapa_swe_commons.resource.ProcessType;
 import com.powsybl.iidm.network.Network;
 import org.junit.jupiter.api.Test;
@@ -16,8 +18,15 @@ import org.springframework.boot.test.context.SpringBootTest;
 import java.time.OffsetDateTime;
 import java.util.Collections;
 import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * @author Theo Pascoli {@literal <theo.pascoli at rte-france.com>}
@@ -63,4 +72,54 @@ class SweDataTest {
         assertEquals("raoParametersEsPtUrl", sweData.getRaoParametersEsPtUrl());
         assertEquals(Collections.emptyMap(), sweData.getMapCgmesInputFiles());
     }
+
+    @Test
+    void sharedNetworkVariantsTest() {
+        SweData sweData = new SweData("id", "runId", OffsetDateTime.now(), ProcessType.D2CC, network, network, network, network, cracFrEs, cracEsPt, "glskUrl", "CracEsPt", "CracFrEs", "raoParametersEsFrUrl", "raoParametersEsPtUrl", Collections.emptyList(), new EnumMap<>(CgmesFileType.class), Map.of(DichotomyDirection.ES_FR, "ES-FR"));
+        assertEquals(Optional.of("ES-FR"), sweData.getNetworkVariantId(DichotomyDirection.ES_FR));
+        assertEquals(Optional.empty(), sweData.getNetworkVariantId(DichotomyDirection.PT_ES));
+        assertTrue(sweData.isNetworkShared());
+    }
+
+    @Test
+    void distinctNetworksHaveNoVariantTest() {
+        SweData sweData = new SweData("id", "runId", OffsetDateTime.now(), ProcessType.D2CC, network, network, network, network, cracFrEs, cracEsPt, "glskUrl", "CracEsPt", "CracFrEs", "raoParametersEsFrUrl", "raoParametersEsPtUrl", Collections.emptyList(), new EnumMap<>(CgmesFileType.class));
+        assertEquals(Optional.empty(), sweData.getNetworkVariantId(DichotomyDirection.ES_FR));
+        assertFalse(sweData.isNetworkShared());
+    }
+
+    @Test
+    void initialNetPositionsAreComputedOnceTest() {
+        SweData sweData = new SweData("id", "runId", OffsetDateTime.now(), ProcessType.D2CC, network, network, network, network, cracFrEs, cracEsPt, "glskUrl", "CracEsPt", "CracFrEs", "raoParametersEsFrUrl", "raoParametersEsPtUrl", Collections.emptyList(), new EnumMap<>(CgmesFileType.class));
+        AtomicInteger computationCount = new AtomicInteger();
+        Supplier<Map<String, Double>> computation = () -> {
+            computationCount.incrementAndGet();
+            return Map.of("FR", 100.);
+        };
+        assertEquals(Map.of("FR", 100.), sweData.getInitialNetPositions(computation));
+        assertEquals(Map.of("FR", 100.), sweData.getInitialNetPositions(computation));
+        assertEquals(1, computationCount.get());
+    }
+
+    @Test
+    void unsecureBaseCaseIsSharedTest() {
+        SweData sweData = new SweData("id", "runId", OffsetDateTime.now(), ProcessType.D2CC, network, network, network, network, cracFrEs, cracEsPt, "glskUrl", "CracEsPt", "CracFrEs", "raoParametersEsFrUrl", "raoParametersEsPtUrl", Collections.emptyList(), new EnumMap<>(CgmesFileType.class));
+        AtomicInteger computationCount = new AtomicInteger();
+        Supplier<Map<String, Double>> computation = () -> {
+            computationCount.incrementAndGet();
+            throw new SweBaseCaseUnsecureException("Loadflow computation diverged");
+        };
+        assertThrows(SweBaseCaseUnsecureException.class, () -> sweData.getInitialNetPositions(computation));
+        assertThrows(SweBaseCaseUnsecureException.class, () -> sweData.getInitialNetPositions(computation));
+        assertEquals(1, computationCount.get());
+    }
+
+    @Test
+    void initialNetPositionsComputedAtImportAreReusedTest() {
+        SweData sweData = new SweData("id", "runId", OffsetDateTime.now(), ProcessType.D2CC, network, network, network, network, cracFrEs, cracEsPt, "glskUrl", "CracEsPt", "CracFrEs", "raoParametersEsFrUrl", "raoParametersEsPtUrl", Collections.emptyList(), new EnumMap<>(CgmesFileType.class));
+        sweData.computeInitialNetPositions(() -> Map.of("FR", 100.));
+        assertEquals(Map.of("FR", 100.), sweData.getInitialNetPositions(() -> {
+            throw new AssertionError("Base case is computed again");
+        }));
+    }
 }
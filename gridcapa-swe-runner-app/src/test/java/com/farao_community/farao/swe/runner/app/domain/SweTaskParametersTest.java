@@ -36,6 +36,11 @@ class SweTaskParametersTest {
             new TaskParameterDto("DICHOTOMY_PRECISION_FR-ES", "INT", "11", "1515"),
             new TaskParameterDto("DICHOTOMY_PRECISION_ES-PT", "INT", "12", "1515"),
             new TaskParameterDto("DICHOTOMY_PRECISION_PT-ES", "INT", "13", "1515"),
+            new TaskParameterDto("DICHOTOMY_PARALLEL_STEPS_ES-FR", "INT", "1", "1"),
+            new TaskParameterDto("DICHOTOMY_PARALLEL_STEPS_FR-ES", "INT", "3", "1"),
+            new TaskParameterDto("DICHOTOMY_PARALLEL_STEPS_ES-PT", "INT", "1", "1"),
+            new TaskParameterDto("DICHOTOMY_PARALLEL_STEPS_PT-ES", "INT", "5", "1"),
+            new TaskParameterDto("DICHOTOMY_MARGIN_GUIDED", "BOOLEAN", "true", "false"),
             new TaskParameterDto("RUN_ANGLE_CHECK", "BOOLEAN", "true", "true"),
             new TaskParameterDto("RUN_VOLTAGE_CHECK", "BOOLEAN", "true", "true"),
             new TaskParameterDto("MAX_CRA", "INT", "72", "25"),
@@ -63,6 +68,11 @@ class SweTaskParametersTest {
         assertThat(params.getDichotomyPrecisionFrEs()).isEqualTo(11);
         assertThat(params.getDichotomyPrecisionEsPt()).isEqualTo(12);
         assertThat(params.getDichotomyPrecisionPtEs()).isEqualTo(13);
+        assertThat(params.getDichotomyParallelStepsEsFr()).isEqualTo(1);
+        assertThat(params.getDichotomyParallelStepsFrEs()).isEqualTo(3);
+        assertThat(params.getDichotomyParallelStepsEsPt()).isEqualTo(1);
+        assertThat(params.getDichotomyParallelStepsPtEs()).isEqualTo(5);
+        assertThat(params.isDichotomyMarginGuided()).isTrue();
         assertThat(params.isRunAngleCheck()).isTrue();
         assertThat(params.isRunVoltageCheck()).isTrue();
         assertThat(params.getMaxCra()).isEqualTo(72);
@@ -102,6 +112,11 @@ class SweTaskParametersTest {
         assertThat(params.getDichotomyPrecisionFrEs()).isZero();
         assertThat(params.getDichotomyPrecisionEsPt()).isZero();
         assertThat(params.getDichotomyPrecisionPtEs()).isZero();
+        assertThat(params.getDichotomyParallelStepsEsFr()).isEqualTo(1);
+        assertThat(params.getDichotomyParallelStepsFrEs()).isEqualTo(1);
+        assertThat(params.getDichotomyParallelStepsEsPt()).isEqualTo(1);
+        assertThat(params.getDichotomyParallelStepsPtEs()).isEqualTo(1);
+        assertThat(params.isDichotomyMarginGuided()).isFalse();
         assertThat(params.isRunAngleCheck()).isFalse();
         assertThat(params.isRunVoltageCheck()).isFalse();
         assertThat(params.getMaxCra()).isZero();
@@ -185,4 +200,37 @@ class SweTaskParametersTest {
                 "\"[PT-ES] Starting point (value: 18) should be greater than minimum point (value: 103)\"" +
                 "].");
     }
+
+    @Test
+    void crossValidationFailureParallelStepsTest() {
+        List<TaskParameterDto> parameters = List.of(
+            new TaskParameterDto("RUN_ES-FR", "BOOLEAN", "true", "true"),
+            new TaskParameterDto("RUN_FR-ES", "BOOLEAN", "false", "true"),
+            new TaskParameterDto("DICHOTOMY_PARALLEL_STEPS_ES-FR", "INT", "0", "1"),
+            new TaskParameterDto("DICHOTOMY_PARALLEL_STEPS_FR-ES", "INT", "0", "1")
+        );
+
+        Assertions.assertThatExceptionOfType(SweInvalidDataException.class)
+            .isThrownBy(() -> new SweTaskParameters(parameters))
+            .withMessage("Validation of parameters failed. Failure reasons are: [" +
+                "\"[ES-FR] Number of dichotomy parallel steps (value: 0) should be at least 1\"" +
+                "].");
+    }
+
+    @Test
+    void crossValidationFailureMarginGuidedWithParallelStepsTest() {
+        List<TaskParameterDto> parameters = List.of(
+            new TaskParameterDto("RUN_ES-FR", "BOOLEAN", "true", "true"),
+            new TaskParameterDto("RUN_FR-ES", "BOOLEAN", "false", "true"),
+            new TaskParameterDto("DICHOTOMY_PARALLEL_STEPS_ES-FR", "INT", "3", "1"),
+            new TaskParameterDto("DICHOTOMY_PARALLEL_STEPS_FR-ES", "INT", "3", "1"),
+            new TaskParameterDto("DICHOTOMY_MARGIN_GUIDED", "BOOLEAN", "true", "false")
+        );
+
+        Assertions.assertThatExceptionOfType(SweInvalidDataException.class)
+            .isThrownBy(() -> new SweTaskParameters(parameters))
+            .withMessage("Validation of parameters failed. Failure reasons are: [" +
+                "\"[ES-FR] Margin guided dichotomy cannot be run with several parallel steps (value: 3)\"" +
+                "].");
+    }
 }
@@ -31,6 +31,7 @@ import java.time.OffsetDateTime;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -116,4 +117,18 @@ class DichotomyParallelizationWorkerTest {
         assertEquals(direction, sweDichotomyResult.getDichotomyDirection());
         assertTrue(sweDichotomyResult.isRaoFailed());
     }
+
+    @Test
+    void dichotomyIsRunOnVirtualThread() throws ExecutionException, InterruptedException {
+        AtomicReference<Thread> dichotomyThread = new AtomicReference<>();
+        when(dichotomyRunner.run(any(SweData.class), any(SweTaskParameters.class), any(DichotomyDirection.class))).thenAnswer(invocation -> {
+            dichotomyThread.set(Thread.currentThread());
+            return DichotomyResult.buildFromRaoFailure("failure");
+        });
+        SweTaskParameters sweTaskParameters = Mockito.mock(SweTaskParameters.class);
+
+        dichotomyParallelizationWorker.runDichotomyForOneDirection(sweData, sweTaskParameters, DichotomyDirection.ES_PT, startingTime).get();
+
+        assertTrue(dichotomyThread.get().isVirtual());
+    }
 }
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.swe.runner.app.services;
+
+import com.farao_community.farao.swe.runner.api.resource.SweFileResource;
+import com.farao_community.farao.swe.runner.app.configurations.CgmesCacheConfiguration;
+import com.farao_community.farao.swe.runner.app.utils.UrlValidationService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class CgmesFileCacheTest {
+
+    private static final int ENTRY_SIZE = 400 * 1024;
+
+    @TempDir
+    private Path cacheDirectory;
+
+    private final UrlValidationService urlValidationService = mock(UrlValidationService.class);
+
+    private CgmesCacheConfiguration configuration;
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        configuration = new CgmesCacheConfiguration();
+        configuration.setDirectory(cacheDirectory.toString());
+        configuration.setMaxSizeMb(1);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void secondDownloadOfSameFileIsReadFromCache() throws IOException {
+        URLConnection connection = mockConnection("http://host/REE_EQ.xml", "\"etag-1\"", content('a'));
+        CgmesFileCache cache = new CgmesFileCache(configuration, urlValidationService, meterRegistry);
+        SweFileResource file = new SweFileResource("REE_EQ.xml", "http://host/REE_EQ.xml");
+
+        assertArrayEquals(content('a'), cache.getContent(file));
+        assertArrayEquals(content('a'), cache.getContent(file));
+
+        verify(connection, times(1)).getInputStream();
+        assertEquals(1, requests("hit"));
+        assertEquals(1, requests("miss"));
+        assertEquals(ENTRY_SIZE, cacheSize());
+    }
+
+    @Test
+    void changedEtagIsDownloadedAgain() throws IOException {
+        URLConnection connection = mockConnection("http://host/REE_SSH.xml", "\"etag-1\"", content('a'));
+        CgmesFileCache cache = new CgmesFileCache(configuration, urlValidationService, meterRegistry);
+        SweFileResource file = new SweFileResource("REE_SSH.xml", "http://host/REE_SSH.xml");
+
+        cache.getContent(file);
+        when(connection.getHeaderField("ETag")).thenReturn("\"etag-2\"");
+        cache.getContent(file);
+
+        verify(connection, times(2)).getInputStream();
+        assertEquals(0, requests("hit"));
+        assertEquals(2, requests("miss"));
+    }
+
+    @Test
+    void fileWithoutEtagIsNotCached() throws IOException {
+        URLConnection connection = mockConnection("file:/REE_TP.xml", null, content('a'));
+        CgmesFileCache cache = new CgmesFileCache(configuration, urlValidationService, meterRegistry);
+        SweFileResource file = new SweFileResource("REE_TP.xml", "file:/REE_TP.xml");
+
+        cache.getContent(file);
+        cache.getContent(file);
+
+        verify(connection, times(2)).getInputStream();
+        assertEquals(2, requests("uncacheable"));
+        assertEquals(0, countEntries());
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvictedWhenCacheIsFull() throws IOException {
+        URLConnection connectionA = mockConnection("http://host/A.xml", "\"a\"", content('a'));
+        URLConnection connectionB = mockConnection("http://host/B.xml", "\"b\"", content('b'));
+        mockConnection("http://host/C.xml", "\"c\"", content('c'));
+        CgmesFileCache cache = new CgmesFileCache(configuration, urlValidationService, meterRegistry);
+        SweFileResource fileA = new SweFileResource("A.xml", "http://host/A.xml");
+        SweFileResource fileB = new SweFileResource("B.xml", "http://host/B.xml");
+        SweFileResource fileC = new SweFileResource("C.xml", "http://host/C.xml");
+
+        cache.getContent(fileA);
+        cache.getContent(fileB);
+        cache.getContent(fileA);
+        cache.getContent(fileC);
+
+        assertEquals(2, countEntries());
+        assertEquals(2L * ENTRY_SIZE, cacheSize());
+        cache.getContent(fileA);
+        cache.getContent(fileB);
+        verify(connectionA, times(1)).getInputStream();
+        verify(connectionB, times(2)).getInputStream();
+    }
+
+    @Test
+    void cacheEntriesAreKeptAcrossRestarts() throws IOException {
+        URLConnection connection = mockConnection("http://host/RTE_EQ.xml", "\"etag\"", content('a'));
+        SweFileResource file = new SweFileResource("RTE_EQ.xml", "http://host/RTE_EQ.xml");
+        new CgmesFileCache(configuration, urlValidationService, new SimpleMeterRegistry()).getContent(file);
+
+        CgmesFileCache restartedCache = new CgmesFileCache(configuration, urlValidationService, meterRegistry);
+        assertEquals(ENTRY_SIZE, cacheSize());
+        assertArrayEquals(content('a'), restartedCache.getContent(file));
+        assertEquals(1, requests("hit"));
+        verify(connection, times(1)).getInputStream();
+    }
+
+    @Test
+    void disabledCacheAlwaysDownloads() throws IOException {
+        configuration.setEnabled(false);
+        URLConnection connection = mockConnection("http://host/REN_EQ.xml", "\"etag\"", content('a'));
+        CgmesFileCache cache = new CgmesFileCache(configuration, urlValidationService, meterRegistry);
+        SweFileResource file = new SweFileResource("REN_EQ.xml", "http://host/REN_EQ.xml");
+
+        cache.getContent(file);
+        cache.getContent(file);
+
+        verify(connection, times(2)).getInputStream();
+        assertEquals(0, countEntries());
+    }
+
+    @Test
+    void knownEtagIsCheckedWithConditionalRequest() throws IOException {
+        HttpURLConnection connection = mock(HttpURLConnection.class);
+        when(connection.getHeaderField("ETag")).thenReturn("\"etag\"");
+        when(connection.getInputStream()).thenAnswer(invocation -> new ByteArrayInputStream(content('a')));
+        when(connection.getResponseCode()).thenReturn(HttpURLConnection.HTTP_NOT_MODIFIED);
+        when(urlValidationService.openUrlConnection("http://host/REE_EQ.xml")).thenReturn(connection);
+        CgmesFileCache cache = new CgmesFileCache(configuration, urlValidationService, meterRegistry);
+        SweFileResource file = new SweFileResource("REE_EQ.xml", "http://host/REE_EQ.xml");
+
+        cache.getContent(file);
+        verify(connection, never()).setRequestProperty(eq("If-None-Match"), anyString());
+        assertArrayEquals(content('a'), cache.getContent(file));
+
+        verify(connection).setRequestProperty("If-None-Match", "\"etag\"");
+        verify(connection, times(1)).getInputStream();
+        verify(connection, times(1)).disconnect();
+        assertEquals(1, requests("hit"));
+    }
+
+    @Test
+    void modifiedFileIsDownloadedFromConditionalRequest() throws IOException {
+        HttpURLConnection connection = mock(HttpURLConnection.class);
+        when(connection.getHeaderField("ETag")).thenReturn("\"etag-1\"");
+        when(connection.getInputStream()).thenAnswer(invocation -> new ByteArrayInputStream(content('a')));
+        when(connection.getResponseCode()).thenReturn(HttpURLConnection.HTTP_OK);
+        when(urlValidationService.openUrlConnection("http://host/REE_SSH.xml")).thenReturn(connection);
+        CgmesFileCache cache = new CgmesFileCache(configuration, urlValidationService, meterRegistry);
+        SweFileResource file = new SweFileResource("REE_SSH.xml", "http://host/REE_SSH.xml");
+
+        cache.getContent(file);
+        when(connection.getHeaderField("ETag")).thenReturn("\"etag-2\"");
+        cache.getContent(file);
+
+        verify(connection).setRequestProperty("If-None-Match", "\"etag-1\"");
+        verify(connection, times(2)).getInputStream();
+        assertEquals(2, requests("miss"));
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get(CgmesFileCache.REQUESTS_METER).tag("result", result).counter().count();
+    }
+
+    private double cacheSize() {
+        return meterRegistry.get(CgmesFileCache.SIZE_METER).gauge().value();
+    }
+
+    private URLConnection mockConnection(String url, String etag, byte[] content) throws IOException {
+        URLConnection connection = mock(URLConnection.class);
+        when(connection.getHeaderField("ETag")).thenReturn(etag);
+        when(connection.getInputStream()).thenAnswer(invocation -> new ByteArrayInputStream(content));
+        when(urlValidationService.openUrlConnection(url)).thenReturn(connection);
+        return connection;
+    }
+
+    private static byte[] content(char c) {
+        byte[] content = new byte[ENTRY_SIZE];
+        Arrays.fill(content, (byte) c);
+        return content;
+    }
+
+    private long countEntries() throws IOException {
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            return files.count();
+        }
+    }
+}
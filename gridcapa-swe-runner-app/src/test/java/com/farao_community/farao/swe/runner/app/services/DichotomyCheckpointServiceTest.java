@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.swe.runner.app.services;
+
+import com.farao_community.farao.dichotomy.api.index.Index;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import com.farao_community.farao.gridcapa_swe_commons.exception.SweInvalidDataException;
+import com.farao_community.farao.minio_adapter.starter.MinioAdapter;
+import com.farao_community.farao.rao_runner.api.resource.RaoSuccessResponse;
+import com.farao_community.farao.swe.runner.api.resource.SweFileResource;
+import com.farao_community.farao.swe.runner.app.configurations.DichotomyCheckpointConfiguration;
+import com.farao_community.farao.swe.runner.app.domain.DichotomyCheckpoint;
+import com.farao_community.farao.swe.runner.app.domain.SweData;
+import com.farao_community.farao.swe.runner.app.domain.SweDichotomyValidationData;
+import com.farao_community.farao.swe.runner.app.domain.SweTaskParameters;
+import com.farao_community.farao.swe.runner.app.utils.UrlValidationService;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.raoresult.api.RaoResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static com.farao_community.farao.gridcapa_swe_commons.dichotomy.DichotomyDirection.ES_FR;
+import static com.farao_community.farao.gridcapa_swe_commons.dichotomy.DichotomyDirection.FR_ES;
+import static com.farao_community.farao.gridcapa_swe_commons.resource.ProcessType.D2CC;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class DichotomyCheckpointServiceTest {
+
+    private static final OffsetDateTime TIMESTAMP = OffsetDateTime.parse("2025-03-10T10:30Z");
+    private static final String RTE_EQ_URL = "http://localhost:9000/RTE_EQ.xml?X-Amz-Signature=1";
+    private static final String CRAC_URL = "http://localhost:9000/crac.xml?X-Amz-Signature=1";
+    private static final String GLSK_URL = "http://localhost:9000/glsk.xml?X-Amz-Signature=1";
+
+    private final MinioAdapter minioAdapter = mock(MinioAdapter.class);
+    private final FileExporter fileExporter = mock(FileExporter.class);
+    private final FileImporter fileImporter = mock(FileImporter.class);
+    private final UrlValidationService urlValidationService = mock(UrlValidationService.class);
+    private final SweTaskParameters sweTaskParameters = mock(SweTaskParameters.class);
+    private DichotomyCheckpointService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        DichotomyCheckpointConfiguration configuration = new DichotomyCheckpointConfiguration();
+        configuration.setEnabled(true);
+        service = new DichotomyCheckpointService(configuration, minioAdapter, fileExporter, fileImporter, urlValidationService);
+        when(fileExporter.makeDestinationDichotomyPath(any(), any(), any())).thenReturn("2025/03/10/11_30/ARTIFACTS/ES_FR/");
+        when(fileExporter.adaptTargetProcessName(D2CC)).thenReturn("SWE_D2CC");
+        when(sweTaskParameters.toJsonString()).thenReturn("{\"RUN_ES-FR\":true}");
+        when(minioAdapter.generatePreSignedUrl(anyString())).thenReturn("http://localhost:9000/checkpoint.json");
+        when(urlValidationService.openUrlStream(anyString())).thenThrow(new IllegalStateException("Not found"));
+        mockUrl(RTE_EQ_URL, "\"rte-eq\"", "");
+        mockUrl(CRAC_URL, "\"crac\"", "");
+        mockUrl(GLSK_URL, "\"glsk\"", "");
+    }
+
+    @Test
+    void checkpointKeyDependsOnInputContentAndParameters() throws IOException {
+        mockUrl(CRAC_URL, "\"crac-1\"", "");
+        String key = service.getCheckpointKey(mockSweData(), sweTaskParameters, ES_FR);
+
+        assertTrue(key.startsWith("task-id-ES-FR-"));
+        assertEquals(key, service.getCheckpointKey(mockSweData(), sweTaskParameters, ES_FR));
+        mockUrl(CRAC_URL, "\"crac-2\"", "");
+        String keyWithOtherCrac = service.getCheckpointKey(mockSweData(), sweTaskParameters, ES_FR);
+        assertNotEquals(key, keyWithOtherCrac);
+        when(sweTaskParameters.toJsonString()).thenReturn("{\"RUN_ES-FR\":false}");
+        assertNotEquals(keyWithOtherCrac, service.getCheckpointKey(mockSweData(), sweTaskParameters, ES_FR));
+    }
+
+    @Test
+    void contentIsHashedWhenServerGivesNoEtag() throws IOException {
+        mockUrl(GLSK_URL, null, "glsk content");
+        String key = service.getCheckpointKey(mockSweData(), sweTaskParameters, ES_FR);
+
+        assertEquals(key, service.getCheckpointKey(mockSweData(), sweTaskParameters, ES_FR));
+        mockUrl(GLSK_URL, null, "other glsk content");
+        assertNotEquals(key, service.getCheckpointKey(mockSweData(), sweTaskParameters, ES_FR));
+    }
+
+    @Test
+    void inputFilesAreIdentifiedOnceForAllDirections() {
+        SweData sweData = new SweData("task-id", "run-id", TIMESTAMP, D2CC, Map.of(), () -> null, () -> null, GLSK_URL,
+            () -> null, () -> null, () -> null, () -> null, List.of(), Map.of(), Map.of(),
+            List.of(new SweFileResource("crac.xml", CRAC_URL), new SweFileResource("glsk.xml", GLSK_URL)));
+
+        String esFrKey = service.getCheckpointKey(sweData, sweTaskParameters, ES_FR);
+        String frEsKey = service.getCheckpointKey(sweData, sweTaskParameters, FR_ES);
+
+        assertEquals(esFrKey.substring("task-id-ES-FR-".length()), frEsKey.substring("task-id-FR-ES-".length()));
+        verify(urlValidationService, times(1)).openUrlConnection(CRAC_URL);
+        verify(urlValidationService, times(1)).openUrlConnection(GLSK_URL);
+    }
+
+    @Test
+    void checkpointIsDisabledWhenInputContentCannotBeIdentified() {
+        when(urlValidationService.openUrlConnection(CRAC_URL)).thenThrow(new SweInvalidDataException("Not whitelisted"));
+
+        DichotomyCheckpoint checkpoint = service.open(mockSweData(), sweTaskParameters, ES_FR);
+
+        assertFalse(checkpoint.isEnabled());
+        verify(minioAdapter, never()).generatePreSignedUrl(anyString());
+    }
+
+    @Test
+    void savedStepsAreFoundByNextRun() throws IOException {
+        SweData sweData = mockSweData();
+        DichotomyCheckpoint checkpoint = service.open(sweData, sweTaskParameters, ES_FR);
+        assertTrue(checkpoint.getSteps().isEmpty());
+
+        service.saveStep(checkpoint, sweData, 1000, mockStepResult(false));
+        service.saveStep(checkpoint, sweData, 500, mockStepResult(true));
+
+        ArgumentCaptor<InputStream> contentCaptor = ArgumentCaptor.forClass(InputStream.class);
+        verify(minioAdapter, times(2)).uploadArtifactForTimestamp(eq(checkpoint.getPath()), contentCaptor.capture(), eq("SWE_D2CC"), eq(""), eq(TIMESTAMP));
+        byte[] savedContent = contentCaptor.getValue().readAllBytes();
+        doReturn(new ByteArrayInputStream(savedContent)).when(urlValidationService).openUrlStream(anyString());
+
+        DichotomyCheckpoint reopenedCheckpoint = service.open(sweData, sweTaskParameters, ES_FR);
+        assertEquals(checkpoint.getSteps(), reopenedCheckpoint.getSteps());
+        assertEquals("raoResult.json", reopenedCheckpoint.getSteps().getFirst().raoResultFileUrl());
+    }
+
+    @Test
+    void stepWithoutRaoResponseIsNotSaved() {
+        SweData sweData = mockSweData();
+        DichotomyCheckpoint checkpoint = service.open(sweData, sweTaskParameters, ES_FR);
+        DichotomyStepResult<SweDichotomyValidationData> failedStep = mock(DichotomyStepResult.class);
+
+        service.saveStep(checkpoint, sweData, 1000, failedStep);
+
+        assertTrue(checkpoint.getSteps().isEmpty());
+        verify(minioAdapter, never()).uploadArtifactForTimestamp(anyString(), any(), anyString(), anyString(), any());
+    }
+
+    @Test
+    void restoredStepsNarrowTheIndex() {
+        DichotomyCheckpoint checkpoint = new DichotomyCheckpoint("checkpoint.json", List.of(
+            step(1000, false), step(0, true), step(500, true), step(750, false)));
+        Network network = mock(Network.class);
+        Crac crac = mock(Crac.class);
+        when(fileImporter.importCracFromJson("crac.json", network)).thenReturn(crac);
+        when(fileImporter.importRaoResult("raoResult.json", crac)).thenReturn(mock(RaoResult.class));
+        Index<SweDichotomyValidationData> index = new Index<>(0, 1000, 10);
+
+        service.restoreSteps(checkpoint, network, index);
+
+        assertEquals(500, index.highestValidStep().getLeft());
+        assertEquals(750, index.lowestInvalidStep().getLeft());
+        verify(fileImporter, times(1)).importCracFromJson("crac.json", network);
+    }
+
+    @Test
+    void inconsistentCheckpointIsNotRestored() {
+        DichotomyCheckpoint checkpoint = new DichotomyCheckpoint("checkpoint.json", List.of(step(500, false), step(750, true)));
+        Index<SweDichotomyValidationData> index = new Index<>(0, 1000, 10);
+
+        service.restoreSteps(checkpoint, mock(Network.class), index);
+
+        assertNull(index.highestValidStep());
+        assertNull(index.lowestInvalidStep());
+    }
+
+    @Test
+    void disabledCheckpointIsNeverRead() {
+        DichotomyCheckpointConfiguration configuration = new DichotomyCheckpointConfiguration();
+        DichotomyCheckpointService disabledService = new DichotomyCheckpointService(configuration, minioAdapter, fileExporter, fileImporter, urlValidationService);
+
+        DichotomyCheckpoint checkpoint = disabledService.open(mockSweData(), sweTaskParameters, ES_FR);
+
+        assertFalse(checkpoint.isEnabled());
+        verify(minioAdapter, never()).generatePreSignedUrl(anyString());
+    }
+
+    private static SweData mockSweData() {
+        SweData sweData = mock(SweData.class);
+        when(sweData.getId()).thenReturn("task-id");
+        when(sweData.getTimestamp()).thenReturn(TIMESTAMP);
+        when(sweData.getProcessType()).thenReturn(D2CC);
+        when(sweData.getInputFiles()).thenReturn(List.of(
+            new SweFileResource("RTE_EQ.xml", RTE_EQ_URL),
+            new SweFileResource("crac.xml", CRAC_URL),
+            new SweFileResource("glsk.xml", GLSK_URL)));
+        when(sweData.getInputFilesIdentity(any())).thenAnswer(invocation -> invocation.<Supplier<String>>getArgument(0).get());
+        return sweData;
+    }
+
+    private void mockUrl(String url, String etag, String content) throws IOException {
+        URLConnection connection = mock(URLConnection.class);
+        when(connection.getHeaderField("ETag")).thenReturn(etag);
+        when(connection.getInputStream()).thenAnswer(invocation -> new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+        when(urlValidationService.openUrlConnection(url)).thenReturn(connection);
+    }
+
+    private static DichotomyStepResult<SweDichotomyValidationData> mockStepResult(boolean valid) {
+        RaoSuccessResponse raoResponse = new RaoSuccessResponse.Builder()
+            .withId("rao-id")
+            .withCracFileUrl("crac.json")
+            .withRaoResultFileUrl("raoResult.json")
+            .withNetworkWithPraFileUrl("network.xiidm")
+            .build();
+        DichotomyStepResult<SweDichotomyValidationData> stepResult = mock(DichotomyStepResult.class);
+        when(stepResult.isValid()).thenReturn(valid);
+        when(stepResult.getValidationData()).thenReturn(new SweDichotomyValidationData(raoResponse, SweDichotomyValidationData.AngleMonitoringStatus.NONE));
+        return stepResult;
+    }
+
+    private static DichotomyCheckpoint.Step step(double stepValue, boolean valid) {
+        return new DichotomyCheckpoint.Step(stepValue, valid, SweDichotomyValidationData.AngleMonitoringStatus.NONE,
+            "rao-id", "network.xiidm", "crac.json", "raoResult.json", null, null);
+    }
+}
@@ -6,16 +6,22 @@
  */
 package com.farao_community.farao.swe.runner.app.services;
 
+import com.farao_community.farao.gridcapa.task_manager.api.TaskParameterDto;
+import com.farao_community.farao.gridcapa_swe_commons.dichotomy.DichotomyDirection;
+import com.farao_community.farao.gridcapa_swe_commons.exception.SweBaseCaseUnsecureException;
 import com.farao_community.farao.gridcapa_swe_commons.resource.ProcessType;
 import com.farao_community.farao.swe.runner.api.resource.SweFileResource;
 import com.farao_community.farao.swe.runner.api.resource.SweRequest;
 import com.farao_community.farao.swe.runner.app.SweTaskParametersTestUtil;
 import com.farao_community.farao.swe.runner.app.domain.SweData;
 import com.farao_community.farao.swe.runner.app.domain.SweTaskParameters;
+import com.powsybl.iidm.network.Generator;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.loadflow.LoadFlowParameters;
 import com.powsybl.openrao.data.crac.api.Crac;
 import com.powsybl.openrao.data.crac.io.cim.craccreator.CimCracCreationContext;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -23,11 +29,22 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import java.io.InputStream;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -51,13 +68,98 @@ class FilesServiceTest {
     @Test
     void simpleImport() {
         when(networkService.importMergedNetwork(any(SweRequest.class))).thenReturn(mock(Network.class));
-        when(networkService.loadNetworkFromMinio(any(OffsetDateTime.class))).thenReturn(mock(Network.class));
+        when(networkService.serializeNetwork(any(Network.class))).thenReturn(new byte[0]);
+        when(networkService.deserializeNetwork(any(byte[].class))).thenReturn(mock(Network.class));
         when(fileImporter.importCracFromCimCracAndNetwork(any(), any(OffsetDateTime.class), any(Network.class), anyString(), any(SweTaskParameters.class))).thenReturn(mock(CimCracCreationContext.class));
         when(fileExporter.saveCracInJsonFormat(any(Crac.class), anyString(), any(OffsetDateTime.class), any(ProcessType.class))).thenReturn("Crac");
-        when(fileImporter.importCgmesFiles(anyString())).thenReturn(InputStream.nullInputStream());
+        when(fileImporter.importCgmesFiles(any())).thenReturn(InputStream.nullInputStream());
         SweRequest sweRequest = new SweRequest("id", "runId", ProcessType.D2CC, OffsetDateTime.now(), new SweFileResource("name", "url"), new SweFileResource("name", "url"), new SweFileResource("name", "url"), new SweFileResource("name", "url"), new SweFileResource("name", "url"), new SweFileResource("name", "url"), new SweFileResource("name", "url"), new SweFileResource("name", "url"), new SweFileResource("name", "url"), new SweFileResource("name", "url"), new SweFileResource("name", "url"), null, null, new SweFileResource("name", "url"), new ArrayList<>());
         SweData sweData = filesService.importFiles(sweRequest, SweTaskParametersTestUtil.getSweTaskParameters());
         assertNotNull(sweData);
     }
 
+    @Test
+    void baseCaseIsComputedOnMergedNetworkBeforeItIsCopied() {
+        Network mergedNetwork = mock(Network.class);
+        when(networkService.importMergedNetwork(any(SweRequest.class))).thenReturn(mergedNetwork);
+        when(networkService.computeInitialNetPositions(eq(mergedNetwork), any(LoadFlowParameters.class))).thenReturn(Map.of("FR", 100.));
+        when(networkService.serializeNetwork(any(Network.class))).thenReturn(new byte[0]);
+        when(networkService.deserializeNetwork(any(byte[].class))).thenReturn(mock(Network.class));
+        when(fileImporter.importCracFromCimCracAndNetwork(any(), any(OffsetDateTime.class), any(Network.class), anyString(), any(SweTaskParameters.class))).thenReturn(mock(CimCracCreationContext.class));
+        when(fileExporter.saveCracInJsonFormat(any(), anyString(), any(OffsetDateTime.class), any(ProcessType.class))).thenReturn("Crac");
+        SweRequest sweRequest = new SweRequest("id", "runId", ProcessType.D2CC, OffsetDateTime.now(), new SweFileResource("name", "url"), new SweFileResource("name", "url"), new SweFileResource("name", "url"), new SweFileResource("name", "url"), new SweFileResource("name", "url"), new SweFileResource("name", "url"), new SweFileResource("name", "url"), new SweFileResource("name", "url"), new SweFileResource("name", "url"), new SweFileResource("name", "url"), new SweFileResource("name", "url"), null, null, new SweFileResource("name", "url"), new ArrayList<>());
+
+        SweData sweData = filesService.importFiles(sweRequest, SweTaskParametersTestUtil.getSweTaskParameters());
+
+        InOrder inOrder = inOrder(networkService);
+        inOrder.verify(networkService).computeInitialNetPositions(eq(mergedNetwork), any(LoadFlowParameters.class));
+        inOrder.verify(networkService).serializeNetwork(mergedNetwork);
+        assertEquals(Map.of("FR", 100.), sweData.getInitialNetPositions(Map::of));
+    }
+
+    @Test
+    void unsecureBaseCaseIsReportedByDirections() {
+        when(networkService.importMergedNetwork(any(SweRequest.class))).thenReturn(mock(Network.class));
+        when(networkService.computeInitialNetPositions(any(Network.class), any(LoadFlowParameters.class))).thenThrow(new SweBaseCaseUnsecureException("Loadflow computation diverged"));
+        when(networkService.serializeNetwork(any(Network.class))).thenReturn(new byte[0]);
+        when(networkService.deserializeNetwork(any(byte[].class))).thenReturn(mock(Network.class));
+        when(fileImporter.importCracFromCimCracAndNetwork(any(), any(OffsetDateTime.class), any(Network.class), anyString(), any(SweTaskParameters.class))).thenReturn(mock(CimCracCreationContext.class));
+        when(fileExporter.saveCracInJsonFormat(any(), anyString(), any(OffsetDateTime.class), any(ProcessType.class))).thenReturn("Crac");
+        SweRequest sweRequest = new SweRequest("id", "runId", ProcessType.D2CC, OffsetDateTime.now(), new SweFileResource("name", "url"), new SweFileResource("name", "url"), new SweFileResource("name", "url"), new SweFileResource("name", "url"), new SweFileResource("name", "url"), new SweFileResource("name", "url"), new SweFileResource("name", "url"), new SweFileResource("name", "url"), new SweFileResource("name", "url"), new SweFileResource("name", "url"), new SweFileResource("name", "url"), null, null, new SweFileResource("name", "url"), new ArrayList<>());
+
+        SweData sweData = filesService.importFiles(sweRequest, SweTaskParametersTestUtil.getSweTaskParameters());
+
+        assertThrows(SweBaseCaseUnsecureException.class, () -> sweData.getInitialNetPositions(Map::of));
+    }
+
+    @Test
+    void onlyEnabledDirectionDataIsLoaded() {
+        when(networkService.importMergedNetwork(any(SweRequest.class))).thenReturn(mock(Network.class));
+        when(networkService.serializeNetwork(any(Network.class))).thenReturn(new byte[0]);
+        when(networkService.deserializeNetwork(any(byte[].class))).thenReturn(mock(Network.class));
+        CimCracCreationContext cracCreationContext = mock(CimCracCreationContext.class);
+        when(fileImporter.importCracFromCimCracAndNetwork(any(), any(OffsetDateTime.class), any(Network.class), anyString(), any(SweTaskParameters.class))).thenReturn(cracCreationContext);
+        when(fileExporter.saveCracInJsonFormat(any(), anyString(), any(OffsetDateTime.class), any(ProcessType.class))).thenReturn("Crac");
+        SweRequest sweRequest = new SweRequest("id", "runId", ProcessType.D2CC, OffsetDateTime.now(), new SweFileResource("name", "url"), new SweFileResource("name", "url"), new SweFileResource("name", "url"), new SweFileResource("name", "url"), new SweFileResource("name", "url"), new SweFileResource("name", "url"), new SweFileResource("name", "url"), new SweFileResource("name", "url"), new SweFileResource("name", "url"), new SweFileResource("name", "url"), new SweFileResource("name", "url"), null, null, new SweFileResource("name", "url"), new ArrayList<>());
+        List<TaskParameterDto> parameters = List.of(
+            new TaskParameterDto("RUN_ES-FR", "BOOLEAN", "true", "true"),
+            new TaskParameterDto("RUN_FR-ES", "BOOLEAN", "false", "true"),
+            new TaskParameterDto("RUN_ES-PT", "BOOLEAN", "false", "true"),
+            new TaskParameterDto("RUN_PT-ES", "BOOLEAN", "false", "true"));
+
+        SweData sweData = filesService.importFiles(sweRequest, new SweTaskParameters(parameters));
+
+        assertEquals(cracCreationContext, sweData.getCracFrEs());
+        verify(networkService, times(1)).deserializeNetwork(any(byte[].class));
+        verify(fileImporter, times(1)).importCracFromCimCracAndNetwork(any(), any(OffsetDateTime.class), any(Network.class), eq(FilesService.CRAC_CIM_CRAC_CREATION_PARAMETERS_FR_ES_D2CC_JSON), any(SweTaskParameters.class));
+        verify(fileImporter, never()).importCracFromCimCracAndNetwork(any(), any(OffsetDateTime.class), any(Network.class), eq(FilesService.CRAC_CIM_CRAC_CREATION_PARAMETERS_PT_ES_D2CC_JSON), any(SweTaskParameters.class));
+        verify(fileExporter, times(1)).saveCracInJsonFormat(any(), anyString(), any(OffsetDateTime.class), any(ProcessType.class));
+        verify(fileExporter, never()).saveRaoParameters(any(OffsetDateTime.class), any(ProcessType.class), any(SweTaskParameters.class), eq(DichotomyDirection.ES_PT));
+    }
+
+    @Test
+    void cracsAreCreatedOnTheVariantOfTheirDirectionWithSharedNetwork() {
+        Network sharedNetwork = Network.read("hvdc/TestCase16Nodes.xiidm", getClass().getResourceAsStream("/hvdc/TestCase16Nodes.xiidm"));
+        when(networkService.isSharedNetworkEnabled()).thenReturn(true);
+        when(networkService.importMergedNetwork(any(SweRequest.class))).thenReturn(mock(Network.class));
+        when(networkService.serializeNetwork(any(Network.class))).thenReturn(new byte[0]);
+        when(networkService.deserializeNetwork(any(byte[].class))).thenReturn(sharedNetwork);
+        when(networkService.createDirectionVariants(sharedNetwork)).thenCallRealMethod();
+        Map<String, String> cracVariantIds = new ConcurrentHashMap<>();
+        when(fileImporter.importCracFromCimCracAndNetwork(any(), any(OffsetDateTime.class), any(Network.class), anyString(), any(SweTaskParameters.class))).thenAnswer(invocation -> {
+            Network network = invocation.getArgument(2);
+            // Fails with "Variant index not set" when the task thread has no working variant
+            cracVariantIds.put(invocation.getArgument(3), network.getVariantManager().getWorkingVariantId());
+            network.getGenerators().forEach(Generator::getTargetP);
+            return mock(CimCracCreationContext.class);
+        });
+        when(fileExporter.saveCracInJsonFormat(any(), anyString(), any(OffsetDateTime.class), any(ProcessType.class))).thenReturn("Crac");
+        SweRequest sweRequest = new SweRequest("id", "runId", ProcessType.D2CC, OffsetDateTime.now(), new SweFileResource("name", "url"), new SweFileResource("name", "url"), new SweFileResource("name", "url"), new SweFileResource("name", "url"), new SweFileResource("name", "url"), new SweFileResource("name", "url"), new SweFileResource("name", "url"), new SweFileResource("name", "url"), new SweFileResource("name", "url"), new SweFileResource("name", "url"), new SweFileResource("name", "url"), null, null, new SweFileResource("name", "url"), new ArrayList<>());
+
+        SweData sweData = filesService.importFiles(sweRequest, SweTaskParametersTestUtil.getSweTaskParameters());
+
+        assertEquals(Map.of(FilesService.CRAC_CIM_CRAC_CREATION_PARAMETERS_FR_ES_D2CC_JSON, "ES-FR", FilesService.CRAC_CIM_CRAC_CREATION_PARAMETERS_PT_ES_D2CC_JSON, "ES-PT"), cracVariantIds);
+        assertTrue(sweData.isNetworkShared());
+        assertEquals("PT-ES", NetworkService.getNetworkByDirection(sweData, DichotomyDirection.PT_ES).getVariantManager().getWorkingVariantId());
+    }
 }
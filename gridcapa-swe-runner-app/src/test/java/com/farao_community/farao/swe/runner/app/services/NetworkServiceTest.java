@@ -6,11 +6,16 @@
  */
 package com.farao_community.farao.swe.runner.app.services;
 
+import com.farao_community.farao.gridcapa_swe_commons.dichotomy.DichotomyDirection;
 import com.farao_community.farao.gridcapa_swe_commons.resource.ProcessType;
 import com.farao_community.farao.swe.runner.api.resource.SweFileResource;
 import com.farao_community.farao.swe.runner.api.resource.SweRequest;
+import com.farao_community.farao.swe.runner.app.configurations.NetworkImportConfiguration;
+import com.farao_community.farao.swe.runner.app.domain.CgmesFileType;
+import com.farao_community.farao.swe.runner.app.domain.SweData;
 import com.powsybl.cgmes.extensions.CgmesMetadataModels;
 import com.powsybl.cgmes.model.CgmesSubset;
+import com.powsybl.iidm.network.Generator;
 import com.powsybl.iidm.network.Network;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -22,6 +27,9 @@ import java.net.URISyntaxException;
 import java.nio.file.Paths;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -39,6 +47,9 @@ class NetworkServiceTest {
     @Autowired
     private NetworkService networkImporter;
 
+    @Autowired
+    private NetworkImportConfiguration networkImportConfiguration;
+
     private SweRequest sweRequest;
 
     @BeforeAll
@@ -67,6 +78,14 @@ class NetworkServiceTest {
         assertNotNull(network);
     }
 
+    @Test
+    void downloadFilesKeepsInputOrder() {
+        List<SweFileResource> files = List.of(sweRequest.getRenTp(), sweRequest.getCoresoSv(), sweRequest.getBoundaryEq());
+        Map<String, byte[]> filesContent = networkImporter.downloadFiles(files);
+        assertEquals(List.of("REN_TP.xml", "CORESO_SV.xml", "BOUNDARY_EQ.xml"), List.copyOf(filesContent.keySet()));
+        assertTrue(filesContent.values().stream().allMatch(content -> content.length > 0));
+    }
+
     @Test
     void importMergedNetwork() {
         Network mergedNetwork = networkImporter.importMergedNetwork(sweRequest);
@@ -79,6 +98,47 @@ class NetworkServiceTest {
         assertEquals(3, mergedNetwork.getSubnetworks().size());
     }
 
+    @Test
+    void importMergedNetworkThroughTemporaryZip() {
+        networkImportConfiguration.setInMemoryImport(false);
+        try {
+            Network mergedNetwork = networkImporter.importMergedNetwork(sweRequest);
+            assertNotNull(mergedNetwork);
+            assertEquals(3, mergedNetwork.getSubnetworks().size());
+        } finally {
+            networkImportConfiguration.setInMemoryImport(true);
+        }
+    }
+
+    @Test
+    void serializedNetworkGivesIndependentCopies() {
+        Network network = Network.read("hvdc/TestCase16Nodes.xiidm", getClass().getResourceAsStream("/hvdc/TestCase16Nodes.xiidm"));
+        byte[] serializedNetwork = networkImporter.serializeNetwork(network);
+
+        Network firstCopy = networkImporter.deserializeNetwork(serializedNetwork);
+        Network secondCopy = networkImporter.deserializeNetwork(serializedNetwork);
+        assertEquals(network.getId(), firstCopy.getId());
+        assertEquals(network.getGeneratorCount(), firstCopy.getGeneratorCount());
+        assertEquals(network.getTwoWindingsTransformerCount(), firstCopy.getTwoWindingsTransformerCount());
+
+        Generator generator = firstCopy.getGenerators().iterator().next();
+        double initialTargetP = generator.getTargetP();
+        generator.setTargetP(initialTargetP + 100);
+        assertEquals(initialTargetP, secondCopy.getGenerator(generator.getId()).getTargetP(), 1e-6);
+    }
+
+    @Test
+    void sharedNetworkDirectionVariants() {
+        Network network = Network.read("hvdc/TestCase16Nodes.xiidm", getClass().getResourceAsStream("/hvdc/TestCase16Nodes.xiidm"));
+        Map<DichotomyDirection, String> variantIds = networkImporter.createDirectionVariants(network);
+        assertEquals(4, variantIds.size());
+        assertTrue(network.getVariantManager().getVariantIds().containsAll(variantIds.values()));
+
+        SweData sweData = new SweData("id", "runId", OffsetDateTime.now(), ProcessType.D2CC, network, network, network, network, null, null, "glskUrl", "CracEsPt", "CracFrEs", "raoParametersEsFrUrl", "raoParametersEsPtUrl", List.of(), new EnumMap<>(CgmesFileType.class), variantIds);
+        Network networkEsPt = NetworkService.getNetworkByDirection(sweData, DichotomyDirection.ES_PT);
+        assertEquals(variantIds.get(DichotomyDirection.ES_PT), networkEsPt.getVariantManager().getWorkingVariantId());
+    }
+
     @Test
     void addHvdcAndPstToNetwork() {
         Network network = Network.read("hvdc/TestCase16Nodes.xiidm", getClass().getResourceAsStream("/hvdc/TestCase16Nodes.xiidm"));
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.swe.runner.app.services;
+
+import com.farao_community.farao.dichotomy.api.results.DichotomyResult;
+import com.farao_community.farao.swe.runner.app.configurations.TtcHistoryConfiguration;
+import com.farao_community.farao.swe.runner.app.dichotomy.WarmStartInterval;
+import com.farao_community.farao.swe.runner.app.domain.SweData;
+import com.farao_community.farao.swe.runner.app.domain.SweDichotomyResult;
+import com.farao_community.farao.swe.runner.app.domain.SweDichotomyValidationData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+
+import static com.farao_community.farao.gridcapa_swe_commons.dichotomy.DichotomyDirection.ES_FR;
+import static com.farao_community.farao.gridcapa_swe_commons.dichotomy.DichotomyDirection.FR_ES;
+import static com.farao_community.farao.gridcapa_swe_commons.resource.ProcessType.D2CC;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class TtcHistoryStoreTest {
+
+    private static final OffsetDateTime TIMESTAMP = OffsetDateTime.parse("2025-03-10T10:30Z");
+
+    @TempDir
+    private Path historyDirectory;
+
+    private TtcHistoryConfiguration configuration;
+
+    @BeforeEach
+    void setUp() {
+        configuration = new TtcHistoryConfiguration();
+        configuration.setEnabled(true);
+        configuration.setFile(historyDirectory.resolve("ttc-history.json").toString());
+        configuration.setNeighbourhoodHours(2);
+        configuration.setMargin(100);
+    }
+
+    @Test
+    void intervalCoversNeighbouringTimestamps() {
+        TtcHistoryStore store = new TtcHistoryStore(configuration);
+        store.record(mockSweData(TIMESTAMP.minusHours(1)), mockResult(2000, 2050));
+        store.record(mockSweData(TIMESTAMP.plusHours(1)), mockResult(2300, 2350));
+        store.record(mockSweData(TIMESTAMP.minusHours(5)), mockResult(500, 550));
+
+        assertEquals(Optional.of(new WarmStartInterval(1900, 2450)), store.getNeighbourhoodInterval(D2CC, ES_FR, TIMESTAMP));
+        assertTrue(store.getNeighbourhoodInterval(D2CC, FR_ES, TIMESTAMP).isEmpty());
+        assertTrue(store.getNeighbourhoodInterval(D2CC, ES_FR, TIMESTAMP.plusDays(1)).isEmpty());
+    }
+
+    @Test
+    void historyIsKeptAcrossRestarts() {
+        new TtcHistoryStore(configuration).record(mockSweData(TIMESTAMP.minusHours(1)), mockResult(2000, Double.NaN));
+
+        TtcHistoryStore restartedStore = new TtcHistoryStore(configuration);
+        assertEquals(Optional.of(new WarmStartInterval(1900, 2100)), restartedStore.getNeighbourhoodInterval(D2CC, ES_FR, TIMESTAMP));
+    }
+
+    @Test
+    void failedDichotomyIsNotRecorded() {
+        TtcHistoryStore store = new TtcHistoryStore(configuration);
+        store.record(mockSweData(TIMESTAMP), SweDichotomyResult.fromFailedRun(ES_FR));
+
+        assertTrue(store.getNeighbourhoodInterval(D2CC, ES_FR, TIMESTAMP).isEmpty());
+    }
+
+    @Test
+    void disabledStoreGivesNoInterval() {
+        configuration.setEnabled(false);
+        TtcHistoryStore store = new TtcHistoryStore(configuration);
+        store.record(mockSweData(TIMESTAMP), mockResult(2000, 2050));
+
+        assertTrue(store.getNeighbourhoodInterval(D2CC, ES_FR, TIMESTAMP).isEmpty());
+    }
+
+    private static SweData mockSweData(OffsetDateTime timestamp) {
+        SweData sweData = mock(SweData.class);
+        when(sweData.getTimestamp()).thenReturn(timestamp);
+        when(sweData.getProcessType()).thenReturn(D2CC);
+        return sweData;
+    }
+
+    private static SweDichotomyResult mockResult(double lastSecureTtc, double firstUnsecureTtc) {
+        DichotomyResult<SweDichotomyValidationData> dichotomyResult = mock(DichotomyResult.class);
+        when(dichotomyResult.hasValidStep()).thenReturn(true);
+        when(dichotomyResult.getHighestValidStepValue()).thenReturn(lastSecureTtc);
+        when(dichotomyResult.getLowestInvalidStepValue()).thenReturn(firstUnsecureTtc);
+        return new SweDichotomyResult(ES_FR, dichotomyResult, "");
+    }
+}
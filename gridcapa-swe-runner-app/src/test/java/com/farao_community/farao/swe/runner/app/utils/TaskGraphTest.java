@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.swe.runner.app.utils;
+
+import com.farao_community.farao.gridcapa_swe_commons.exception.SweInvalidDataException;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class TaskGraphTest {
+
+    @Test
+    void dependentTaskUsesResultOfItsDependency() {
+        try (TaskGraph taskGraph = new TaskGraph("test", 2)) {
+            CompletableFuture<Integer> first = taskGraph.submit("first", () -> 21);
+            CompletableFuture<Integer> second = taskGraph.submit("second", () -> first.join() * 2, first);
+            taskGraph.awaitAll();
+            assertEquals(42, second.join());
+        }
+    }
+
+    @Test
+    void tasksAreRunWithCallerMdc() {
+        MDC.put("gridcapa-task-id", "task-id");
+        try (TaskGraph taskGraph = new TaskGraph("test", 2)) {
+            CompletableFuture<String> taskId = taskGraph.submit("mdc", () -> MDC.get("gridcapa-task-id"));
+            taskGraph.awaitAll();
+            assertEquals("task-id", taskId.join());
+        } finally {
+            MDC.remove("gridcapa-task-id");
+        }
+    }
+
+    @Test
+    void firstFailureIsRethrownOnceAllTasksAreDone() {
+        AtomicBoolean independentTaskRun = new AtomicBoolean(false);
+        Supplier<Object> failingTask = () -> {
+            throw new SweInvalidDataException("Failure");
+        };
+        try (TaskGraph taskGraph = new TaskGraph("test", 1)) {
+            CompletableFuture<Object> failing = taskGraph.submit("failing", failingTask);
+            taskGraph.submit("dependent", () -> { }, failing);
+            taskGraph.submit("independent", () -> independentTaskRun.set(true));
+            SweInvalidDataException exception = assertThrows(SweInvalidDataException.class, taskGraph::awaitAll);
+            assertEquals("Failure", exception.getMessage());
+            assertTrue(independentTaskRun.get());
+        }
+    }
+}